@@ -18,7 +18,8 @@ import {
   Alert,
   Typography,
   Stack,
-  TablePagination,
+  Button,
+  CircularProgress,
   alpha,
   TextField,
   MenuItem,
@@ -38,6 +39,23 @@ type Property = {
   name: string;
 };
 
+type AuditLogSummary = {
+  id: string;
+  propertyId: string | null;
+  actorUserId: string | null;
+  entityType: string;
+  entityId: string | null;
+  action: string;
+  requestId: string | null;
+  ip: string | null;
+  createdAt: string;
+};
+
+type AuditLogPage = {
+  items: AuditLogSummary[];
+  nextCursor: string | null;
+};
+
 type AuditLog = {
   id: string;
   propertyId: string | null;
@@ -53,8 +71,30 @@ type AuditLog = {
   createdAt: string;
 };
 
-function Row({ log }: { log: AuditLog }) {
+const PAGE_SIZE = 50;
+
+function Row({ log }: { log: AuditLogSummary }) {
   const [open, setOpen] = useState(false);
+  const [detail, setDetail] = useState<AuditLog | null>(null);
+  const [detailError, setDetailError] = useState<string | null>(null);
+
+  // Payloads are not part of the list response; load them the first time the row is expanded.
+  const toggle = async () => {
+    const next = !open;
+    setOpen(next);
+    if (next && !detail) {
+      try {
+        setDetail(
+          await apiJson<AuditLog>(
+            `audit-logs/${log.id}?createdAt=${encodeURIComponent(log.createdAt)}`
+          )
+        );
+        setDetailError(null);
+      } catch (err) {
+        setDetailError(getErrorMessage(err));
+      }
+    }
+  };
 
   return (
     <>
@@ -63,7 +103,7 @@ function Row({ log }: { log: AuditLog }) {
           <IconButton
             aria-label="expand row"
             size="small"
-            onClick={() => setOpen(!open)}
+            onClick={() => void toggle()}
           >
             {open ? <KeyboardArrowUpIcon /> : <KeyboardArrowDownIcon />}
           </IconButton>
@@ -107,6 +147,9 @@ function Row({ log }: { log: AuditLog }) {
               <Typography variant="subtitle2" gutterBottom component="div">
                 Change Details
               </Typography>
+              {detailError && <Alert severity="error">{detailError}</Alert>}
+              {!detail && !detailError && <CircularProgress size={20} />}
+              {detail && (
               <Paper 
                 variant="outlined" 
                 sx={{ 
@@ -122,20 +165,21 @@ function Row({ log }: { log: AuditLog }) {
                 <div style={{ marginBottom: 8 }}>
                   <strong>Before:</strong>
                   <div>
-                    {log.beforeJson
-                      ? JSON.stringify(log.beforeJson, null, 2)
+                    {detail.beforeJson
+                      ? JSON.stringify(detail.beforeJson, null, 2)
                       : "-"}
                   </div>
                 </div>
                 <div>
                   <strong>After:</strong>
                   <div>
-                    {log.afterJson
-                      ? JSON.stringify(log.afterJson, null, 2)
+                    {detail.afterJson
+                      ? JSON.stringify(detail.afterJson, null, 2)
                       : "-"}
                   </div>
                 </div>
               </Paper>
+              )}
             </Box>
           </Collapse>
         </TableCell>
@@ -145,14 +189,15 @@ function Row({ log }: { log: AuditLog }) {
 }
 
 export default function AuditLogsPage() {
-  const [logs, setLogs] = useState<AuditLog[]>([]);
+  const [logs, setLogs] = useState<AuditLogSummary[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loading, setLoading] = useState(false);
   const [properties, setProperties] = useState<Property[]>([]);
   const [propertyId, setPropertyId] = useState<string>("");
+  const [entityType, setEntityType] = useState<string>("");
+  const [action, setAction] = useState<string>("");
   const [error, setError] = useState<string | null>(null);
 
-  const [page, setPage] = useState(0);
-  const [rowsPerPage, setRowsPerPage] = useState(10);
-
   const loadProperties = useCallback(async () => {
     try {
       const data = await apiJson<Property[]>("properties");
@@ -163,16 +208,24 @@ export default function AuditLogsPage() {
     }
   }, []);
 
-  const loadLogs = useCallback(async () => {
+  const loadLogs = useCallback(async (cursor: string | null) => {
+    const params = new URLSearchParams({ limit: String(PAGE_SIZE) });
+    if (propertyId) params.set("propertyId", propertyId);
+    if (entityType.trim()) params.set("entityType", entityType.trim());
+    if (action.trim()) params.set("action", action.trim());
+    if (cursor) params.set("cursor", cursor);
+    setLoading(true);
     try {
-      const query = propertyId ? `?propertyId=${propertyId}` : "";
-      const data = await apiJson<AuditLog[]>(`audit-logs${query}`);
-      setLogs(data);
+      const data = await apiJson<AuditLogPage>(`audit-logs?${params.toString()}`);
+      setLogs((current) => (cursor ? [...current, ...data.items] : data.items));
+      setNextCursor(data.nextCursor);
       setError(null);
     } catch (err) {
       setError(getErrorMessage(err));
+    } finally {
+      setLoading(false);
     }
-  }, [propertyId]);
+  }, [propertyId, entityType, action]);
 
   useEffect(() => {
     const timer = setTimeout(() => {
@@ -183,20 +236,11 @@ export default function AuditLogsPage() {
 
   useEffect(() => {
     const timer = setTimeout(() => {
-      void loadLogs();
-    }, 0);
+      void loadLogs(null);
+    }, 300);
     return () => clearTimeout(timer);
   }, [loadLogs]);
 
-  const handleChangePage = (event: unknown, newPage: number) => {
-    setPage(newPage);
-  };
-
-  const handleChangeRowsPerPage = (event: React.ChangeEvent<HTMLInputElement>) => {
-    setRowsPerPage(parseInt(event.target.value, 10));
-    setPage(0);
-  };
-
   return (
     <Box component="main">
       <PageHeader title="Audit Logs" subtitle="Track changes across modules" />
@@ -216,6 +260,7 @@ export default function AuditLogsPage() {
           }}
         >
           <CardContent>
+            <Stack direction="row" spacing={2} flexWrap="wrap" useFlexGap>
             <TextField
               select
               label="Filter by Property"
@@ -231,6 +276,19 @@ export default function AuditLogsPage() {
                 </MenuItem>
               ))}
             </TextField>
+            <TextField
+              label="Entity type"
+              value={entityType}
+              onChange={(e) => setEntityType(e.target.value)}
+              size="small"
+            />
+            <TextField
+              label="Action"
+              value={action}
+              onChange={(e) => setAction(e.target.value)}
+              size="small"
+            />
+            </Stack>
           </CardContent>
         </Card>
 
@@ -268,28 +326,30 @@ export default function AuditLogsPage() {
                     </TableCell>
                   </TableRow>
                 ) : (
-                  logs
-                    .slice(page * rowsPerPage, page * rowsPerPage + rowsPerPage)
-                    .map((log) => (
-                      <Row key={log.id} log={log} />
-                    ))
+                  logs.map((log) => (
+                    <Row key={log.id} log={log} />
+                  ))
                 )}
               </TableBody>
             </Table>
           </TableContainer>
-          <TablePagination
-            rowsPerPageOptions={[5, 10, 25, 50]}
-            component="div"
-            count={logs.length}
-            rowsPerPage={rowsPerPage}
-            page={page}
-            onPageChange={handleChangePage}
-            onRowsPerPageChange={handleChangeRowsPerPage}
+          <Box
             sx={{
+              display: "flex",
+              justifyContent: "center",
+              p: 1.5,
               borderTop: `1px solid ${tokens.colors.grey[200]}`,
               backgroundColor: tokens.colors.grey[50],
             }}
-          />
+          >
+            <Button
+              size="small"
+              disabled={!nextCursor || loading}
+              onClick={() => void loadLogs(nextCursor)}
+            >
+              {nextCursor ? "Load more" : "No more entries"}
+            </Button>
+          </Box>
         </Card>
       </Stack>
     </Box>
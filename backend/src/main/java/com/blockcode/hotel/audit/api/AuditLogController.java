@@ -1,14 +1,21 @@
 package com.blockcode.hotel.audit.api;
 
+import com.blockcode.hotel.audit.api.dto.AuditLogPageResponse;
 import com.blockcode.hotel.audit.api.dto.AuditLogResponse;
+import com.blockcode.hotel.audit.application.AuditArchiveService;
 import com.blockcode.hotel.audit.application.AuditService;
 import com.blockcode.hotel.audit.domain.AuditLogEntity;
+import com.blockcode.hotel.audit.domain.AuditLogFilter;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,17 +23,56 @@ import java.util.UUID;
 @RequestMapping("/api/v1/audit-logs")
 public class AuditLogController {
   private final AuditService auditService;
+  private final AuditArchiveService auditArchiveService;
 
-  public AuditLogController(AuditService auditService) {
+  public AuditLogController(AuditService auditService, AuditArchiveService auditArchiveService) {
     this.auditService = auditService;
+    this.auditArchiveService = auditArchiveService;
   }
 
   @GetMapping
   @PreAuthorize("hasAuthority('audit.READ') or hasAuthority('rbac.ADMIN')")
-  public List<AuditLogResponse> list(@RequestParam(required = false) UUID propertyId) {
-    return auditService.list(propertyId).stream()
-        .map(this::toResponse)
-        .toList();
+  public AuditLogPageResponse list(
+      @RequestParam(required = false) UUID propertyId,
+      @RequestParam(required = false) String entityType,
+      @RequestParam(required = false) UUID entityId,
+      @RequestParam(required = false) UUID actorUserId,
+      @RequestParam(required = false) String action,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int limit
+  ) {
+    AuditLogFilter filter = new AuditLogFilter(propertyId, entityType, entityId, actorUserId, action, from, to);
+    return auditService.list(filter, cursor, limit);
+  }
+
+  @GetMapping("/archive")
+  @PreAuthorize("hasAuthority('audit.READ') or hasAuthority('rbac.ADMIN')")
+  public List<AuditLogResponse> searchArchive(
+      @RequestParam(required = false) String entityType,
+      @RequestParam(required = false) UUID entityId,
+      @RequestParam(required = false) UUID propertyId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+      @RequestParam(defaultValue = "100") int limit
+  ) {
+    return auditArchiveService.search(entityType, entityId, propertyId, from, to, limit);
+  }
+
+  @PostMapping("/archive/run")
+  @PreAuthorize("hasAuthority('rbac.ADMIN')")
+  public int archive() {
+    return auditArchiveService.archive();
+  }
+
+  @GetMapping("/{id}")
+  @PreAuthorize("hasAuthority('audit.READ') or hasAuthority('rbac.ADMIN')")
+  public AuditLogResponse get(
+      @PathVariable UUID id,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAt
+  ) {
+    return toResponse(auditService.get(id, createdAt));
   }
 
   private AuditLogResponse toResponse(AuditLogEntity entity) {
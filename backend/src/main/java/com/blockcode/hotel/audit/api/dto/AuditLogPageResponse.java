@@ -0,0 +1,10 @@
+package com.blockcode.hotel.audit.api.dto;
+
+import java.util.List;
+
+/** {@code nextCursor} is null on the last page. */
+public record AuditLogPageResponse(
+    List<AuditLogSummaryResponse> items,
+    String nextCursor
+) {
+}
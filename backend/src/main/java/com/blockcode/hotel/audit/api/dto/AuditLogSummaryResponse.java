@@ -0,0 +1,18 @@
+package com.blockcode.hotel.audit.api.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** List row without the before/after payloads; fetch {@link AuditLogResponse} by id for those. */
+public record AuditLogSummaryResponse(
+    UUID id,
+    UUID propertyId,
+    UUID actorUserId,
+    String entityType,
+    UUID entityId,
+    String action,
+    String requestId,
+    String ip,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,71 @@
+package com.blockcode.hotel.audit.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.audit.archive")
+public class AuditArchiveProperties {
+  /**
+   * Runs the nightly job. Segments live on this node's disk, so enable it on one node only and point
+   * {@code dir} at storage that is backed up.
+   */
+  private boolean enabled = false;
+  /** Rows older than this move from audit_logs into segment files. */
+  private Duration retention = Duration.ofDays(365);
+  private String dir = "var/audit-archive";
+  private int rowsPerSegment = 20000;
+  /** Rows compressed together; a lookup inflates whole blocks, so smaller blocks read less per hit. */
+  private int rowsPerBlock = 256;
+  private int maxSegmentsPerRun = 50;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getRetention() {
+    return retention;
+  }
+
+  public void setRetention(Duration retention) {
+    this.retention = retention;
+  }
+
+  public String getDir() {
+    return dir;
+  }
+
+  public void setDir(String dir) {
+    this.dir = dir;
+  }
+
+  public int getRowsPerSegment() {
+    return rowsPerSegment;
+  }
+
+  public void setRowsPerSegment(int rowsPerSegment) {
+    this.rowsPerSegment = rowsPerSegment;
+  }
+
+  public int getRowsPerBlock() {
+    return rowsPerBlock;
+  }
+
+  public void setRowsPerBlock(int rowsPerBlock) {
+    this.rowsPerBlock = rowsPerBlock;
+  }
+
+  public int getMaxSegmentsPerRun() {
+    return maxSegmentsPerRun;
+  }
+
+  public void setMaxSegmentsPerRun(int maxSegmentsPerRun) {
+    this.maxSegmentsPerRun = maxSegmentsPerRun;
+  }
+}
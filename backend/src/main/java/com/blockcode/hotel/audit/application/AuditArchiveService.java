@@ -0,0 +1,209 @@
+package com.blockcode.hotel.audit.application;
+
+import com.blockcode.hotel.audit.api.dto.AuditLogResponse;
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import com.blockcode.hotel.audit.infra.AuditLogQueryRepository;
+import com.blockcode.hotel.audit.infra.AuditSegment;
+import com.blockcode.hotel.common.exception.AppException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Moves audit rows past the retention period out of audit_logs into {@link AuditSegment} files and searches
+ * them. Segments are mapped once and kept; the OS page cache, not the heap, holds what forensic lookups touch.
+ */
+@Service
+public class AuditArchiveService {
+  private static final Logger log = LoggerFactory.getLogger(AuditArchiveService.class);
+  public static final int MAX_SEARCH_RESULTS = 500;
+  private static final DateTimeFormatter SEGMENT_TIME =
+      DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS").withZone(ZoneOffset.UTC);
+  private static final Comparator<AuditEvent> NEWEST_FIRST =
+      Comparator.comparing(AuditEvent::createdAt).thenComparing(AuditEvent::id).reversed();
+
+  private final AuditLogQueryRepository auditLogQueryRepository;
+  private final AuditArchiveProperties properties;
+  private final ObjectMapper objectMapper;
+  private final ReentrantLock archiveLock = new ReentrantLock();
+  private final Map<Path, AuditSegment> segments = new ConcurrentHashMap<>();
+
+  public AuditArchiveService(AuditLogQueryRepository auditLogQueryRepository,
+      AuditArchiveProperties properties,
+      ObjectMapper objectMapper) {
+    this.auditLogQueryRepository = auditLogQueryRepository;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+  }
+
+  @Scheduled(cron = "${app.audit.archive.cron:0 30 2 * * *}")
+  public void scheduledArchive() {
+    if (properties.isEnabled()) {
+      archive();
+    }
+  }
+
+  /** Archives rows older than the retention period and returns how many were moved. */
+  public int archive() {
+    if (!properties.isEnabled()) {
+      throw new AppException("ARCHIVE_DISABLED", "Audit archival is disabled", HttpStatus.CONFLICT);
+    }
+    if (!archiveLock.tryLock()) {
+      throw new AppException("ARCHIVE_RUNNING", "Audit archival is already running", HttpStatus.CONFLICT);
+    }
+    try {
+      Instant cutoff = Instant.now().minus(properties.getRetention());
+      Path dir = Path.of(properties.getDir());
+      Files.createDirectories(dir);
+      int archived = 0;
+      for (int run = 0; run < properties.getMaxSegmentsPerRun(); run++) {
+        List<AuditEvent> rows = auditLogQueryRepository.findArchivable(cutoff, properties.getRowsPerSegment());
+        if (rows.isEmpty()) {
+          break;
+        }
+        AuditEvent first = rows.get(0);
+        Path target = dir.resolve("audit-" + SEGMENT_TIME.format(first.createdAt()) + "-" + first.id()
+            + AuditSegment.SUFFIX);
+        AuditSegment.write(target, rows, properties.getRowsPerBlock(), objectMapper);
+        segments.put(target, AuditSegment.open(target));
+        // Rows are deleted only once their segment is durable. A crash in between archives them again into
+        // another segment; search drops the duplicates by id.
+        auditLogQueryRepository.deleteArchived(cutoff, rows.stream().map(AuditEvent::id).toList());
+        archived += rows.size();
+        if (rows.size() < properties.getRowsPerSegment()) {
+          break;
+        }
+      }
+      if (archived > 0) {
+        log.info("Archived {} audit rows created before {}", archived, cutoff);
+      }
+      return archived;
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Audit archival failed", ex);
+    } finally {
+      archiveLock.unlock();
+    }
+  }
+
+  /** Searches archived rows by entity, or by time range when no entity is given. Newest first. */
+  public List<AuditLogResponse> search(String entityType, UUID entityId, UUID propertyId, Instant from,
+      Instant to, int limit) {
+    if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+      throw new AppException("INVALID_LIMIT", "limit must be between 1 and " + MAX_SEARCH_RESULTS,
+          HttpStatus.BAD_REQUEST);
+    }
+    if (entityId == null && (from == null || to == null)) {
+      throw new AppException("INVALID_FILTER", "Archive search needs entityId or both from and to",
+          HttpStatus.BAD_REQUEST);
+    }
+    if (from != null && to != null && !from.isBefore(to)) {
+      throw new AppException("INVALID_DATE_RANGE", "from must be before to", HttpStatus.BAD_REQUEST);
+    }
+
+    Predicate<AuditEvent> filter = event ->
+        (entityId == null || entityId.equals(event.entityId()))
+            && (entityType == null || entityType.equals(event.entityType()))
+            && (propertyId == null || propertyId.equals(event.propertyId()))
+            && (from == null || !event.createdAt().isBefore(from))
+            && (to == null || event.createdAt().isBefore(to));
+
+    List<AuditSegment> candidates = new ArrayList<>(loadSegments().stream()
+        .filter(segment -> segment.overlaps(from, to))
+        .toList());
+    candidates.sort(Comparator.comparing(AuditSegment::maxCreatedAt).reversed());
+
+    Map<UUID, AuditEvent> found = new LinkedHashMap<>();
+    for (AuditSegment segment : candidates) {
+      if (found.size() >= limit && segment.maxCreatedAt().isBefore(oldestKept(found.values(), limit))) {
+        break;
+      }
+      for (AuditEvent event : segment.find(entityId, from, to, filter, objectMapper)) {
+        found.putIfAbsent(event.id(), event);
+      }
+    }
+    return found.values().stream()
+        .sorted(NEWEST_FIRST)
+        .limit(limit)
+        .map(this::toResponse)
+        .toList();
+  }
+
+  private static Instant oldestKept(Iterable<AuditEvent> events, int limit) {
+    List<Instant> times = new ArrayList<>();
+    events.forEach(event -> times.add(event.createdAt()));
+    times.sort(Comparator.reverseOrder());
+    return times.get(limit - 1);
+  }
+
+  private List<AuditSegment> loadSegments() {
+    Path dir = Path.of(properties.getDir());
+    if (!Files.isDirectory(dir)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(dir)) {
+      files.filter(path -> path.getFileName().toString().endsWith(AuditSegment.SUFFIX))
+          .filter(path -> !segments.containsKey(path))
+          .forEach(path -> {
+            try {
+              segments.put(path, AuditSegment.open(path));
+            } catch (IOException | RuntimeException ex) {
+              log.error("Skipping unreadable audit segment {}", path, ex);
+            }
+          });
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return List.copyOf(segments.values());
+  }
+
+  private AuditLogResponse toResponse(AuditEvent event) {
+    return new AuditLogResponse(
+        event.id(),
+        event.propertyId(),
+        event.actorUserId(),
+        event.entityType(),
+        event.entityId(),
+        event.action(),
+        readJson(event.beforeJson()),
+        readJson(event.afterJson()),
+        event.requestId(),
+        event.ip(),
+        event.userAgent(),
+        event.createdAt()
+    );
+  }
+
+  private JsonNode readJson(String json) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readTree(json);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Archived audit payload is not valid JSON", ex);
+    }
+  }
+}
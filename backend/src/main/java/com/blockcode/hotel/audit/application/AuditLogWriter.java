@@ -0,0 +1,221 @@
+package com.blockcode.hotel.audit.application;
+
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import com.blockcode.hotel.audit.infra.AuditLogBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit events in the background. Producers append to a bounded lock-free queue; a single writer thread
+ * drains it in JDBC batches of up to {@code app.audit.batch-size}, waiting at most {@code flush-interval} for a
+ * batch to fill. When the queue is full producers wait up to {@code offer-timeout} and then spill the event to
+ * disk themselves. When the database rejects a batch it is spilled too, and spilled batches are replayed once
+ * the database accepts writes again and the queue is idle.
+ */
+@Component
+public class AuditLogWriter {
+  private static final Logger log = LoggerFactory.getLogger(AuditLogWriter.class);
+  private static final long PRODUCER_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AuditLogBatchRepository batchRepository;
+  private final AuditSpillStore spillStore;
+  private final AuditProperties properties;
+  private final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+  // Reserved before an event is queued and released when it is taken, so it never undercounts the queue.
+  private final AtomicInteger size = new AtomicInteger();
+  private final Counter writtenCounter;
+  private final Counter spilledCounter;
+  private final Counter droppedCounter;
+
+  private volatile Thread writer;
+  private volatile boolean stopped;
+  private volatile boolean spillPending = true;
+  // Only touched by the writer thread.
+  private long retryAtNanos = System.nanoTime();
+
+  public AuditLogWriter(AuditLogBatchRepository batchRepository,
+      AuditSpillStore spillStore,
+      AuditProperties properties,
+      MeterRegistry meterRegistry) {
+    this.batchRepository = batchRepository;
+    this.spillStore = spillStore;
+    this.properties = properties;
+    Gauge.builder("audit.queue.size", size, AtomicInteger::get).register(meterRegistry);
+    this.writtenCounter = meterRegistry.counter("audit.events.written");
+    this.spilledCounter = meterRegistry.counter("audit.events.spilled");
+    this.droppedCounter = meterRegistry.counter("audit.events.dropped");
+  }
+
+  @PostConstruct
+  void start() {
+    writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::run);
+  }
+
+  public void submit(AuditEvent event) {
+    if (!stopped && tryOffer(event)) {
+      return;
+    }
+    long deadline = System.nanoTime() + properties.getOfferTimeout().toNanos();
+    while (!stopped && deadline - System.nanoTime() > 0) {
+      wakeWriter();
+      LockSupport.parkNanos(PRODUCER_BACKOFF_NANOS);
+      if (tryOffer(event)) {
+        return;
+      }
+    }
+    spill(List.of(event));
+  }
+
+  @PreDestroy
+  void stop() throws InterruptedException {
+    stopped = true;
+    Thread thread = writer;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      thread.join(properties.getShutdownTimeout().toMillis());
+    }
+    // Left over if the writer is stuck on the database; they are replayed on the next start.
+    List<AuditEvent> remaining = drain(Integer.MAX_VALUE);
+    if (!remaining.isEmpty()) {
+      spill(remaining);
+    }
+  }
+
+  private void run() {
+    long idleNanos = properties.getFlushInterval().toNanos();
+    while (!stopped) {
+      try {
+        if (flushOnce(System.nanoTime()) < properties.getBatchSize()) {
+          LockSupport.parkNanos(idleNanos);
+        }
+      } catch (RuntimeException ex) {
+        log.error("Audit writer iteration failed", ex);
+        LockSupport.parkNanos(idleNanos);
+      }
+    }
+    while (flushOnce(System.nanoTime()) > 0) {
+      // Drain what was queued before shutdown.
+    }
+  }
+
+  /** Writes at most one batch; replays one spilled batch instead when the queue is empty. */
+  int flushOnce(long nowNanos) {
+    List<AuditEvent> batch = drain(properties.getBatchSize());
+    if (batch.isEmpty()) {
+      replaySpilled(nowNanos);
+      return 0;
+    }
+    if (nowNanos - retryAtNanos < 0) {
+      spill(batch);
+      return batch.size();
+    }
+    try {
+      batchRepository.insertAll(batch);
+      writtenCounter.increment(batch.size());
+    } catch (RuntimeException ex) {
+      log.warn("Could not write {} audit events, spilling to disk", batch.size(), ex);
+      retryAtNanos = nowNanos + properties.getRetryDelay().toNanos();
+      spill(batch);
+    }
+    return batch.size();
+  }
+
+  private void replaySpilled(long nowNanos) {
+    if (!spillPending || nowNanos - retryAtNanos < 0) {
+      return;
+    }
+    // Cleared first so that a batch spilled while this runs is picked up next time.
+    spillPending = false;
+    Path file = null;
+    try {
+      List<Path> files = spillStore.pending();
+      if (files.isEmpty()) {
+        return;
+      }
+      spillPending = true;
+      file = files.get(0);
+      List<AuditEvent> events = spillStore.read(file);
+      for (int from = 0; from < events.size(); from += properties.getBatchSize()) {
+        batchRepository.insertAll(events.subList(from, Math.min(events.size(), from + properties.getBatchSize())));
+      }
+      spillStore.delete(file);
+      writtenCounter.increment(events.size());
+    } catch (IOException ex) {
+      log.error("Audit spill file {} could not be replayed and was set aside", file, ex);
+      setAside(file);
+    } catch (RuntimeException ex) {
+      log.warn("Replaying audit spill file {} failed, retrying in {}", file, properties.getRetryDelay(), ex);
+      spillPending = true;
+      retryAtNanos = nowNanos + properties.getRetryDelay().toNanos();
+    }
+  }
+
+  private void setAside(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      spillStore.setAside(file);
+    } catch (IOException ex) {
+      log.error("Could not set aside audit spill file {}", file, ex);
+    }
+  }
+
+  private boolean tryOffer(AuditEvent event) {
+    int current;
+    do {
+      current = size.get();
+      if (current >= properties.getQueueCapacity()) {
+        return false;
+      }
+    } while (!size.compareAndSet(current, current + 1));
+    queue.offer(event);
+    if (current + 1 == properties.getBatchSize()) {
+      wakeWriter();
+    }
+    return true;
+  }
+
+  private List<AuditEvent> drain(int max) {
+    List<AuditEvent> batch = new ArrayList<>(Math.min(max, Math.max(size.get(), 1)));
+    AuditEvent event;
+    while (batch.size() < max && (event = queue.poll()) != null) {
+      size.decrementAndGet();
+      batch.add(event);
+    }
+    return batch;
+  }
+
+  private void spill(List<AuditEvent> events) {
+    try {
+      spillStore.write(events);
+      spilledCounter.increment(events.size());
+      spillPending = true;
+    } catch (IOException ex) {
+      log.error("Lost {} audit events: database and spill directory both unavailable", events.size(), ex);
+      droppedCounter.increment(events.size());
+    }
+  }
+
+  private void wakeWriter() {
+    Thread thread = writer;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.blockcode.hotel.audit.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+  /** Events buffered in memory before producers are slowed down. */
+  private int queueCapacity = 10000;
+  private int batchSize = 500;
+  /** How long the writer waits for more events before writing a partial batch. */
+  private Duration flushInterval = Duration.ofMillis(200);
+  /**
+   * How long a producer waits for room in a full queue. After that the event is spilled to disk on the
+   * producer's thread, so it is never dropped but the request pays for the write.
+   */
+  private Duration offerTimeout = Duration.ofMillis(50);
+  /** Pause before the database is tried again after a failed batch; batches meanwhile go to the spill directory. */
+  private Duration retryDelay = Duration.ofSeconds(30);
+  private String spillDir = "var/audit-spill";
+  private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public Duration getFlushInterval() {
+    return flushInterval;
+  }
+
+  public void setFlushInterval(Duration flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  public Duration getOfferTimeout() {
+    return offerTimeout;
+  }
+
+  public void setOfferTimeout(Duration offerTimeout) {
+    this.offerTimeout = offerTimeout;
+  }
+
+  public Duration getRetryDelay() {
+    return retryDelay;
+  }
+
+  public void setRetryDelay(Duration retryDelay) {
+    this.retryDelay = retryDelay;
+  }
+
+  public String getSpillDir() {
+    return spillDir;
+  }
+
+  public void setSpillDir(String spillDir) {
+    this.spillDir = spillDir;
+  }
+
+  public Duration getShutdownTimeout() {
+    return shutdownTimeout;
+  }
+
+  public void setShutdownTimeout(Duration shutdownTimeout) {
+    this.shutdownTimeout = shutdownTimeout;
+  }
+}
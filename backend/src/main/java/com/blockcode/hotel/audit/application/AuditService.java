@@ -1,73 +1,160 @@
 package com.blockcode.hotel.audit.application;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.blockcode.hotel.audit.api.dto.AuditLogPageResponse;
+import com.blockcode.hotel.audit.api.dto.AuditLogSummaryResponse;
+import com.blockcode.hotel.audit.domain.AuditEvent;
 import com.blockcode.hotel.audit.domain.AuditLogEntity;
+import com.blockcode.hotel.audit.domain.AuditLogFilter;
+import com.blockcode.hotel.audit.domain.AuditLogSummary;
+import com.blockcode.hotel.audit.infra.AuditLogQueryRepository;
 import com.blockcode.hotel.audit.infra.AuditLogRepository;
+import com.blockcode.hotel.common.exception.AppException;
 import com.blockcode.hotel.common.security.CurrentUserProvider;
-import com.blockcode.hotel.auth.infra.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Records audit entries. {@link #log} only captures the entry; it is handed to the {@link AuditLogWriter} once
+ * the surrounding transaction commits (or immediately when there is none), so rolled-back changes are not
+ * audited and the write itself stays off the request path.
+ */
 @Service
-@Transactional
 public class AuditService {
+  public static final int MAX_PAGE_SIZE = 200;
+
   private final AuditLogRepository auditLogRepository;
+  private final AuditLogQueryRepository auditLogQueryRepository;
+  private final AuditLogWriter auditLogWriter;
   private final CurrentUserProvider currentUserProvider;
   private final ObjectMapper objectMapper;
-  private final UserRepository userRepository;
 
   public AuditService(
       AuditLogRepository auditLogRepository,
+      AuditLogQueryRepository auditLogQueryRepository,
+      AuditLogWriter auditLogWriter,
       CurrentUserProvider currentUserProvider,
-      ObjectMapper objectMapper,
-      UserRepository userRepository
+      ObjectMapper objectMapper
   ) {
     this.auditLogRepository = auditLogRepository;
+    this.auditLogQueryRepository = auditLogQueryRepository;
+    this.auditLogWriter = auditLogWriter;
     this.currentUserProvider = currentUserProvider;
     this.objectMapper = objectMapper;
-    this.userRepository = userRepository;
   }
 
   public void log(String entityType, UUID entityId, String action, Object before, Object after, UUID propertyId) {
-    AuditLogEntity log = new AuditLogEntity();
-    log.setEntityType(entityType);
-    log.setEntityId(entityId);
-    log.setAction(action);
-    log.setPropertyId(propertyId);
-    log.setActorUserId(resolveActorUserId());
-    log.setBeforeJson(serialize(before));
-    log.setAfterJson(serialize(after));
-    log.setCreatedAt(Instant.now());
-
     RequestMeta meta = getRequestMeta();
-    log.setRequestId(meta.requestId());
-    log.setIp(meta.ip());
-    log.setUserAgent(meta.userAgent());
+    AuditEvent event = new AuditEvent(
+        UUID.randomUUID(),
+        propertyId,
+        currentUserProvider.getCurrentUserId().orElse(null),
+        entityType,
+        entityId,
+        action,
+        serialize(before),
+        serialize(after),
+        meta.requestId(),
+        meta.ip(),
+        meta.userAgent(),
+        Instant.now()
+    );
 
-    auditLogRepository.save(log);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          auditLogWriter.submit(event);
+        }
+      });
+    } else {
+      auditLogWriter.submit(event);
+    }
   }
 
   @Transactional(readOnly = true)
-  public List<AuditLogEntity> list(UUID propertyId) {
-    if (propertyId == null) {
-      return auditLogRepository.findAllByOrderByCreatedAtDesc();
+  public AuditLogPageResponse list(AuditLogFilter filter, String cursor, int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new AppException("INVALID_LIMIT", "limit must be between 1 and " + MAX_PAGE_SIZE, HttpStatus.BAD_REQUEST);
+    }
+    if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+      throw new AppException("INVALID_DATE_RANGE", "from must be before to", HttpStatus.BAD_REQUEST);
+    }
+    if (filter.entityId() != null && filter.entityType() == null) {
+      throw new AppException("INVALID_FILTER", "entityId requires entityType", HttpStatus.BAD_REQUEST);
+    }
+
+    Instant afterCreatedAt = null;
+    UUID afterId = null;
+    if (cursor != null && !cursor.isBlank()) {
+      try {
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+        afterCreatedAt = Instant.parse(parts[0]);
+        afterId = UUID.fromString(parts[1]);
+      } catch (RuntimeException ex) {
+        throw new AppException("INVALID_CURSOR", "Cursor is not valid", HttpStatus.BAD_REQUEST);
+      }
+    }
+
+    // One extra row tells whether another page exists without a count query.
+    List<AuditLogSummary> rows = auditLogQueryRepository.findPage(filter, afterCreatedAt, afterId, limit + 1);
+    if (rows.size() <= limit) {
+      return new AuditLogPageResponse(rows.stream().map(AuditService::toSummaryResponse).toList(), null);
     }
-    return auditLogRepository.findAllByPropertyIdOrderByCreatedAtDesc(propertyId);
+    List<AuditLogSummary> page = rows.subList(0, limit);
+    AuditLogSummary last = page.get(limit - 1);
+    String nextCursor = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((last.createdAt() + "|" + last.id()).getBytes(StandardCharsets.UTF_8));
+    return new AuditLogPageResponse(page.stream().map(AuditService::toSummaryResponse).toList(), nextCursor);
   }
 
-  private JsonNode serialize(Object value) {
+  /** {@code createdAt} is optional; passing the value from the list row avoids probing every partition. */
+  @Transactional(readOnly = true)
+  public AuditLogEntity get(UUID id, Instant createdAt) {
+    Optional<AuditLogEntity> entry = createdAt != null
+        ? auditLogRepository.findByIdAndCreatedAt(id, createdAt)
+        : auditLogRepository.findById(id);
+    return entry.orElseThrow(() -> new AppException("NOT_FOUND", "Audit log not found", HttpStatus.NOT_FOUND));
+  }
+
+  private static AuditLogSummaryResponse toSummaryResponse(AuditLogSummary row) {
+    return new AuditLogSummaryResponse(
+        row.id(),
+        row.propertyId(),
+        row.actorUserId(),
+        row.entityType(),
+        row.entityId(),
+        row.action(),
+        row.requestId(),
+        row.ip(),
+        row.createdAt()
+    );
+  }
+
+  // Serialized now: callers pass live entities that change again before the entry is written.
+  private String serialize(Object value) {
     if (value == null) {
       return null;
     }
-    return objectMapper.valueToTree(value);
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Cannot serialize audit snapshot of " + value.getClass().getSimpleName(), ex);
+    }
   }
 
   private RequestMeta getRequestMeta() {
@@ -84,11 +171,5 @@ public class AuditService {
     return new RequestMeta(requestId, ip, userAgent);
   }
 
-  private UUID resolveActorUserId() {
-    return currentUserProvider.getCurrentUserId()
-        .filter(id -> userRepository.findByIdAndDeletedAtIsNull(id).isPresent())
-        .orElse(null);
-  }
-
   private record RequestMeta(String requestId, String ip, String userAgent) {}
 }
@@ -0,0 +1,91 @@
+package com.blockcode.hotel.audit.application;
+
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Durable fallback for audit events that could not be written to the database. Each spilled batch is one JSON
+ * lines file, fsynced under a temporary name and then renamed, so a crash never leaves a half-written batch
+ * behind. File names sort in spill order.
+ */
+@Component
+public class AuditSpillStore {
+  private static final String SUFFIX = ".jsonl";
+
+  private final Path directory;
+  private final ObjectMapper objectMapper;
+  private final AtomicLong sequence = new AtomicLong();
+
+  public AuditSpillStore(AuditProperties properties, ObjectMapper objectMapper) {
+    this.directory = Path.of(properties.getSpillDir());
+    this.objectMapper = objectMapper;
+  }
+
+  public void write(List<AuditEvent> events) throws IOException {
+    Files.createDirectories(directory);
+    String name = String.format("audit-%013d-%06d", System.currentTimeMillis(), sequence.incrementAndGet() % 1_000_000);
+    Path temp = directory.resolve(name + ".tmp");
+    StringBuilder lines = new StringBuilder();
+    for (AuditEvent event : events) {
+      lines.append(objectMapper.writeValueAsString(event)).append('\n');
+    }
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    Files.move(temp, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Spilled batches, oldest first. */
+  public List<Path> pending() {
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  public List<AuditEvent> read(Path file) throws IOException {
+    List<AuditEvent> events = new ArrayList<>();
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isBlank()) {
+          events.add(objectMapper.readValue(line, AuditEvent.class));
+        }
+      }
+    }
+    return events;
+  }
+
+  public void delete(Path file) throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /** Renames a batch that cannot be read so it is kept for inspection but no longer replayed. */
+  public void setAside(Path file) throws IOException {
+    Files.move(file, file.resolveSibling(file.getFileName() + ".failed"), StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -0,0 +1,25 @@
+package com.blockcode.hotel.audit.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An audit entry captured in the request and written later by the audit pipeline. {@code beforeJson} and
+ * {@code afterJson} are serialized at capture time, because the audited objects keep changing afterwards.
+ * The id is assigned up front so that a batch can be written again after a failure without duplicating rows.
+ */
+public record AuditEvent(
+    UUID id,
+    UUID propertyId,
+    UUID actorUserId,
+    String entityType,
+    UUID entityId,
+    String action,
+    String beforeJson,
+    String afterJson,
+    String requestId,
+    String ip,
+    String userAgent,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.blockcode.hotel.audit.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** All fields are optional; {@code from} is inclusive and {@code to} exclusive. */
+public record AuditLogFilter(
+    UUID propertyId,
+    String entityType,
+    UUID entityId,
+    UUID actorUserId,
+    String action,
+    Instant from,
+    Instant to
+) {
+}
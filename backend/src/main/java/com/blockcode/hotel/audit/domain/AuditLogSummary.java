@@ -0,0 +1,18 @@
+package com.blockcode.hotel.audit.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** An audit_logs row without its before/after payloads, as read for list pages. */
+public record AuditLogSummary(
+    UUID id,
+    UUID propertyId,
+    UUID actorUserId,
+    String entityType,
+    UUID entityId,
+    String action,
+    String requestId,
+    String ip,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,46 @@
+package com.blockcode.hotel.audit.infra;
+
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public class AuditLogBatchRepository {
+  // The actor may have been deleted by the time the entry is written; the foreign key would then reject the
+  // whole batch, so the actor is resolved in the statement and recorded as null instead.
+  private static final String INSERT_SQL = "insert into audit_logs " +
+      "(id, property_id, actor_user_id, entity_type, entity_id, action, before, after, request_id, ip, " +
+      "user_agent, created_at) " +
+      "values (?, ?, (select u.id from users u where u.id = ? and u.deleted_at is null), ?, ?, ?, " +
+      "cast(? as jsonb), cast(? as jsonb), ?, ?, ?, ?) " +
+      "on conflict do nothing";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public AuditLogBatchRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Inserts the events in one transaction. Events already present (same id) are skipped. */
+  @Transactional
+  public void insertAll(List<AuditEvent> events) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+      ps.setObject(1, event.id());
+      ps.setObject(2, event.propertyId());
+      ps.setObject(3, event.actorUserId());
+      ps.setString(4, event.entityType());
+      ps.setObject(5, event.entityId());
+      ps.setString(6, event.action());
+      ps.setString(7, event.beforeJson());
+      ps.setString(8, event.afterJson());
+      ps.setString(9, event.requestId());
+      ps.setString(10, event.ip());
+      ps.setString(11, event.userAgent());
+      ps.setTimestamp(12, Timestamp.from(event.createdAt()));
+    });
+  }
+}
@@ -0,0 +1,114 @@
+package com.blockcode.hotel.audit.infra;
+
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import com.blockcode.hotel.audit.domain.AuditLogFilter;
+import com.blockcode.hotel.audit.domain.AuditLogSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class AuditLogQueryRepository {
+  private static final String SELECT_SUMMARY = "select id, property_id, actor_user_id, entity_type, entity_id, " +
+      "action, request_id, ip, created_at from audit_logs where true";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public AuditLogQueryRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Newest first, strictly after the (afterCreatedAt, afterId) keyset position when given. Only the filters
+   * that are set become predicates, so the planner can pick the matching (..., created_at, id) index instead
+   * of a generic plan for {@code :x is null or ...}.
+   */
+  public List<AuditLogSummary> findPage(AuditLogFilter filter, Instant afterCreatedAt, UUID afterId, int limit) {
+    StringBuilder sql = new StringBuilder(SELECT_SUMMARY);
+    List<Object> args = new ArrayList<>();
+    if (filter.propertyId() != null) {
+      sql.append(" and property_id = ?");
+      args.add(filter.propertyId());
+    }
+    if (filter.entityType() != null) {
+      sql.append(" and entity_type = ?");
+      args.add(filter.entityType());
+    }
+    if (filter.entityId() != null) {
+      sql.append(" and entity_id = ?");
+      args.add(filter.entityId());
+    }
+    if (filter.actorUserId() != null) {
+      sql.append(" and actor_user_id = ?");
+      args.add(filter.actorUserId());
+    }
+    if (filter.action() != null) {
+      sql.append(" and action = ?");
+      args.add(filter.action());
+    }
+    if (filter.from() != null) {
+      sql.append(" and created_at >= ?");
+      args.add(Timestamp.from(filter.from()));
+    }
+    if (filter.to() != null) {
+      sql.append(" and created_at < ?");
+      args.add(Timestamp.from(filter.to()));
+    }
+    if (afterCreatedAt != null) {
+      sql.append(" and (created_at, id) < (?, ?)");
+      args.add(Timestamp.from(afterCreatedAt));
+      args.add(afterId);
+    }
+    sql.append(" order by created_at desc, id desc limit ?");
+    args.add(limit);
+
+    return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new AuditLogSummary(
+        rs.getObject("id", UUID.class),
+        rs.getObject("property_id", UUID.class),
+        rs.getObject("actor_user_id", UUID.class),
+        rs.getString("entity_type"),
+        rs.getObject("entity_id", UUID.class),
+        rs.getString("action"),
+        rs.getString("request_id"),
+        rs.getString("ip"),
+        rs.getObject("created_at", OffsetDateTime.class).toInstant()
+    ), args.toArray());
+  }
+
+  /** Oldest rows created before {@code cutoff}, with payloads, in (created_at, id) order. */
+  public List<AuditEvent> findArchivable(Instant cutoff, int limit) {
+    return jdbcTemplate.query("select id, property_id, actor_user_id, entity_type, entity_id, action, " +
+        "cast(before as text) as before, cast(after as text) as after, request_id, ip, user_agent, created_at " +
+        "from audit_logs where created_at < ? order by created_at, id limit ?", (rs, rowNum) -> new AuditEvent(
+        rs.getObject("id", UUID.class),
+        rs.getObject("property_id", UUID.class),
+        rs.getObject("actor_user_id", UUID.class),
+        rs.getString("entity_type"),
+        rs.getObject("entity_id", UUID.class),
+        rs.getString("action"),
+        rs.getString("before"),
+        rs.getString("after"),
+        rs.getString("request_id"),
+        rs.getString("ip"),
+        rs.getString("user_agent"),
+        rs.getObject("created_at", OffsetDateTime.class).toInstant()
+    ), Timestamp.from(cutoff), limit);
+  }
+
+  public int deleteArchived(Instant cutoff, List<UUID> ids) {
+    return jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(
+          "delete from audit_logs where created_at < ? and id = any(?)");
+      ps.setTimestamp(1, Timestamp.from(cutoff));
+      ps.setArray(2, connection.createArrayOf("uuid", ids.toArray()));
+      return ps;
+    });
+  }
+}
@@ -3,11 +3,11 @@ package com.blockcode.hotel.audit.infra;
 import com.blockcode.hotel.audit.domain.AuditLogEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface AuditLogRepository extends JpaRepository<AuditLogEntity, UUID> {
-  List<AuditLogEntity> findAllByOrderByCreatedAtDesc();
-
-  List<AuditLogEntity> findAllByPropertyIdOrderByCreatedAtDesc(UUID propertyId);
+  /** audit_logs is partitioned by month of created_at; with it the lookup reads a single partition. */
+  Optional<AuditLogEntity> findByIdAndCreatedAt(UUID id, Instant createdAt);
 }
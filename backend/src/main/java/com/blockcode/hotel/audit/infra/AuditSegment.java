@@ -0,0 +1,311 @@
+package com.blockcode.hotel.audit.infra;
+
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * An immutable archive file of audit rows, read through a memory map.
+ *
+ * <p>Layout: deflate-compressed blocks of JSON lines ({@code int rawLength, int compressedLength, bytes}),
+ * then a block table ({@code long offset, long minMicros, long maxMicros} per block), then the sparse entity
+ * index ({@code long msb, long lsb, int block} per distinct entity and block, sorted by entity id), then a
+ * fixed-size trailer. A lookup by entity binary-searches the index and inflates only the blocks it names; a
+ * time-range lookup skips blocks by their min/max creation time.
+ */
+public final class AuditSegment {
+  public static final String SUFFIX = ".seg";
+  private static final int MAGIC = 0x48415544; // "HAUD"
+  private static final int VERSION = 1;
+  private static final int BLOCK_ENTRY_BYTES = 24;
+  private static final int INDEX_ENTRY_BYTES = 20;
+  private static final int TRAILER_BYTES = 52;
+
+  private final Path path;
+  private final MappedByteBuffer buffer;
+  private final long blockTableOffset;
+  private final int blockCount;
+  private final long indexOffset;
+  private final int indexCount;
+  private final int rowCount;
+  private final long minMicros;
+  private final long maxMicros;
+
+  private AuditSegment(Path path, MappedByteBuffer buffer) {
+    this.path = path;
+    this.buffer = buffer;
+    int trailer = buffer.capacity() - TRAILER_BYTES;
+    if (trailer < 0 || buffer.getInt(trailer + 48) != MAGIC || buffer.getInt(trailer + 44) != VERSION) {
+      throw new IllegalStateException("Not an audit segment: " + path);
+    }
+    this.blockTableOffset = buffer.getLong(trailer);
+    this.blockCount = buffer.getInt(trailer + 8);
+    this.indexOffset = buffer.getLong(trailer + 12);
+    this.indexCount = buffer.getInt(trailer + 20);
+    this.rowCount = buffer.getInt(trailer + 24);
+    this.minMicros = buffer.getLong(trailer + 28);
+    this.maxMicros = buffer.getLong(trailer + 36);
+  }
+
+  /** Maps an existing segment. The mapping stays valid after the file channel is closed. */
+  public static AuditSegment open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Audit segment too large to map: " + path);
+      }
+      return new AuditSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Writes events (in any order) as a new segment. The file is fsynced under a temporary name and renamed, so
+   * a segment either exists completely or not at all.
+   */
+  public static void write(Path target, List<AuditEvent> events, int rowsPerBlock, ObjectMapper objectMapper)
+      throws IOException {
+    Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+    List<long[]> blockTable = new ArrayList<>();
+    List<IndexEntry> index = new ArrayList<>();
+    long minMicros = Long.MAX_VALUE;
+    long maxMicros = Long.MIN_VALUE;
+
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING)) {
+      OutputStream stream = Channels.newOutputStream(channel);
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+      long offset = 0;
+      Deflater deflater = new Deflater();
+      try {
+        for (int from = 0; from < events.size(); from += rowsPerBlock) {
+          List<AuditEvent> block = events.subList(from, Math.min(events.size(), from + rowsPerBlock));
+          ByteArrayOutputStream raw = new ByteArrayOutputStream();
+          long blockMin = Long.MAX_VALUE;
+          long blockMax = Long.MIN_VALUE;
+          Set<UUID> entities = new LinkedHashSet<>();
+          for (AuditEvent event : block) {
+            raw.write(objectMapper.writeValueAsBytes(event));
+            raw.write('\n');
+            long micros = toMicros(event.createdAt());
+            blockMin = Math.min(blockMin, micros);
+            blockMax = Math.max(blockMax, micros);
+            if (event.entityId() != null) {
+              entities.add(event.entityId());
+            }
+          }
+          byte[] compressed = deflate(deflater, raw.toByteArray());
+          out.writeInt(raw.size());
+          out.writeInt(compressed.length);
+          out.write(compressed);
+
+          int blockNumber = blockTable.size();
+          blockTable.add(new long[] {offset, blockMin, blockMax});
+          entities.forEach(entityId -> index.add(new IndexEntry(entityId, blockNumber)));
+          offset += 8 + compressed.length;
+          minMicros = Math.min(minMicros, blockMin);
+          maxMicros = Math.max(maxMicros, blockMax);
+        }
+      } finally {
+        deflater.end();
+      }
+
+      long blockTableOffset = offset;
+      for (long[] entry : blockTable) {
+        out.writeLong(entry[0]);
+        out.writeLong(entry[1]);
+        out.writeLong(entry[2]);
+      }
+      long indexOffset = blockTableOffset + (long) blockTable.size() * BLOCK_ENTRY_BYTES;
+      index.sort(IndexEntry.ORDER);
+      for (IndexEntry entry : index) {
+        out.writeLong(entry.entityId().getMostSignificantBits());
+        out.writeLong(entry.entityId().getLeastSignificantBits());
+        out.writeInt(entry.block());
+      }
+
+      out.writeLong(blockTableOffset);
+      out.writeInt(blockTable.size());
+      out.writeLong(indexOffset);
+      out.writeInt(index.size());
+      out.writeInt(events.size());
+      out.writeLong(minMicros);
+      out.writeLong(maxMicros);
+      out.writeInt(VERSION);
+      out.writeInt(MAGIC);
+      out.flush();
+      channel.force(true);
+    }
+    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  public Path path() {
+    return path;
+  }
+
+  public int rowCount() {
+    return rowCount;
+  }
+
+  public Instant minCreatedAt() {
+    return fromMicros(minMicros);
+  }
+
+  public Instant maxCreatedAt() {
+    return fromMicros(maxMicros);
+  }
+
+  public boolean overlaps(Instant from, Instant to) {
+    return (from == null || maxMicros >= toMicros(from)) && (to == null || minMicros < toMicros(to));
+  }
+
+  /**
+   * Rows matching {@code filter}. With an entity id only the blocks listed for it in the index are read;
+   * otherwise every block overlapping [from, to) is.
+   */
+  public List<AuditEvent> find(UUID entityId, Instant from, Instant to, Predicate<AuditEvent> filter,
+      ObjectMapper objectMapper) {
+    int[] blocks = entityId != null ? blocksFor(entityId) : allBlocks();
+    long fromMicros = from != null ? toMicros(from) : Long.MIN_VALUE;
+    long toMicros = to != null ? toMicros(to) : Long.MAX_VALUE;
+    List<AuditEvent> matches = new ArrayList<>();
+    Inflater inflater = new Inflater();
+    try {
+      for (int block : blocks) {
+        long entry = blockTableOffset + (long) block * BLOCK_ENTRY_BYTES;
+        if (buffer.getLong((int) entry + 16) < fromMicros || buffer.getLong((int) entry + 8) >= toMicros) {
+          continue;
+        }
+        for (String line : inflate(inflater, (int) buffer.getLong((int) entry)).split("\n")) {
+          if (line.isEmpty()) {
+            continue;
+          }
+          AuditEvent event = objectMapper.readValue(line, AuditEvent.class);
+          if (filter.test(event)) {
+            matches.add(event);
+          }
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Unreadable audit segment " + path, ex);
+    } finally {
+      inflater.end();
+    }
+    return matches;
+  }
+
+  private int[] blocksFor(UUID entityId) {
+    long msb = entityId.getMostSignificantBits();
+    long lsb = entityId.getLeastSignificantBits();
+    // Leftmost entry for the entity; its blocks follow contiguously.
+    int low = 0;
+    int high = indexCount;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int at = (int) (indexOffset + (long) mid * INDEX_ENTRY_BYTES);
+      int cmp = compare(buffer.getLong(at), buffer.getLong(at + 8), msb, lsb);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    int end = low;
+    while (end < indexCount) {
+      int at = (int) (indexOffset + (long) end * INDEX_ENTRY_BYTES);
+      if (buffer.getLong(at) != msb || buffer.getLong(at + 8) != lsb) {
+        break;
+      }
+      end++;
+    }
+    int[] blocks = new int[end - low];
+    for (int i = 0; i < blocks.length; i++) {
+      blocks[i] = buffer.getInt((int) (indexOffset + (long) (low + i) * INDEX_ENTRY_BYTES) + 16);
+    }
+    return blocks;
+  }
+
+  private int[] allBlocks() {
+    int[] blocks = new int[blockCount];
+    Arrays.setAll(blocks, i -> i);
+    return blocks;
+  }
+
+  private String inflate(Inflater inflater, int offset) throws IOException {
+    int rawLength = buffer.getInt(offset);
+    int compressedLength = buffer.getInt(offset + 4);
+    byte[] raw = new byte[rawLength];
+    inflater.reset();
+    inflater.setInput(buffer.slice(offset + 8, compressedLength));
+    try {
+      int read = 0;
+      while (read < rawLength && !inflater.finished()) {
+        read += inflater.inflate(raw, read, rawLength - read);
+      }
+      if (read != rawLength) {
+        throw new IOException("Truncated block at offset " + offset);
+      }
+    } catch (DataFormatException ex) {
+      throw new IOException("Corrupt block at offset " + offset, ex);
+    }
+    return new String(raw, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] deflate(Deflater deflater, byte[] raw) {
+    deflater.reset();
+    deflater.setInput(raw);
+    deflater.finish();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+    byte[] chunk = new byte[8192];
+    while (!deflater.finished()) {
+      out.write(chunk, 0, deflater.deflate(chunk));
+    }
+    return out.toByteArray();
+  }
+
+  private static int compare(long msbA, long lsbA, long msbB, long lsbB) {
+    int cmp = Long.compare(msbA, msbB);
+    return cmp != 0 ? cmp : Long.compare(lsbA, lsbB);
+  }
+
+  private static long toMicros(Instant instant) {
+    return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+  }
+
+  private static Instant fromMicros(long micros) {
+    return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+  }
+
+  private record IndexEntry(UUID entityId, int block) {
+    static final Comparator<IndexEntry> ORDER = (a, b) -> {
+      int cmp = compare(a.entityId().getMostSignificantBits(), a.entityId().getLeastSignificantBits(),
+          b.entityId().getMostSignificantBits(), b.entityId().getLeastSignificantBits());
+      return cmp != 0 ? cmp : Integer.compare(a.block(), b.block());
+    };
+  }
+}
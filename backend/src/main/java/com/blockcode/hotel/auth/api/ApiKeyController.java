@@ -0,0 +1,44 @@
+package com.blockcode.hotel.auth.api;
+
+import com.blockcode.hotel.auth.api.dto.ApiKeyCreateRequest;
+import com.blockcode.hotel.auth.api.dto.ApiKeyCreateResponse;
+import com.blockcode.hotel.auth.api.dto.ApiKeyResponse;
+import com.blockcode.hotel.auth.application.ApiKeyService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/rbac/api-keys")
+@PreAuthorize("hasAuthority('rbac.ADMIN')")
+@Validated
+public class ApiKeyController {
+  private final ApiKeyService apiKeyService;
+
+  public ApiKeyController(ApiKeyService apiKeyService) {
+    this.apiKeyService = apiKeyService;
+  }
+
+  @PostMapping
+  @ResponseStatus(HttpStatus.CREATED)
+  public ApiKeyCreateResponse create(@Valid @RequestBody ApiKeyCreateRequest request) {
+    return apiKeyService.create(request);
+  }
+
+  @GetMapping
+  public List<ApiKeyResponse> list() {
+    return apiKeyService.list();
+  }
+
+  @DeleteMapping("/{id}")
+  public ResponseEntity<Void> revoke(@PathVariable UUID id) {
+    apiKeyService.revoke(id);
+    return ResponseEntity.noContent().build();
+  }
+}
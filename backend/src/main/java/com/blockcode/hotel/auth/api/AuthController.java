@@ -3,11 +3,16 @@ package com.blockcode.hotel.auth.api;
 import com.blockcode.hotel.auth.application.AuthService;
 import com.blockcode.hotel.auth.dto.LoginRequest;
 import com.blockcode.hotel.auth.dto.LoginResponse;
+import com.blockcode.hotel.auth.dto.RefreshTokenRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -21,7 +26,18 @@ public class AuthController {
   }
 
   @PostMapping("/login")
-  public LoginResponse login(@Valid @RequestBody LoginRequest request) {
-    return authService.login(request);
+  public LoginResponse login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+    return authService.login(request, httpRequest.getRemoteAddr());
+  }
+
+  @PostMapping("/refresh")
+  public LoginResponse refresh(@Valid @RequestBody RefreshTokenRequest request) {
+    return authService.refresh(request);
+  }
+
+  @PostMapping("/logout")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void logout(Authentication authentication, @RequestBody(required = false) RefreshTokenRequest request) {
+    authService.logout(authentication, request);
   }
 }
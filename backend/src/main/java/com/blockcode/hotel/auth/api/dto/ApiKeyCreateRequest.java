@@ -0,0 +1,16 @@
+package com.blockcode.hotel.auth.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ApiKeyCreateRequest(
+    @NotBlank String name,
+    @NotEmpty List<String> permissions,
+    UUID ownerUserId,
+    Instant expiresAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.blockcode.hotel.auth.api.dto;
+
+/** The only response that contains the key itself; it cannot be retrieved again. */
+public record ApiKeyCreateResponse(
+    ApiKeyResponse apiKey,
+    String key
+) {
+}
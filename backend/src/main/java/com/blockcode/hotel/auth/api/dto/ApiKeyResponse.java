@@ -0,0 +1,17 @@
+package com.blockcode.hotel.auth.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ApiKeyResponse(
+    UUID id,
+    String name,
+    String keyPrefix,
+    List<String> permissions,
+    UUID ownerUserId,
+    Instant expiresAt,
+    Instant revokedAt,
+    Instant createdAt
+) {
+}
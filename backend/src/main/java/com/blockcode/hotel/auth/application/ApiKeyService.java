@@ -0,0 +1,125 @@
+package com.blockcode.hotel.auth.application;
+
+import com.blockcode.hotel.auth.api.dto.ApiKeyCreateRequest;
+import com.blockcode.hotel.auth.api.dto.ApiKeyCreateResponse;
+import com.blockcode.hotel.auth.api.dto.ApiKeyResponse;
+import com.blockcode.hotel.auth.domain.ApiKeyEntity;
+import com.blockcode.hotel.auth.infra.ApiKeyRepository;
+import com.blockcode.hotel.auth.infra.AuthorizationRepository;
+import com.blockcode.hotel.auth.infra.UserRepository;
+import com.blockcode.hotel.auth.security.ApiKeyAuthenticator;
+import com.blockcode.hotel.auth.security.PermissionRegistry;
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class ApiKeyService {
+  private static final String KEY_PREFIX = "hk_";
+  private static final int KEY_BYTES = 24;
+  private static final int DISPLAY_PREFIX_LENGTH = KEY_PREFIX.length() + 8;
+
+  private final ApiKeyRepository apiKeyRepository;
+  private final UserRepository userRepository;
+  private final AuthorizationRepository authorizationRepository;
+  private final ApiKeyAuthenticator apiKeyAuthenticator;
+  private final PermissionRegistry permissionRegistry;
+  private final CurrentUserProvider currentUserProvider;
+  private final SecureRandom random = new SecureRandom();
+
+  public ApiKeyService(
+      ApiKeyRepository apiKeyRepository,
+      UserRepository userRepository,
+      AuthorizationRepository authorizationRepository,
+      ApiKeyAuthenticator apiKeyAuthenticator,
+      PermissionRegistry permissionRegistry,
+      CurrentUserProvider currentUserProvider
+  ) {
+    this.apiKeyRepository = apiKeyRepository;
+    this.userRepository = userRepository;
+    this.authorizationRepository = authorizationRepository;
+    this.apiKeyAuthenticator = apiKeyAuthenticator;
+    this.permissionRegistry = permissionRegistry;
+    this.currentUserProvider = currentUserProvider;
+  }
+
+  public ApiKeyCreateResponse create(ApiKeyCreateRequest request) {
+    List<String> permissions = request.permissions().stream().distinct().toList();
+    List<String> unknown = permissionRegistry.encode(permissions).unencoded();
+    if (!unknown.isEmpty()) {
+      throw new AppException("PERMISSION_NOT_FOUND", "Unknown permissions: " + String.join(", ", unknown),
+          HttpStatus.BAD_REQUEST);
+    }
+    if (request.expiresAt() != null && !request.expiresAt().isAfter(Instant.now())) {
+      throw new AppException("INVALID_EXPIRY", "expiresAt must be in the future", HttpStatus.BAD_REQUEST);
+    }
+
+    UUID ownerUserId = request.ownerUserId() != null
+        ? request.ownerUserId()
+        : currentUserProvider.getRequiredUserId();
+    userRepository.findByIdAndDeletedAtIsNull(ownerUserId)
+        .orElseThrow(() -> new AppException("NOT_FOUND", "User not found", HttpStatus.NOT_FOUND));
+    Set<String> ownerPermissions = new HashSet<>(authorizationRepository.findPermissionCodesByUserId(ownerUserId));
+    List<String> notHeld = permissions.stream().filter(code -> !ownerPermissions.contains(code)).toList();
+    if (!notHeld.isEmpty()) {
+      throw new AppException("PERMISSION_NOT_HELD", "Owner does not hold permissions: " + String.join(", ", notHeld),
+          HttpStatus.FORBIDDEN);
+    }
+
+    byte[] bytes = new byte[KEY_BYTES];
+    random.nextBytes(bytes);
+    String rawKey = KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    ApiKeyEntity apiKey = new ApiKeyEntity();
+    apiKey.setName(request.name());
+    apiKey.setKeyPrefix(rawKey.substring(0, DISPLAY_PREFIX_LENGTH));
+    apiKey.setKeyHash(apiKeyAuthenticator.hash(rawKey));
+    apiKey.setPermissions(permissions);
+    apiKey.setOwnerUserId(ownerUserId);
+    apiKey.setExpiresAt(request.expiresAt());
+    apiKeyRepository.save(apiKey);
+
+    return new ApiKeyCreateResponse(toResponse(apiKey), rawKey);
+  }
+
+  @Transactional(readOnly = true)
+  public List<ApiKeyResponse> list() {
+    return apiKeyRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc().stream()
+        .map(ApiKeyService::toResponse)
+        .toList();
+  }
+
+  public void revoke(UUID id) {
+    ApiKeyEntity apiKey = apiKeyRepository.findByIdAndDeletedAtIsNull(id)
+        .orElseThrow(() -> new AppException("NOT_FOUND", "API key not found", HttpStatus.NOT_FOUND));
+    if (apiKey.getRevokedAt() == null) {
+      apiKey.setRevokedAt(Instant.now());
+      apiKeyRepository.save(apiKey);
+    }
+    apiKeyAuthenticator.invalidate();
+  }
+
+  private static ApiKeyResponse toResponse(ApiKeyEntity apiKey) {
+    return new ApiKeyResponse(
+        apiKey.getId(),
+        apiKey.getName(),
+        apiKey.getKeyPrefix(),
+        apiKey.getPermissions(),
+        apiKey.getOwnerUserId(),
+        apiKey.getExpiresAt(),
+        apiKey.getRevokedAt(),
+        apiKey.getCreatedAt()
+    );
+  }
+}
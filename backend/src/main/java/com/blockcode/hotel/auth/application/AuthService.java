@@ -2,13 +2,19 @@ package com.blockcode.hotel.auth.application;
 
 import com.blockcode.hotel.auth.dto.LoginRequest;
 import com.blockcode.hotel.auth.dto.LoginResponse;
+import com.blockcode.hotel.auth.dto.RefreshTokenRequest;
 import com.blockcode.hotel.auth.security.JwtService;
+import com.blockcode.hotel.auth.security.JwtTokenDetails;
+import com.blockcode.hotel.auth.security.LoginThrottle;
+import com.blockcode.hotel.auth.security.TokenRevocationList;
 import com.blockcode.hotel.common.exception.AppException;
 import com.blockcode.hotel.auth.domain.UserEntity;
+import com.blockcode.hotel.auth.domain.TokenSubjectType;
 import com.blockcode.hotel.auth.domain.UserStatus;
 import com.blockcode.hotel.auth.infra.AuthorizationRepository;
 import com.blockcode.hotel.auth.infra.UserRepository;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,20 +29,31 @@ public class AuthService {
   private final AuthorizationRepository authorizationRepository;
   private final PasswordEncoder passwordEncoder;
   private final JwtService jwtService;
+  private final TokenRevocationList revocationList;
+  private final RefreshTokenService refreshTokenService;
+  private final LoginThrottle loginThrottle;
 
   public AuthService(
       UserRepository userRepository,
       AuthorizationRepository authorizationRepository,
       PasswordEncoder passwordEncoder,
-      JwtService jwtService
+      JwtService jwtService,
+      TokenRevocationList revocationList,
+      RefreshTokenService refreshTokenService,
+      LoginThrottle loginThrottle
   ) {
     this.userRepository = userRepository;
     this.authorizationRepository = authorizationRepository;
     this.passwordEncoder = passwordEncoder;
     this.jwtService = jwtService;
+    this.revocationList = revocationList;
+    this.refreshTokenService = refreshTokenService;
+    this.loginThrottle = loginThrottle;
   }
 
-  public LoginResponse login(LoginRequest request) {
+  public LoginResponse login(LoginRequest request, String clientIp) {
+    loginThrottle.check(clientIp, request.email());
+
     UserEntity user = userRepository.findByEmailIgnoreCaseAndDeletedAtIsNull(request.email())
         .orElseThrow(() -> new AppException("INVALID_CREDENTIALS", "Invalid credentials", HttpStatus.UNAUTHORIZED));
 
@@ -47,13 +64,43 @@ public class AuthService {
     if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
       throw new AppException("INVALID_CREDENTIALS", "Invalid credentials", HttpStatus.UNAUTHORIZED);
     }
-
-    List<String> authorities = authorizationRepository.findPermissionCodesByUserId(user.getId());
-    String token = jwtService.generateToken(user.getId(), user.getEmail(), authorities);
+    loginThrottle.onSuccess(request.email());
 
     user.setLastLoginAt(Instant.now());
     userRepository.save(user);
 
-    return new LoginResponse(token, "Bearer", jwtService.getAccessTokenTtlSeconds());
+    return issueTokens(user, refreshTokenService.issue(user.getId(), TokenSubjectType.USER));
+  }
+
+  /** Exchanges a refresh token for a new access token and a successor refresh token. */
+  public LoginResponse refresh(RefreshTokenRequest request) {
+    RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken(), TokenSubjectType.USER);
+    UserEntity user = userRepository.findByIdAndDeletedAtIsNull(rotation.subjectId())
+        .filter(found -> found.getStatus() == UserStatus.ACTIVE)
+        .orElseThrow(() -> new AppException("INVALID_REFRESH_TOKEN", "Refresh token is invalid or expired",
+            HttpStatus.UNAUTHORIZED));
+    return issueTokens(user, rotation.refreshToken());
+  }
+
+  /**
+   * Revokes the bearer token of the current request and, when given, the refresh token family. Access tokens
+   * without a jti can only expire.
+   */
+  public void logout(Authentication authentication, RefreshTokenRequest request) {
+    if (request != null && request.refreshToken() != null && !request.refreshToken().isBlank()) {
+      refreshTokenService.revoke(request.refreshToken());
+    }
+    if (authentication != null
+        && authentication.getDetails() instanceof JwtTokenDetails details
+        && details.tokenId() != null
+        && details.expiresAt() != null) {
+      revocationList.revokeToken(details.tokenId(), details.expiresAt(), "LOGOUT");
+    }
+  }
+
+  private LoginResponse issueTokens(UserEntity user, String refreshToken) {
+    List<String> authorities = authorizationRepository.findPermissionCodesByUserId(user.getId());
+    String token = jwtService.generateToken(user.getId(), user.getEmail(), authorities);
+    return new LoginResponse(token, "Bearer", jwtService.getAccessTokenTtlSeconds(), refreshToken);
   }
 }
@@ -0,0 +1,26 @@
+package com.blockcode.hotel.auth.application;
+
+/**
+ * Published when permissions, roles or menus change, so in-memory authorization and navigation caches can be
+ * rebuilt after the transaction commits.
+ */
+public record AuthorizationChangedEvent(Kind kind) {
+
+  public enum Kind {
+    PERMISSIONS,
+    ROLES,
+    MENUS
+  }
+
+  public static AuthorizationChangedEvent permissions() {
+    return new AuthorizationChangedEvent(Kind.PERMISSIONS);
+  }
+
+  public static AuthorizationChangedEvent roles() {
+    return new AuthorizationChangedEvent(Kind.ROLES);
+  }
+
+  public static AuthorizationChangedEvent menus() {
+    return new AuthorizationChangedEvent(Kind.MENUS);
+  }
+}
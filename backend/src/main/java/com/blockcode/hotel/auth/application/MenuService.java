@@ -7,6 +7,7 @@ import com.blockcode.hotel.auth.api.dto.MenuUpdateRequest;
 import com.blockcode.hotel.auth.api.mapper.MenuMapper;
 import com.blockcode.hotel.auth.domain.MenuEntity;
 import com.blockcode.hotel.auth.infra.MenuRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,10 +21,12 @@ import java.util.UUID;
 public class MenuService {
   private final MenuRepository menuRepository;
   private final MenuMapper menuMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public MenuService(MenuRepository menuRepository, MenuMapper menuMapper) {
+  public MenuService(MenuRepository menuRepository, MenuMapper menuMapper, ApplicationEventPublisher eventPublisher) {
     this.menuRepository = menuRepository;
     this.menuMapper = menuMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   public MenuResponse create(MenuCreateRequest request) {
@@ -37,6 +40,7 @@ public class MenuService {
     menu.setSortOrder(request.sortOrder() == null ? 0 : request.sortOrder());
 
     menuRepository.save(menu);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.menus());
     return menuMapper.toResponse(menu);
   }
 
@@ -65,6 +69,7 @@ public class MenuService {
     }
 
     menuRepository.save(menu);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.menus());
     return menuMapper.toResponse(menu);
   }
 
@@ -73,5 +78,6 @@ public class MenuService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "Menu not found", HttpStatus.NOT_FOUND));
     menu.setDeletedAt(Instant.now());
     menuRepository.save(menu);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.menus());
   }
 }
@@ -5,43 +5,57 @@ import com.blockcode.hotel.auth.api.dto.NavigationMenuResponse;
 import com.blockcode.hotel.auth.api.dto.NavigationSubmenuResponse;
 import com.blockcode.hotel.auth.domain.MenuEntity;
 import com.blockcode.hotel.auth.domain.SubmenuEntity;
+import com.blockcode.hotel.auth.domain.RoleEntity;
+import com.blockcode.hotel.auth.domain.RoleSubmenuEntity;
 import com.blockcode.hotel.auth.infra.MenuRepository;
+import com.blockcode.hotel.auth.infra.RoleRepository;
 import com.blockcode.hotel.auth.infra.RoleSubmenuRepository;
 import com.blockcode.hotel.auth.infra.SubmenuRepository;
 import com.blockcode.hotel.auth.infra.UserRoleRepository;
-import com.blockcode.hotel.auth.infra.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Serves the admin navigation from memory. Menus, submenus and role grants are loaded once into a catalog, and
+ * each distinct role set gets one immutable tree shared by every user holding exactly those roles. Role or menu
+ * changes drop the catalog; it also expires after five minutes so changes made through another instance show up.
+ */
 @Service
 @Transactional(readOnly = true)
 public class NavigationService {
+  static final String SYSTEM_ADMIN_ROLE = "SYSTEM_ADMIN";
+  private static final long CATALOG_TTL_MILLIS = 5 * 60 * 1000;
+  private static final int MAX_CACHED_USERS = 10_000;
+
   private final CurrentUserProvider currentUserProvider;
   private final UserRoleRepository userRoleRepository;
-  private final UserRepository userRepository;
+  private final RoleRepository roleRepository;
   private final RoleSubmenuRepository roleSubmenuRepository;
   private final SubmenuRepository submenuRepository;
   private final MenuRepository menuRepository;
+  private volatile Catalog catalog;
 
   public NavigationService(
       CurrentUserProvider currentUserProvider,
       UserRoleRepository userRoleRepository,
-      UserRepository userRepository,
+      RoleRepository roleRepository,
       RoleSubmenuRepository roleSubmenuRepository,
       SubmenuRepository submenuRepository,
       MenuRepository menuRepository) {
     this.currentUserProvider = currentUserProvider;
     this.userRoleRepository = userRoleRepository;
-    this.userRepository = userRepository;
+    this.roleRepository = roleRepository;
     this.roleSubmenuRepository = roleSubmenuRepository;
     this.submenuRepository = submenuRepository;
     this.menuRepository = menuRepository;
@@ -53,41 +67,96 @@ public class NavigationService {
   }
 
   public List<NavigationMenuResponse> getNavigationForUser(UUID userId) {
-    // 1. Check if System Admin
-    var userOpt = userRepository.findByIdAndDeletedAtIsNull(userId);
-    if (userOpt.isPresent() && "systemadmin@hotel.com".equalsIgnoreCase(userOpt.get().getEmail())) {
-      // Return ALL menus
-      List<SubmenuEntity> allSubmenus = submenuRepository.findAllByDeletedAtIsNullOrderByMenuIdAscSortOrderAsc();
-      Map<UUID, List<SubmenuEntity>> submenusByMenu = new HashMap<>();
-      for (SubmenuEntity submenu : allSubmenus) {
-        submenusByMenu.computeIfAbsent(submenu.getMenuId(), k -> new ArrayList<>()).add(submenu);
+    Catalog current = catalog();
+    Set<UUID> roleIds = current.rolesByUser.get(userId);
+    if (roleIds == null) {
+      roleIds = Set.copyOf(userRoleRepository.findRoleIdsByUserId(userId));
+      if (current.rolesByUser.size() >= MAX_CACHED_USERS) {
+        current.rolesByUser.clear();
       }
-      List<MenuEntity> allMenus = menuRepository.findAllByDeletedAtIsNullOrderBySortOrderAscLabelAsc();
-      return mapMenus(allMenus, submenusByMenu);
+      current.rolesByUser.put(userId, roleIds);
     }
-
-    List<UUID> roleIds = userRoleRepository.findRoleIdsByUserId(userId);
     if (roleIds.isEmpty()) {
       return List.of();
     }
+    return current.treesByRoles.computeIfAbsent(roleIds, ids -> buildTree(current, ids));
+  }
 
-    Set<UUID> submenuIds = roleSubmenuRepository.findSubmenuIdsByRoleIds(roleIds)
-        .stream()
-        .collect(Collectors.toSet());
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+    if (event.kind() != AuthorizationChangedEvent.Kind.PERMISSIONS) {
+      invalidate();
+    }
+  }
 
-    if (submenuIds.isEmpty()) {
-      return List.of();
+  public void invalidate() {
+    catalog = null;
+  }
+
+  private Catalog catalog() {
+    Catalog current = catalog;
+    if (current != null && System.currentTimeMillis() - current.loadedAtMillis < CATALOG_TTL_MILLIS) {
+      return current;
+    }
+    synchronized (this) {
+      current = catalog;
+      if (current != null && System.currentTimeMillis() - current.loadedAtMillis < CATALOG_TTL_MILLIS) {
+        return current;
+      }
+      current = loadCatalog();
+      catalog = current;
+      return current;
     }
+  }
 
-    List<SubmenuEntity> submenus = submenuRepository.findByIdInAndDeletedAtIsNull(submenuIds);
+  private Catalog loadCatalog() {
+    List<MenuEntity> menus = menuRepository.findAllByDeletedAtIsNullOrderBySortOrderAscLabelAsc();
     Map<UUID, List<SubmenuEntity>> submenusByMenu = new HashMap<>();
-    for (SubmenuEntity submenu : submenus) {
+    for (SubmenuEntity submenu : submenuRepository.findAllByDeletedAtIsNullOrderByMenuIdAscSortOrderAsc()) {
       submenusByMenu.computeIfAbsent(submenu.getMenuId(), k -> new ArrayList<>()).add(submenu);
     }
 
-    List<MenuEntity> menus = menuRepository.findByIdInAndDeletedAtIsNull(submenusByMenu.keySet());
+    Map<UUID, Set<UUID>> submenusByRole = new HashMap<>();
+    for (RoleSubmenuEntity grant : roleSubmenuRepository.findAll()) {
+      submenusByRole.computeIfAbsent(grant.getId().getRoleId(), k -> new HashSet<>()).add(grant.getId().getSubmenuId());
+    }
+
+    Set<UUID> systemAdminRoles = roleRepository.findByPropertyIdAndNameAndDeletedAtIsNull(null, SYSTEM_ADMIN_ROLE)
+        .map(RoleEntity::getId)
+        .map(Set::of)
+        .orElse(Set.of());
+
+    return new Catalog(menus, submenusByMenu, submenusByRole, systemAdminRoles, System.currentTimeMillis());
+  }
+
+  private List<NavigationMenuResponse> buildTree(Catalog catalog, Set<UUID> roleIds) {
+    // The global system admin role sees every menu, including ones with no submenus granted yet.
+    for (UUID roleId : roleIds) {
+      if (catalog.systemAdminRoles.contains(roleId)) {
+        return mapMenus(catalog.menus, catalog.submenusByMenu);
+      }
+    }
+
+    Set<UUID> submenuIds = new HashSet<>();
+    for (UUID roleId : roleIds) {
+      submenuIds.addAll(catalog.submenusByRole.getOrDefault(roleId, Set.of()));
+    }
+    if (submenuIds.isEmpty()) {
+      return List.of();
+    }
 
-    return mapMenus(menus, submenusByMenu);
+    Map<UUID, List<SubmenuEntity>> granted = new HashMap<>();
+    catalog.submenusByMenu.forEach((menuId, submenus) -> {
+      for (SubmenuEntity submenu : submenus) {
+        if (submenuIds.contains(submenu.getId())) {
+          granted.computeIfAbsent(menuId, k -> new ArrayList<>()).add(submenu);
+        }
+      }
+    });
+    List<MenuEntity> menus = catalog.menus.stream()
+        .filter(menu -> granted.containsKey(menu.getId()))
+        .toList();
+    return mapMenus(menus, granted);
   }
 
   private List<NavigationMenuResponse> mapMenus(List<MenuEntity> menus,
@@ -116,4 +185,32 @@ public class NavigationService {
         })
         .toList();
   }
+
+  /**
+   * One consistent view of menus and grants. Per-user role sets and per-role-set trees live on the catalog, so
+   * replacing it drops them together and a tree built from a stale catalog is never served afterwards.
+   */
+  private static final class Catalog {
+    private final List<MenuEntity> menus;
+    private final Map<UUID, List<SubmenuEntity>> submenusByMenu;
+    private final Map<UUID, Set<UUID>> submenusByRole;
+    private final Set<UUID> systemAdminRoles;
+    private final long loadedAtMillis;
+    private final Map<UUID, Set<UUID>> rolesByUser = new ConcurrentHashMap<>();
+    private final Map<Set<UUID>, List<NavigationMenuResponse>> treesByRoles = new ConcurrentHashMap<>();
+
+    private Catalog(
+        List<MenuEntity> menus,
+        Map<UUID, List<SubmenuEntity>> submenusByMenu,
+        Map<UUID, Set<UUID>> submenusByRole,
+        Set<UUID> systemAdminRoles,
+        long loadedAtMillis
+    ) {
+      this.menus = menus;
+      this.submenusByMenu = submenusByMenu;
+      this.submenusByRole = submenusByRole;
+      this.systemAdminRoles = systemAdminRoles;
+      this.loadedAtMillis = loadedAtMillis;
+    }
+  }
 }
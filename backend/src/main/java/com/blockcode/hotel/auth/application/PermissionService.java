@@ -7,6 +7,7 @@ import com.blockcode.hotel.auth.api.dto.PermissionUpdateRequest;
 import com.blockcode.hotel.auth.api.mapper.PermissionMapper;
 import com.blockcode.hotel.auth.domain.PermissionEntity;
 import com.blockcode.hotel.auth.infra.PermissionRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,10 +22,16 @@ import java.util.UUID;
 public class PermissionService {
   private final PermissionRepository permissionRepository;
   private final PermissionMapper permissionMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public PermissionService(PermissionRepository permissionRepository, PermissionMapper permissionMapper) {
+  public PermissionService(
+      PermissionRepository permissionRepository,
+      PermissionMapper permissionMapper,
+      ApplicationEventPublisher eventPublisher
+  ) {
     this.permissionRepository = permissionRepository;
     this.permissionMapper = permissionMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   public PermissionResponse create(PermissionCreateRequest request) {
@@ -38,6 +45,7 @@ public class PermissionService {
     permission.setScope(request.scope());
 
     permissionRepository.save(permission);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.permissions());
     return permissionMapper.toResponse(permission);
   }
 
@@ -60,19 +68,23 @@ public class PermissionService {
     PermissionEntity permission = permissionRepository.findByIdAndDeletedAtIsNull(id)
         .orElseThrow(() -> new AppException("NOT_FOUND", "Permission not found", HttpStatus.NOT_FOUND));
 
-    boolean changed = !Objects.equals(permission.getResource(), request.resource())
-        || !Objects.equals(permission.getAction(), request.action())
-        || !Objects.equals(permission.getScope(), request.scope());
+    // The bit_index stays with the row, so renaming would make tokens issued earlier grant the new code.
+    if (!Objects.equals(permission.getResource(), request.resource())
+        || !Objects.equals(permission.getAction(), request.action())) {
+      throw new AppException("PERMISSION_RENAME_NOT_ALLOWED",
+          "Resource and action cannot be changed; create a new permission and delete this one",
+          HttpStatus.CONFLICT);
+    }
+    boolean changed = !Objects.equals(permission.getScope(), request.scope());
 
     if (changed && permissionRepository.existsActive(request.resource(), request.action(), request.scope())) {
       throw new AppException("PERMISSION_EXISTS", "Permission already exists", HttpStatus.BAD_REQUEST);
     }
 
-    permission.setResource(request.resource());
-    permission.setAction(request.action());
     permission.setScope(request.scope());
 
     permissionRepository.save(permission);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.permissions());
     return permissionMapper.toResponse(permission);
   }
 
@@ -81,5 +93,6 @@ public class PermissionService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "Permission not found", HttpStatus.NOT_FOUND));
     permission.setDeletedAt(Instant.now());
     permissionRepository.save(permission);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.permissions());
   }
 }
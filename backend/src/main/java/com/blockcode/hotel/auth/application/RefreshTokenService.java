@@ -0,0 +1,122 @@
+package com.blockcode.hotel.auth.application;
+
+import com.blockcode.hotel.auth.domain.RefreshTokenEntity;
+import com.blockcode.hotel.auth.domain.TokenSubjectType;
+import com.blockcode.hotel.auth.infra.RefreshTokenRepository;
+import com.blockcode.hotel.auth.security.JwtProperties;
+import com.blockcode.hotel.common.exception.AppException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque, rotating refresh tokens for staff users and customers. A refresh is one lookup by the token's hash and
+ * one conditional update; no password hashing is involved. Each token can be used once: the successor belongs to
+ * the same family, and presenting an already used token is treated as theft and revokes the whole family.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+  private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+  private static final int TOKEN_BYTES = 32;
+
+  private final RefreshTokenRepository refreshTokenRepository;
+  private final JwtProperties properties;
+  private final SecureRandom random = new SecureRandom();
+
+  public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, JwtProperties properties) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.properties = properties;
+  }
+
+  /** Starts a new token family, e.g. on password login. */
+  public String issue(UUID subjectId, TokenSubjectType subjectType) {
+    return issue(UUID.randomUUID(), subjectId, subjectType, Instant.now());
+  }
+
+  /** Consumes the presented token and returns its subject with a successor token. */
+  public Rotation rotate(String rawToken, TokenSubjectType subjectType) {
+    Instant now = Instant.now();
+    RefreshTokenEntity token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+        .filter(found -> found.getSubjectType() == subjectType)
+        .orElseThrow(RefreshTokenService::invalid);
+    if (token.getRevokedAt() != null || !token.getExpiresAt().isAfter(now)) {
+      throw invalid();
+    }
+
+    if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+      refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+      log.warn("Refresh token reuse detected for {} {}; token family {} revoked",
+          subjectType, token.getSubjectId(), token.getFamilyId());
+      throw invalid();
+    }
+
+    String successor = issue(token.getFamilyId(), token.getSubjectId(), subjectType, now);
+    return new Rotation(token.getSubjectId(), successor);
+  }
+
+  /** Revokes the family of the presented token, e.g. on logout. Unknown tokens are ignored. */
+  public void revoke(String rawToken) {
+    refreshTokenRepository.findByTokenHash(hash(rawToken))
+        .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), Instant.now()));
+  }
+
+  /** Revokes every refresh token of the subject, e.g. when the account is suspended. */
+  public void revokeSubject(UUID subjectId) {
+    refreshTokenRepository.revokeBySubject(subjectId, Instant.now());
+  }
+
+  public long getRefreshTokenTtlSeconds() {
+    return properties.getRefreshTokenTtlSeconds();
+  }
+
+  @Scheduled(cron = "${app.security.jwt.refresh-token-purge-cron:0 50 * * * *}")
+  public int purgeExpired() {
+    return refreshTokenRepository.deleteExpired(Instant.now());
+  }
+
+  private String issue(UUID familyId, UUID subjectId, TokenSubjectType subjectType, Instant now) {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+    RefreshTokenEntity token = new RefreshTokenEntity();
+    token.setId(UUID.randomUUID());
+    token.setFamilyId(familyId);
+    token.setSubjectId(subjectId);
+    token.setSubjectType(subjectType);
+    token.setTokenHash(hash(rawToken));
+    token.setExpiresAt(now.plusSeconds(properties.getRefreshTokenTtlSeconds()));
+    token.setCreatedAt(now);
+    refreshTokenRepository.save(token);
+    return rawToken;
+  }
+
+  private static String hash(String rawToken) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static AppException invalid() {
+    return new AppException("INVALID_REFRESH_TOKEN", "Refresh token is invalid or expired", HttpStatus.UNAUTHORIZED);
+  }
+
+  public record Rotation(UUID subjectId, String refreshToken) {
+  }
+}
@@ -17,6 +17,7 @@ import com.blockcode.hotel.auth.infra.RolePermissionRepository;
 import com.blockcode.hotel.auth.infra.RoleRepository;
 import com.blockcode.hotel.auth.infra.RoleSubmenuRepository;
 import com.blockcode.hotel.auth.infra.SubmenuRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +37,7 @@ public class RoleService {
   private final RolePermissionRepository rolePermissionRepository;
   private final RoleSubmenuRepository roleSubmenuRepository;
   private final RoleMapper roleMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   public RoleService(
       RoleRepository roleRepository,
@@ -43,7 +45,8 @@ public class RoleService {
       SubmenuRepository submenuRepository,
       RolePermissionRepository rolePermissionRepository,
       RoleSubmenuRepository roleSubmenuRepository,
-      RoleMapper roleMapper
+      RoleMapper roleMapper,
+      ApplicationEventPublisher eventPublisher
   ) {
     this.roleRepository = roleRepository;
     this.permissionRepository = permissionRepository;
@@ -51,6 +54,7 @@ public class RoleService {
     this.rolePermissionRepository = rolePermissionRepository;
     this.roleSubmenuRepository = roleSubmenuRepository;
     this.roleMapper = roleMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   public RoleResponse create(RoleCreateRequest request) {
@@ -92,6 +96,7 @@ public class RoleService {
     }
 
     roleRepository.save(role);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.roles());
     return roleMapper.toResponse(role);
   }
 
@@ -100,6 +105,7 @@ public class RoleService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "Role not found", HttpStatus.NOT_FOUND));
     role.setDeletedAt(Instant.now());
     roleRepository.save(role);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.roles());
   }
 
   @Transactional(readOnly = true)
@@ -162,6 +168,7 @@ public class RoleService {
           .toList();
       roleSubmenuRepository.saveAll(mappings);
     }
+    eventPublisher.publishEvent(AuthorizationChangedEvent.roles());
 
     return submenuIds;
   }
@@ -9,6 +9,7 @@ import com.blockcode.hotel.auth.domain.MenuEntity;
 import com.blockcode.hotel.auth.domain.SubmenuEntity;
 import com.blockcode.hotel.auth.infra.MenuRepository;
 import com.blockcode.hotel.auth.infra.SubmenuRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,15 +24,18 @@ public class SubmenuService {
   private final SubmenuRepository submenuRepository;
   private final MenuRepository menuRepository;
   private final SubmenuMapper submenuMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   public SubmenuService(
       SubmenuRepository submenuRepository,
       MenuRepository menuRepository,
-      SubmenuMapper submenuMapper
+      SubmenuMapper submenuMapper,
+      ApplicationEventPublisher eventPublisher
   ) {
     this.submenuRepository = submenuRepository;
     this.menuRepository = menuRepository;
     this.submenuMapper = submenuMapper;
+    this.eventPublisher = eventPublisher;
   }
 
   public SubmenuResponse create(SubmenuCreateRequest request) {
@@ -50,6 +54,7 @@ public class SubmenuService {
     submenu.setSortOrder(request.sortOrder() == null ? 0 : request.sortOrder());
 
     submenuRepository.save(submenu);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.menus());
     return submenuMapper.toResponse(submenu);
   }
 
@@ -105,6 +110,7 @@ public class SubmenuService {
     }
 
     submenuRepository.save(submenu);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.menus());
     return submenuMapper.toResponse(submenu);
   }
 
@@ -113,5 +119,6 @@ public class SubmenuService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "Submenu not found", HttpStatus.NOT_FOUND));
     submenu.setDeletedAt(Instant.now());
     submenuRepository.save(submenu);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.menus());
   }
 }
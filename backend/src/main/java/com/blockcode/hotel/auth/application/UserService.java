@@ -14,6 +14,9 @@ import com.blockcode.hotel.auth.domain.UserStatus;
 import com.blockcode.hotel.auth.infra.RoleRepository;
 import com.blockcode.hotel.auth.infra.UserRepository;
 import com.blockcode.hotel.auth.infra.UserRoleRepository;
+import com.blockcode.hotel.auth.security.ApiKeyAuthenticator;
+import com.blockcode.hotel.auth.security.TokenRevocationList;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -36,19 +39,31 @@ public class UserService {
   private final UserRoleRepository userRoleRepository;
   private final UserMapper userMapper;
   private final PasswordEncoder passwordEncoder;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TokenRevocationList revocationList;
+  private final RefreshTokenService refreshTokenService;
+  private final ApiKeyAuthenticator apiKeyAuthenticator;
 
   public UserService(
       UserRepository userRepository,
       RoleRepository roleRepository,
       UserRoleRepository userRoleRepository,
       UserMapper userMapper,
-      PasswordEncoder passwordEncoder
+      PasswordEncoder passwordEncoder,
+      ApplicationEventPublisher eventPublisher,
+      TokenRevocationList revocationList,
+      RefreshTokenService refreshTokenService,
+      ApiKeyAuthenticator apiKeyAuthenticator
   ) {
     this.userRepository = userRepository;
     this.roleRepository = roleRepository;
     this.userRoleRepository = userRoleRepository;
     this.userMapper = userMapper;
     this.passwordEncoder = passwordEncoder;
+    this.eventPublisher = eventPublisher;
+    this.revocationList = revocationList;
+    this.refreshTokenService = refreshTokenService;
+    this.apiKeyAuthenticator = apiKeyAuthenticator;
   }
 
   public UserResponse create(UserCreateRequest request) {
@@ -112,8 +127,13 @@ public class UserService {
       user.setEmail(request.email());
     }
 
-    if (request.status() != null) {
+    if (request.status() != null && request.status() != user.getStatus()) {
       user.setStatus(request.status());
+      if (request.status() != UserStatus.ACTIVE) {
+        revocationList.revokeSubject(id, "USER_" + request.status().name());
+        refreshTokenService.revokeSubject(id);
+        apiKeyAuthenticator.invalidate();
+      }
     }
 
     if (request.propertyId() != null) {
@@ -157,6 +177,9 @@ public class UserService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "User not found", HttpStatus.NOT_FOUND));
     user.setDeletedAt(Instant.now());
     userRepository.save(user);
+    revocationList.revokeSubject(id, "USER_DELETED");
+    refreshTokenService.revokeSubject(id);
+    apiKeyAuthenticator.invalidate();
   }
 
   private void replaceRolesInternal(UUID userId, List<UUID> roleIds) {
@@ -168,6 +191,7 @@ public class UserService {
     }
 
     userRoleRepository.deleteByUserId(userId);
+    eventPublisher.publishEvent(AuthorizationChangedEvent.roles());
 
     if (roleIds.isEmpty()) {
       return;
@@ -0,0 +1,108 @@
+package com.blockcode.hotel.auth.domain;
+
+import com.blockcode.hotel.common.domain.AuditableEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Entity
+@Table(name = "api_keys")
+public class ApiKeyEntity extends AuditableEntity {
+  @Id
+  @GeneratedValue
+  @UuidGenerator
+  @Column(name = "id", columnDefinition = "uuid")
+  private UUID id;
+
+  @Column(name = "name", nullable = false)
+  private String name;
+
+  @Column(name = "key_prefix", nullable = false)
+  private String keyPrefix;
+
+  @Column(name = "key_hash", nullable = false)
+  private String keyHash;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "permissions", columnDefinition = "jsonb", nullable = false)
+  private List<String> permissions = new ArrayList<>();
+
+  @Column(name = "owner_user_id", nullable = false)
+  private UUID ownerUserId;
+
+  @Column(name = "expires_at")
+  private Instant expiresAt;
+
+  @Column(name = "revoked_at")
+  private Instant revokedAt;
+
+  public UUID getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getKeyPrefix() {
+    return keyPrefix;
+  }
+
+  public void setKeyPrefix(String keyPrefix) {
+    this.keyPrefix = keyPrefix;
+  }
+
+  public String getKeyHash() {
+    return keyHash;
+  }
+
+  public void setKeyHash(String keyHash) {
+    this.keyHash = keyHash;
+  }
+
+  public List<String> getPermissions() {
+    return permissions;
+  }
+
+  public void setPermissions(List<String> permissions) {
+    this.permissions = permissions;
+  }
+
+  public UUID getOwnerUserId() {
+    return ownerUserId;
+  }
+
+  public void setOwnerUserId(UUID ownerUserId) {
+    this.ownerUserId = ownerUserId;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Instant expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+
+  public Instant getRevokedAt() {
+    return revokedAt;
+  }
+
+  public void setRevokedAt(Instant revokedAt) {
+    this.revokedAt = revokedAt;
+  }
+}
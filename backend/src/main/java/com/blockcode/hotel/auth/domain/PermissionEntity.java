@@ -28,6 +28,10 @@ public class PermissionEntity extends AuditableEntity {
   @Column(name = "scope")
   private String scope;
 
+  // Assigned by the database sequence; see PermissionRegistry.
+  @Column(name = "bit_index", insertable = false, updatable = false)
+  private Integer bitIndex;
+
   public UUID getId() {
     return id;
   }
@@ -59,4 +63,8 @@ public class PermissionEntity extends AuditableEntity {
   public void setScope(String scope) {
     this.scope = scope;
   }
+
+  public Integer getBitIndex() {
+    return bitIndex;
+  }
 }
@@ -0,0 +1,119 @@
+package com.blockcode.hotel.auth.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "refresh_tokens")
+public class RefreshTokenEntity {
+  @Id
+  @Column(name = "id", columnDefinition = "uuid")
+  private UUID id;
+
+  @Column(name = "family_id", nullable = false)
+  private UUID familyId;
+
+  @Column(name = "subject_id", nullable = false)
+  private UUID subjectId;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "subject_type", nullable = false)
+  private TokenSubjectType subjectType;
+
+  @Column(name = "token_hash", nullable = false)
+  private String tokenHash;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  @Column(name = "used_at")
+  private Instant usedAt;
+
+  @Column(name = "revoked_at")
+  private Instant revokedAt;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public UUID getFamilyId() {
+    return familyId;
+  }
+
+  public void setFamilyId(UUID familyId) {
+    this.familyId = familyId;
+  }
+
+  public UUID getSubjectId() {
+    return subjectId;
+  }
+
+  public void setSubjectId(UUID subjectId) {
+    this.subjectId = subjectId;
+  }
+
+  public TokenSubjectType getSubjectType() {
+    return subjectType;
+  }
+
+  public void setSubjectType(TokenSubjectType subjectType) {
+    this.subjectType = subjectType;
+  }
+
+  public String getTokenHash() {
+    return tokenHash;
+  }
+
+  public void setTokenHash(String tokenHash) {
+    this.tokenHash = tokenHash;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Instant expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+
+  public Instant getUsedAt() {
+    return usedAt;
+  }
+
+  public void setUsedAt(Instant usedAt) {
+    this.usedAt = usedAt;
+  }
+
+  public Instant getRevokedAt() {
+    return revokedAt;
+  }
+
+  public void setRevokedAt(Instant revokedAt) {
+    this.revokedAt = revokedAt;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+}
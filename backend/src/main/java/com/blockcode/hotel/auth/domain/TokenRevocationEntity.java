@@ -0,0 +1,75 @@
+package com.blockcode.hotel.auth.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "token_revocations")
+public class TokenRevocationEntity {
+  @Id
+  @Column(name = "target_id", columnDefinition = "uuid")
+  private UUID targetId;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "scope", nullable = false)
+  private TokenRevocationScope scope;
+
+  @Column(name = "reason")
+  private String reason;
+
+  @Column(name = "revoked_at", nullable = false)
+  private Instant revokedAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  public UUID getTargetId() {
+    return targetId;
+  }
+
+  public void setTargetId(UUID targetId) {
+    this.targetId = targetId;
+  }
+
+  public TokenRevocationScope getScope() {
+    return scope;
+  }
+
+  public void setScope(TokenRevocationScope scope) {
+    this.scope = scope;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+
+  public void setReason(String reason) {
+    this.reason = reason;
+  }
+
+  public Instant getRevokedAt() {
+    return revokedAt;
+  }
+
+  public void setRevokedAt(Instant revokedAt) {
+    this.revokedAt = revokedAt;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Instant expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
@@ -0,0 +1,6 @@
+package com.blockcode.hotel.auth.domain;
+
+public enum TokenSubjectType {
+  USER,
+  CUSTOMER
+}
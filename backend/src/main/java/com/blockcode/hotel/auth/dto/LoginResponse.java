@@ -3,6 +3,7 @@ package com.blockcode.hotel.auth.dto;
 public record LoginResponse(
     String accessToken,
     String tokenType,
-    long expiresInSeconds
+    long expiresInSeconds,
+    String refreshToken
 ) {
 }
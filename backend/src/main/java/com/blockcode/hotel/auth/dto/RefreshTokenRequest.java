@@ -0,0 +1,8 @@
+package com.blockcode.hotel.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+    @NotBlank String refreshToken
+) {
+}
@@ -0,0 +1,16 @@
+package com.blockcode.hotel.auth.infra;
+
+import com.blockcode.hotel.auth.domain.ApiKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ApiKeyRepository extends JpaRepository<ApiKeyEntity, UUID> {
+  Optional<ApiKeyEntity> findByKeyHashAndRevokedAtIsNullAndDeletedAtIsNull(String keyHash);
+
+  Optional<ApiKeyEntity> findByIdAndDeletedAtIsNull(UUID id);
+
+  List<ApiKeyEntity> findAllByDeletedAtIsNullOrderByCreatedAtDesc();
+}
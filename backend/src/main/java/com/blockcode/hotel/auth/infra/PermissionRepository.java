@@ -15,6 +15,10 @@ public interface PermissionRepository extends JpaRepository<PermissionEntity, UU
 
   List<PermissionEntity> findAllByDeletedAtIsNullOrderByResourceAscActionAsc();
 
+  /** Rows are [bit index, permission code] for every active permission. */
+  @Query("select p.bitIndex, concat(p.resource, '.', p.action) from PermissionEntity p where p.deletedAt is null")
+  List<Object[]> findActiveBitIndexes();
+
   long countByIdInAndDeletedAtIsNull(Collection<UUID> ids);
 
   @Query("select case when count(p) > 0 then true else false end from PermissionEntity p " +
@@ -0,0 +1,51 @@
+package com.blockcode.hotel.auth.infra;
+
+import com.blockcode.hotel.auth.domain.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+  Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+  /** Returns 1 for the one caller that gets to rotate the token, 0 if it was already used or revoked. */
+  @Modifying
+  @Query(
+      value = "update refresh_tokens set used_at = :now " +
+          "where id = :id and used_at is null and revoked_at is null",
+      nativeQuery = true
+  )
+  int markUsed(@Param("id") UUID id, @Param("now") Instant now);
+
+  /**
+   * Runs in its own transaction so a family revoked on token reuse stays revoked when the refresh request
+   * itself fails.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query(
+      value = "update refresh_tokens set revoked_at = :now where family_id = :familyId and revoked_at is null",
+      nativeQuery = true
+  )
+  int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query(
+      value = "update refresh_tokens set revoked_at = :now where subject_id = :subjectId and revoked_at is null",
+      nativeQuery = true
+  )
+  int revokeBySubject(@Param("subjectId") UUID subjectId, @Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from refresh_tokens where expires_at <= :now", nativeQuery = true)
+  int deleteExpired(@Param("now") Instant now);
+}
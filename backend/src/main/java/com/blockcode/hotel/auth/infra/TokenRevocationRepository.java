@@ -0,0 +1,45 @@
+package com.blockcode.hotel.auth.infra;
+
+import com.blockcode.hotel.auth.domain.TokenRevocationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocationEntity, UUID> {
+  /** Re-revoking keeps the latest cut-off and the longest expiry. */
+  @Transactional
+  @Modifying
+  @Query(
+      value = "insert into token_revocations (target_id, scope, reason, revoked_at, expires_at) " +
+          "values (:targetId, cast(:scope as token_revocation_scope), :reason, :revokedAt, :expiresAt) " +
+          "on conflict (target_id) do update set " +
+          "reason = excluded.reason, " +
+          "revoked_at = greatest(token_revocations.revoked_at, excluded.revoked_at), " +
+          "expires_at = greatest(token_revocations.expires_at, excluded.expires_at)",
+      nativeQuery = true
+  )
+  int upsert(
+      @Param("targetId") UUID targetId,
+      @Param("scope") String scope,
+      @Param("reason") String reason,
+      @Param("revokedAt") Instant revokedAt,
+      @Param("expiresAt") Instant expiresAt);
+
+  /** Rows are [target id, scope]. */
+  @Query(
+      value = "select target_id, cast(scope as text) from token_revocations where expires_at > :now",
+      nativeQuery = true
+  )
+  List<Object[]> findActiveTargets(@Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from token_revocations where expires_at <= :now", nativeQuery = true)
+  int deleteExpired(@Param("now") Instant now);
+}
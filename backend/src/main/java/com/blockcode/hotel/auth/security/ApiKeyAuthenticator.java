@@ -0,0 +1,138 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.auth.application.AuthorizationChangedEvent;
+import com.blockcode.hotel.auth.domain.ApiKeyEntity;
+import com.blockcode.hotel.auth.domain.UserStatus;
+import com.blockcode.hotel.auth.infra.ApiKeyRepository;
+import com.blockcode.hotel.auth.infra.AuthorizationRepository;
+import com.blockcode.hotel.auth.infra.UserRepository;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Authenticates machine clients by API key. Keys are stored as HMAC-SHA256 under a server secret, so a lookup
+ * costs one keyed hash and, on a cache miss, one unique-index read; there is no per-request password hashing.
+ * The resulting authentication acts for the key's owner with the key's permissions that the owner still holds.
+ */
+@Component
+public class ApiKeyAuthenticator {
+  public static final String HEADER = "X-API-Key";
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private final ApiKeyRepository apiKeyRepository;
+  private final UserRepository userRepository;
+  private final AuthorizationRepository authorizationRepository;
+  private final ApiKeyProperties properties;
+  private final SecretKeySpec hashKey;
+  private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+  public ApiKeyAuthenticator(
+      ApiKeyRepository apiKeyRepository,
+      UserRepository userRepository,
+      AuthorizationRepository authorizationRepository,
+      ApiKeyProperties properties
+  ) {
+    this.apiKeyRepository = apiKeyRepository;
+    this.userRepository = userRepository;
+    this.authorizationRepository = authorizationRepository;
+    this.properties = properties;
+    this.hashKey = new SecretKeySpec(properties.getHashSecret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+  }
+
+  /** Returns null for unknown, revoked or expired keys, and for keys whose owner is no longer active. */
+  public Authentication authenticate(String rawKey) {
+    String keyHash = hash(rawKey);
+    long now = System.currentTimeMillis();
+    Entry entry = cache.get(keyHash);
+    if (entry != null && entry.expiresAtMillis() > now) {
+      return entry.authentication();
+    }
+
+    ApiKeyEntity apiKey = apiKeyRepository.findByKeyHashAndRevokedAtIsNullAndDeletedAtIsNull(keyHash).orElse(null);
+    if (apiKey == null || (apiKey.getExpiresAt() != null && !apiKey.getExpiresAt().isAfter(Instant.ofEpochMilli(now)))) {
+      cache.remove(keyHash);
+      return null;
+    }
+    boolean ownerActive = userRepository.findByIdAndDeletedAtIsNull(apiKey.getOwnerUserId())
+        .filter(user -> user.getStatus() == UserStatus.ACTIVE)
+        .isPresent();
+    if (!ownerActive) {
+      cache.remove(keyHash);
+      return null;
+    }
+
+    // A key never outlives its owner's roles: permissions the owner has since lost are dropped.
+    Set<String> ownerPermissions =
+        new HashSet<>(authorizationRepository.findPermissionCodesByUserId(apiKey.getOwnerUserId()));
+    List<GrantedAuthority> authorities = apiKey.getPermissions().stream()
+        .filter(ownerPermissions::contains)
+        .map(code -> (GrantedAuthority) new SimpleGrantedAuthority(code))
+        .toList();
+    UsernamePasswordAuthenticationToken auth =
+        new UsernamePasswordAuthenticationToken(apiKey.getOwnerUserId().toString(), null, authorities);
+    auth.setDetails(new ApiKeyDetails(apiKey.getId(), apiKey.getName()));
+
+    long expiresAt = now + properties.getCacheTtl().toMillis();
+    if (apiKey.getExpiresAt() != null) {
+      expiresAt = Math.min(expiresAt, apiKey.getExpiresAt().toEpochMilli());
+    }
+    if (cache.size() >= properties.getCacheMaxEntries()) {
+      cache.clear();
+    }
+    cache.put(keyHash, new Entry(auth, expiresAt));
+    return auth;
+  }
+
+  public String hash(String rawKey) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(hashKey);
+      return HexFormat.of().formatHex(mac.doFinal(rawKey.getBytes(StandardCharsets.UTF_8)));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /** Drops every cached key, e.g. after a key is revoked or its owner suspended on this node. */
+  public void invalidate() {
+    cache.clear();
+    // A concurrent request may re-cache the old key before the write commits, so clear again afterwards.
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.clear();
+        }
+      });
+    }
+  }
+
+  /** Cached authorities were intersected with the owner's previous roles. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+    if (event.kind() != AuthorizationChangedEvent.Kind.MENUS) {
+      cache.clear();
+    }
+  }
+
+  private record Entry(Authentication authentication, long expiresAtMillis) {
+  }
+}
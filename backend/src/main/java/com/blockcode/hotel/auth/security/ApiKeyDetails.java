@@ -0,0 +1,7 @@
+package com.blockcode.hotel.auth.security;
+
+import java.util.UUID;
+
+/** Attached as the authentication's details for requests made with an API key. */
+public record ApiKeyDetails(UUID apiKeyId, String name) {
+}
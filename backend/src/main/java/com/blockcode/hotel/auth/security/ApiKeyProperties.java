@@ -0,0 +1,40 @@
+package com.blockcode.hotel.auth.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.security.api-keys")
+public class ApiKeyProperties {
+  /** HMAC secret for stored key hashes. Changing it invalidates every issued key. */
+  private String hashSecret = "change-me";
+  /** How long a verified key is trusted without a database lookup; also bounds how late a revocation applies. */
+  private Duration cacheTtl = Duration.ofMinutes(1);
+  private int cacheMaxEntries = 1000;
+
+  public String getHashSecret() {
+    return hashSecret;
+  }
+
+  public void setHashSecret(String hashSecret) {
+    this.hashSecret = hashSecret;
+  }
+
+  public Duration getCacheTtl() {
+    return cacheTtl;
+  }
+
+  public void setCacheTtl(Duration cacheTtl) {
+    this.cacheTtl = cacheTtl;
+  }
+
+  public int getCacheMaxEntries() {
+    return cacheMaxEntries;
+  }
+
+  public void setCacheMaxEntries(int cacheMaxEntries) {
+    this.cacheMaxEntries = cacheMaxEntries;
+  }
+}
@@ -0,0 +1,70 @@
+package com.blockcode.hotel.auth.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over UUIDs. Lookups hash the UUID's two longs directly, so a membership test allocates
+ * nothing and touches {@code hashes} words. Adds are safe to run concurrently with lookups.
+ */
+final class BloomFilter {
+  private final AtomicLongArray words;
+  private final int bitCount;
+  private final int hashes;
+
+  private BloomFilter(int bitCount, int hashes) {
+    this.words = new AtomicLongArray(bitCount >>> 6);
+    this.bitCount = bitCount;
+    this.hashes = hashes;
+  }
+
+  /** Sized for {@code expectedEntries} at the given false positive rate. */
+  static BloomFilter create(int expectedEntries, double falsePositiveRate) {
+    int n = Math.max(1, expectedEntries);
+    double bits = -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+    int words = (int) Math.min(Integer.MAX_VALUE >>> 6, Math.max(1, (long) Math.ceil(bits / 64)));
+    int bitCount = words << 6;
+    int hashes = (int) Math.max(1, Math.round((double) bitCount / n * Math.log(2)));
+    return new BloomFilter(bitCount, Math.min(hashes, 16));
+  }
+
+  void add(UUID value, long salt) {
+    long h1 = mix(value.getMostSignificantBits() ^ salt);
+    long h2 = mix(value.getLeastSignificantBits() + h1) | 1;
+    for (int i = 0; i < hashes; i++) {
+      int bit = (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+      long mask = 1L << bit;
+      int index = bit >>> 6;
+      long word = words.get(index);
+      while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+        word = words.get(index);
+      }
+    }
+  }
+
+  boolean mightContain(UUID value, long salt) {
+    long h1 = mix(value.getMostSignificantBits() ^ salt);
+    long h2 = mix(value.getLeastSignificantBits() + h1) | 1;
+    for (int i = 0; i < hashes; i++) {
+      int bit = (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+      if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int bitCount() {
+    return bitCount;
+  }
+
+  // MurmurHash3 finalizer.
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,91 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.auth.application.AuthorizationChangedEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU of verified bearer tokens. Entries are keyed by the token's SHA-256 so raw tokens are not retained,
+ * hold the immutable {@link Authentication} built from the claims, and are dropped once the token expires.
+ */
+@Component
+public class JwtAuthenticationCache {
+  private final int maxEntries;
+  private final Map<String, Entry> entries;
+
+  public JwtAuthenticationCache(JwtProperties properties) {
+    this.maxEntries = properties.getAuthCacheMaxEntries();
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  public Authentication get(String token) {
+    if (maxEntries <= 0) {
+      return null;
+    }
+    String key = hash(token);
+    Entry entry;
+    synchronized (entries) {
+      entry = entries.get(key);
+      if (entry != null && entry.expiresAtMillis() <= System.currentTimeMillis()) {
+        entries.remove(key);
+        return null;
+      }
+    }
+    return entry != null ? entry.authentication() : null;
+  }
+
+  public void put(String token, Authentication authentication, long expiresAtMillis) {
+    if (maxEntries <= 0) {
+      return;
+    }
+    String key = hash(token);
+    synchronized (entries) {
+      entries.put(key, new Entry(authentication, expiresAtMillis));
+    }
+  }
+
+  /** Cached authorities were decoded against the old permission set. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+    if (event.kind() == AuthorizationChangedEvent.Kind.PERMISSIONS) {
+      clear();
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private record Entry(Authentication authentication, long expiresAtMillis) {
+  }
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,13 +17,32 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Authenticates bearer tokens and, for machine clients, {@link ApiKeyAuthenticator#HEADER API keys}. Requests
+ * with neither continue unauthenticated.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private final JwtService jwtService;
+  private final JwtAuthenticationCache authenticationCache;
+  private final PermissionRegistry permissionRegistry;
+  private final TokenRevocationList revocationList;
+  private final ApiKeyAuthenticator apiKeyAuthenticator;
 
-  public JwtAuthenticationFilter(JwtService jwtService) {
+  public JwtAuthenticationFilter(
+      JwtService jwtService,
+      JwtAuthenticationCache authenticationCache,
+      PermissionRegistry permissionRegistry,
+      TokenRevocationList revocationList,
+      ApiKeyAuthenticator apiKeyAuthenticator
+  ) {
     this.jwtService = jwtService;
+    this.authenticationCache = authenticationCache;
+    this.permissionRegistry = permissionRegistry;
+    this.revocationList = revocationList;
+    this.apiKeyAuthenticator = apiKeyAuthenticator;
   }
 
   @Override
@@ -31,6 +51,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       HttpServletResponse response,
       FilterChain filterChain
   ) throws ServletException, IOException {
+    String apiKey = request.getHeader(ApiKeyAuthenticator.HEADER);
+    if (apiKey != null && !apiKey.isBlank()) {
+      if (SecurityContextHolder.getContext().getAuthentication() == null) {
+        Authentication auth = apiKeyAuthenticator.authenticate(apiKey.trim());
+        if (auth != null) {
+          SecurityContextHolder.getContext().setAuthentication(auth);
+        }
+      }
+      filterChain.doFilter(request, response);
+      return;
+    }
+
     String header = request.getHeader(HttpHeaders.AUTHORIZATION);
     if (header == null || !header.startsWith("Bearer ")) {
       filterChain.doFilter(request, response);
@@ -38,29 +70,82 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     String token = header.substring(7);
-    try {
-      Claims claims = jwtService.parseClaims(token);
-      String subject = claims.getSubject();
-
-      if (subject != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        Object rawAuthorities = claims.get("authorities");
-        if (rawAuthorities instanceof List<?> list) {
-          for (Object item : list) {
-            if (item != null) {
-              authorities.add(new SimpleGrantedAuthority(item.toString()));
-            }
-          }
-        }
-
-        UsernamePasswordAuthenticationToken auth =
-            new UsernamePasswordAuthenticationToken(subject, null, authorities);
+    if (SecurityContextHolder.getContext().getAuthentication() == null) {
+      Authentication auth = authenticationCache.get(token);
+      if (auth == null) {
+        auth = authenticate(token);
+      }
+      // Checked on cache hits too: a cached token may have been revoked since it was verified.
+      if (auth != null && !revocationList.isRevoked(auth)) {
         SecurityContextHolder.getContext().setAuthentication(auth);
       }
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  private Authentication authenticate(String token) {
+    Claims claims;
+    try {
+      claims = jwtService.parseClaims(token);
     } catch (Exception ignored) {
       // Invalid token; continue without authentication
+      return null;
+    }
+    String subject = claims.getSubject();
+    if (subject == null) {
+      return null;
     }
 
-    filterChain.doFilter(request, response);
+    List<GrantedAuthority> authorities;
+    try {
+      authorities = resolveAuthorities(claims);
+    } catch (IllegalArgumentException ex) {
+      return null;
+    }
+
+    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(subject, null, authorities);
+    auth.setDetails(new JwtTokenDetails(
+        parseUuid(subject),
+        parseUuid(claims.getId()),
+        claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+        claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
+    if (claims.getExpiration() != null) {
+      authenticationCache.put(token, auth, claims.getExpiration().getTime());
+    }
+    return auth;
+  }
+
+  private List<GrantedAuthority> resolveAuthorities(Claims claims) {
+    Object bitset = claims.get(JwtService.PERMISSIONS_CLAIM);
+    List<GrantedAuthority> permissions = bitset instanceof String value
+        ? permissionRegistry.decode(value)
+        : List.of();
+
+    Object rawAuthorities = claims.get(JwtService.AUTHORITIES_CLAIM);
+    if (!(rawAuthorities instanceof List<?> list) || list.isEmpty()) {
+      // Shared list from the registry; no per-request allocation.
+      return permissions;
+    }
+
+    List<GrantedAuthority> authorities = new ArrayList<>(permissions.size() + list.size());
+    authorities.addAll(permissions);
+    for (Object item : list) {
+      if (item != null) {
+        authorities.add(new SimpleGrantedAuthority(item.toString()));
+      }
+    }
+    return List.copyOf(authorities);
+  }
+
+  private static UUID parseUuid(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException ex) {
+      return null;
+    }
   }
 }
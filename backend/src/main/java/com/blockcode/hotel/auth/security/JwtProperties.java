@@ -6,6 +6,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class JwtProperties {
   private String secret = "change-me";
   private long accessTokenTtlSeconds = 1800;
+  private long refreshTokenTtlSeconds = 1209600;
+  /** Verified tokens kept in memory so repeat requests skip signature checks and claim parsing; 0 disables. */
+  private int authCacheMaxEntries = 10000;
 
   public String getSecret() {
     return secret;
@@ -22,4 +25,20 @@ public class JwtProperties {
   public void setAccessTokenTtlSeconds(long accessTokenTtlSeconds) {
     this.accessTokenTtlSeconds = accessTokenTtlSeconds;
   }
+
+  public long getRefreshTokenTtlSeconds() {
+    return refreshTokenTtlSeconds;
+  }
+
+  public void setRefreshTokenTtlSeconds(long refreshTokenTtlSeconds) {
+    this.refreshTokenTtlSeconds = refreshTokenTtlSeconds;
+  }
+
+  public int getAuthCacheMaxEntries() {
+    return authCacheMaxEntries;
+  }
+
+  public void setAuthCacheMaxEntries(int authCacheMaxEntries) {
+    this.authCacheMaxEntries = authCacheMaxEntries;
+  }
 }
@@ -1,6 +1,7 @@
 package com.blockcode.hotel.auth.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Service;
@@ -9,42 +10,57 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class JwtService {
+  /** Permission bitset, see {@link PermissionRegistry}. */
+  public static final String PERMISSIONS_CLAIM = "perms";
+  /** Authorities that have no permission bit, as plain strings. */
+  public static final String AUTHORITIES_CLAIM = "authorities";
+
   private final JwtProperties properties;
   private final SecretKey secretKey;
+  // Immutable and thread-safe; building it per call re-resolves the key and algorithm registry every request.
+  private final JwtParser parser;
+  private final PermissionRegistry permissionRegistry;
 
-  public JwtService(JwtProperties properties) {
+  public JwtService(JwtProperties properties, PermissionRegistry permissionRegistry) {
     this.properties = properties;
+    this.permissionRegistry = permissionRegistry;
     this.secretKey = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parser().verifyWith(secretKey).build();
   }
 
   public String generateToken(UUID userId, String email, List<String> authorities) {
     Instant now = Instant.now();
     Instant expiresAt = now.plusSeconds(properties.getAccessTokenTtlSeconds());
 
+    Map<String, Object> claims = new HashMap<>();
+    claims.put("email", email);
+    PermissionRegistry.Encoded permissions = permissionRegistry.encode(authorities);
+    if (permissions.value() != null) {
+      claims.put(PERMISSIONS_CLAIM, permissions.value());
+    }
+    if (!permissions.unencoded().isEmpty()) {
+      claims.put(AUTHORITIES_CLAIM, permissions.unencoded());
+    }
+
     return Jwts.builder()
+        .id(UUID.randomUUID().toString())
         .subject(userId.toString())
         .issuedAt(Date.from(now))
         .expiration(Date.from(expiresAt))
-        .claims(Map.of(
-            "email", email,
-            "authorities", authorities
-        ))
+        .claims(claims)
         .signWith(secretKey)
         .compact();
   }
 
   public Claims parseClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(secretKey)
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+    return parser.parseSignedClaims(token).getPayload();
   }
 
   public long getAccessTokenTtlSeconds() {
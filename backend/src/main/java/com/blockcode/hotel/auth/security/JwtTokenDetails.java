@@ -0,0 +1,11 @@
+package com.blockcode.hotel.auth.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims needed after authentication, attached as the authentication's details. {@code tokenId} is null for
+ * tokens issued before the {@code jti} claim was introduced.
+ */
+public record JwtTokenDetails(UUID subjectId, UUID tokenId, Instant issuedAt, Instant expiresAt) {
+}
@@ -0,0 +1,132 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.common.exception.TooManyRequestsException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-IP and per-account token buckets for password logins, checked before any password hash is verified so
+ * rejected attempts cost no bcrypt work. Each bucket is a single {@link AtomicLong} holding the time at which it
+ * will be full again (GCRA), updated by compare-and-set; a bucket that is full again is equivalent to no bucket
+ * and is evicted by {@link #sweep()}.
+ */
+@Component
+public class LoginThrottle {
+  private final LoginThrottleProperties properties;
+  private final Limiter byIp;
+  private final Limiter byAccount;
+
+  public LoginThrottle(LoginThrottleProperties properties) {
+    this.properties = properties;
+    this.byIp = new Limiter(properties.getIpCapacity(), properties.getIpRefillPeriod().toNanos(),
+        properties.getMaxEntries());
+    this.byAccount = new Limiter(properties.getAccountCapacity(), properties.getAccountRefillPeriod().toNanos(),
+        properties.getMaxEntries());
+  }
+
+  /** Takes one attempt from both buckets or throws with the time until the next attempt is allowed. */
+  public void check(String clientIp, String account) {
+    check(clientIp, account, System.nanoTime());
+  }
+
+  /** Failed attempts before a successful login no longer count against the account. */
+  public void onSuccess(String account) {
+    if (account != null) {
+      byAccount.reset(accountKey(account));
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.security.login-throttle.sweep-delay:60000}")
+  public void sweep() {
+    sweep(System.nanoTime());
+  }
+
+  void sweep(long nowNanos) {
+    byIp.sweep(nowNanos);
+    byAccount.sweep(nowNanos);
+  }
+
+  void check(String clientIp, String account, long nowNanos) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    long waitNanos = byIp.acquire(clientIp, nowNanos);
+    if (waitNanos == 0 && account != null) {
+      waitNanos = byAccount.acquire(accountKey(account), nowNanos);
+    }
+    if (waitNanos > 0) {
+      long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+      throw new TooManyRequestsException("LOGIN_THROTTLED", "Too many login attempts, try again later", seconds);
+    }
+  }
+
+  int size() {
+    return byIp.buckets.size() + byAccount.buckets.size();
+  }
+
+  private static String accountKey(String account) {
+    return account.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static final class Limiter {
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxEntries;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private Limiter(int capacity, long intervalNanos, int maxEntries) {
+      this.intervalNanos = intervalNanos;
+      this.burstNanos = (long) Math.max(0, capacity - 1) * intervalNanos;
+      this.maxEntries = maxEntries;
+    }
+
+    /** Returns 0 when allowed, otherwise the nanoseconds until the next token. */
+    long acquire(String key, long now) {
+      if (key == null) {
+        return 0;
+      }
+      AtomicLong fullAt = buckets.get(key);
+      if (fullAt == null) {
+        if (buckets.size() >= maxEntries) {
+          sweep(now);
+        }
+        fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+      }
+      while (true) {
+        long current = fullAt.get();
+        long allowedFrom = current - burstNanos;
+        if (now - allowedFrom < 0) {
+          return allowedFrom - now;
+        }
+        long next = Math.max(current, now) + intervalNanos;
+        if (fullAt.compareAndSet(current, next)) {
+          return 0;
+        }
+      }
+    }
+
+    void reset(String key) {
+      buckets.remove(key);
+    }
+
+    void sweep(long now) {
+      if (!sweeping.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        // A caller racing with the removal may lose one attempt's worth of accounting; that is harmless here.
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+      } finally {
+        sweeping.set(false);
+      }
+    }
+  }
+}
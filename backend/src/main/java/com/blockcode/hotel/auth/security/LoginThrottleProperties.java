@@ -0,0 +1,68 @@
+package com.blockcode.hotel.auth.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.security.login-throttle")
+public class LoginThrottleProperties {
+  private boolean enabled = true;
+  /** Attempts a single client IP may burst before being held to one attempt per {@code ipRefillPeriod}. */
+  private int ipCapacity = 20;
+  private Duration ipRefillPeriod = Duration.ofSeconds(3);
+  /** Attempts against a single account, across all IPs. A successful login refills the account's bucket. */
+  private int accountCapacity = 5;
+  private Duration accountRefillPeriod = Duration.ofSeconds(30);
+  /** Buckets tracked per limiter before idle ones are evicted inline rather than by the periodic sweep. */
+  private int maxEntries = 100_000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getIpCapacity() {
+    return ipCapacity;
+  }
+
+  public void setIpCapacity(int ipCapacity) {
+    this.ipCapacity = ipCapacity;
+  }
+
+  public Duration getIpRefillPeriod() {
+    return ipRefillPeriod;
+  }
+
+  public void setIpRefillPeriod(Duration ipRefillPeriod) {
+    this.ipRefillPeriod = ipRefillPeriod;
+  }
+
+  public int getAccountCapacity() {
+    return accountCapacity;
+  }
+
+  public void setAccountCapacity(int accountCapacity) {
+    this.accountCapacity = accountCapacity;
+  }
+
+  public Duration getAccountRefillPeriod() {
+    return accountRefillPeriod;
+  }
+
+  public void setAccountRefillPeriod(Duration accountRefillPeriod) {
+    this.accountRefillPeriod = accountRefillPeriod;
+  }
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  public void setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+}
@@ -0,0 +1,130 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.auth.application.AuthorizationChangedEvent;
+import com.blockcode.hotel.auth.infra.PermissionRepository;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps permission codes to the stable {@code permissions.bit_index} positions so access tokens can carry a
+ * user's permissions as a base64url bitset instead of one string per permission. Decoded authority lists are
+ * shared: every token with the same bitset gets the same immutable list of shared authority instances.
+ */
+@Component
+public class PermissionRegistry {
+  private static final int MAX_DECODED_SETS = 1024;
+  private static final long MIN_RELOAD_INTERVAL_MILLIS = 10_000;
+
+  private final PermissionRepository permissionRepository;
+  private final Map<String, List<GrantedAuthority>> decoded = new ConcurrentHashMap<>();
+  private volatile Snapshot snapshot;
+
+  public PermissionRegistry(PermissionRepository permissionRepository) {
+    this.permissionRepository = permissionRepository;
+  }
+
+  /**
+   * Encodes the codes known to the registry; codes without a bit (e.g. customer authorities that are not
+   * stored as permissions) are returned in {@code unencoded}.
+   */
+  public Encoded encode(Collection<String> codes) {
+    Snapshot current = snapshot();
+    BitSet bits = new BitSet();
+    List<String> unencoded = new ArrayList<>();
+    for (String code : codes) {
+      Integer index = current.indexByCode().get(code);
+      if (index != null) {
+        bits.set(index);
+      } else {
+        unencoded.add(code);
+      }
+    }
+    String value = bits.isEmpty() ? null : Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+    return new Encoded(value, unencoded);
+  }
+
+  public List<GrantedAuthority> decode(String value) {
+    List<GrantedAuthority> authorities = decoded.get(value);
+    if (authorities != null) {
+      return authorities;
+    }
+
+    BitSet bits = BitSet.valueOf(Base64.getUrlDecoder().decode(value));
+    Snapshot current = snapshot();
+    if (bits.length() > current.authorities().length) {
+      // Issued by a node that already knows a newer permission.
+      current = reload(false);
+    }
+
+    List<GrantedAuthority> result = new ArrayList<>(bits.cardinality());
+    GrantedAuthority[] byIndex = current.authorities();
+    for (int i = bits.nextSetBit(0); i >= 0 && i < byIndex.length; i = bits.nextSetBit(i + 1)) {
+      // Deleted permissions have no authority and are dropped.
+      if (byIndex[i] != null) {
+        result.add(byIndex[i]);
+      }
+    }
+    authorities = List.copyOf(result);
+    if (decoded.size() >= MAX_DECODED_SETS) {
+      decoded.clear();
+    }
+    decoded.put(value, authorities);
+    return authorities;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAuthorizationChanged(AuthorizationChangedEvent event) {
+    if (event.kind() == AuthorizationChangedEvent.Kind.PERMISSIONS) {
+      reload(true);
+    }
+  }
+
+  private Snapshot snapshot() {
+    Snapshot current = snapshot;
+    return current != null ? current : reload(true);
+  }
+
+  private synchronized Snapshot reload(boolean force) {
+    Snapshot current = snapshot;
+    long now = System.currentTimeMillis();
+    if (!force && current != null && now - current.loadedAtMillis() < MIN_RELOAD_INTERVAL_MILLIS) {
+      return current;
+    }
+
+    List<Object[]> rows = permissionRepository.findActiveBitIndexes();
+    int size = 0;
+    for (Object[] row : rows) {
+      size = Math.max(size, ((Number) row[0]).intValue() + 1);
+    }
+    GrantedAuthority[] authorities = new GrantedAuthority[size];
+    Map<String, Integer> indexByCode = new HashMap<>(rows.size() * 2);
+    for (Object[] row : rows) {
+      int index = ((Number) row[0]).intValue();
+      String code = (String) row[1];
+      authorities[index] = new SimpleGrantedAuthority(code);
+      indexByCode.putIfAbsent(code, index);
+    }
+
+    Snapshot loaded = new Snapshot(authorities, Map.copyOf(indexByCode), now);
+    snapshot = loaded;
+    decoded.clear();
+    return loaded;
+  }
+
+  public record Encoded(String value, List<String> unencoded) {
+  }
+
+  private record Snapshot(GrantedAuthority[] authorities, Map<String, Integer> indexByCode, long loadedAtMillis) {
+  }
+}
@@ -0,0 +1,154 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.auth.domain.TokenRevocationEntity;
+import com.blockcode.hotel.auth.domain.TokenRevocationScope;
+import com.blockcode.hotel.auth.infra.TokenRevocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Revoked access tokens, checked on every authenticated request. Revocations live in {@code token_revocations};
+ * this node keeps a Bloom filter of them so the common case, a token that was never revoked, is answered
+ * without touching the database. Only possible hits fall back to an exact lookup by primary key.
+ *
+ * <p>Revocations made here are added to the filter immediately. Revocations made on other nodes are picked up
+ * when the filter is rebuilt, every {@code app.security.jwt.revocation-refresh-delay} milliseconds.
+ */
+@Component
+public class TokenRevocationList {
+  private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+  private static final int MIN_CAPACITY = 1024;
+  // Keeps a token id and a subject id with the same value from sharing filter bits.
+  private static final long TOKEN_SALT = 0x6a09e667f3bcc908L;
+  private static final long SUBJECT_SALT = 0xbb67ae8584caa73bL;
+  // A token issued just before a subject revocation stays valid for at most its TTL, plus clock skew.
+  private static final long SUBJECT_EXPIRY_SKEW_SECONDS = 60;
+  private static final long RECENT_RETENTION_MILLIS = 5 * 60 * 1000;
+
+  private final TokenRevocationRepository repository;
+  private final JwtProperties properties;
+  private final Object refreshLock = new Object();
+  // Revocations made on this node that a rebuild might not see yet, e.g. because their transaction is still open.
+  private final Deque<Recent> recent = new ArrayDeque<>();
+  private volatile BloomFilter filter;
+
+  public TokenRevocationList(TokenRevocationRepository repository, JwtProperties properties) {
+    this.repository = repository;
+    this.properties = properties;
+  }
+
+  public boolean isRevoked(Authentication authentication) {
+    if (!(authentication.getDetails() instanceof JwtTokenDetails details)) {
+      return false;
+    }
+    BloomFilter current = filter();
+    boolean tokenHit = details.tokenId() != null && current.mightContain(details.tokenId(), TOKEN_SALT);
+    boolean subjectHit = details.subjectId() != null && current.mightContain(details.subjectId(), SUBJECT_SALT);
+    if (!tokenHit && !subjectHit) {
+      return false;
+    }
+
+    Instant now = Instant.now();
+    if (tokenHit) {
+      Optional<TokenRevocationEntity> row = repository.findById(details.tokenId());
+      if (row.isPresent() && row.get().getScope() == TokenRevocationScope.TOKEN && row.get().getExpiresAt().isAfter(now)) {
+        return true;
+      }
+    }
+    if (subjectHit) {
+      Optional<TokenRevocationEntity> row = repository.findById(details.subjectId());
+      // iat has second precision, so a token issued within the same second as the revocation is revoked too.
+      return row.isPresent()
+          && row.get().getScope() == TokenRevocationScope.SUBJECT
+          && row.get().getExpiresAt().isAfter(now)
+          && (details.issuedAt() == null || !details.issuedAt().isAfter(row.get().getRevokedAt()));
+    }
+    return false;
+  }
+
+  /** Revokes a single token until it would have expired anyway. */
+  public void revokeToken(UUID tokenId, Instant expiresAt, String reason) {
+    remember(tokenId, TOKEN_SALT);
+    repository.upsert(tokenId, TokenRevocationScope.TOKEN.name(), reason, Instant.now(), expiresAt);
+  }
+
+  /** Revokes every token issued to the subject so far; tokens issued afterwards are unaffected. */
+  public void revokeSubject(UUID subjectId, String reason) {
+    Instant now = Instant.now();
+    Instant expiresAt = now.plusSeconds(properties.getAccessTokenTtlSeconds() + SUBJECT_EXPIRY_SKEW_SECONDS);
+    remember(subjectId, SUBJECT_SALT);
+    repository.upsert(subjectId, TokenRevocationScope.SUBJECT.name(), reason, now, expiresAt);
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.security.jwt.revocation-refresh-delay:30000}",
+      initialDelayString = "${app.security.jwt.revocation-refresh-delay:30000}")
+  public void refresh() {
+    synchronized (refreshLock) {
+      BloomFilter next = load();
+      synchronized (this) {
+        long cutoff = System.currentTimeMillis() - RECENT_RETENTION_MILLIS;
+        while (!recent.isEmpty() && recent.peekFirst().atMillis() < cutoff) {
+          recent.removeFirst();
+        }
+        for (Recent entry : recent) {
+          next.add(entry.id(), entry.salt());
+        }
+        filter = next;
+      }
+    }
+  }
+
+  @Scheduled(cron = "${app.security.jwt.revocation-purge-cron:0 40 * * * *}")
+  public int purgeExpired() {
+    return repository.deleteExpired(Instant.now());
+  }
+
+  private BloomFilter filter() {
+    BloomFilter current = filter;
+    if (current != null) {
+      return current;
+    }
+    synchronized (refreshLock) {
+      if (filter == null) {
+        refresh();
+      }
+      return filter;
+    }
+  }
+
+  private BloomFilter load() {
+    List<Object[]> rows = repository.findActiveTargets(Instant.now());
+    // Headroom for revocations added between rebuilds.
+    BloomFilter next = BloomFilter.create(Math.max(MIN_CAPACITY, rows.size() * 2), FALSE_POSITIVE_RATE);
+    for (Object[] row : rows) {
+      UUID id = (UUID) row[0];
+      TokenRevocationScope scope = TokenRevocationScope.valueOf((String) row[1]);
+      next.add(id, scope == TokenRevocationScope.TOKEN ? TOKEN_SALT : SUBJECT_SALT);
+    }
+    log.debug("Loaded {} token revocations into a {}-bit filter", rows.size(), next.bitCount());
+    return next;
+  }
+
+  private void remember(UUID id, long salt) {
+    filter();
+    synchronized (this) {
+      filter.add(id, salt);
+      recent.addLast(new Recent(id, salt, System.currentTimeMillis()));
+    }
+  }
+
+  private record Recent(UUID id, long salt, long atMillis) {
+  }
+}
@@ -0,0 +1,33 @@
+package com.blockcode.hotel.common.event;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published after writes that change reportable data. A null property or date bound means the change is not
+ * limited along that dimension.
+ */
+public record DataChangedEvent(
+    Domain domain,
+    UUID propertyId,
+    LocalDate fromDate,
+    LocalDate toDate
+) {
+  public enum Domain {
+    RESERVATIONS,
+    PAYMENTS,
+    HOUSEKEEPING
+  }
+
+  public static DataChangedEvent reservations(UUID propertyId, LocalDate fromDate, LocalDate toDate) {
+    return new DataChangedEvent(Domain.RESERVATIONS, propertyId, fromDate, toDate);
+  }
+
+  public static DataChangedEvent payments(UUID propertyId, LocalDate fromDate, LocalDate toDate) {
+    return new DataChangedEvent(Domain.PAYMENTS, propertyId, fromDate, toDate);
+  }
+
+  public static DataChangedEvent housekeeping(UUID propertyId) {
+    return new DataChangedEvent(Domain.HOUSEKEEPING, propertyId, null, null);
+  }
+}
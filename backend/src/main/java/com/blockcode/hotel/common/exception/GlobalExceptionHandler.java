@@ -1,5 +1,6 @@
 package com.blockcode.hotel.common.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -22,6 +23,14 @@ public class GlobalExceptionHandler {
         .body(AppExceptionResponse.of(e.getCode(), e.getMessage(), e.getDetails()));
   }
 
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<AppExceptionResponse> handleTooManyRequests(TooManyRequestsException e) {
+    return ResponseEntity
+        .status(e.getStatus())
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+        .body(AppExceptionResponse.of(e.getCode(), e.getMessage(), e.getDetails()));
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Object> handleValidation(MethodArgumentNotValidException e) {
     Map<String, List<String>> errors = new LinkedHashMap<>();
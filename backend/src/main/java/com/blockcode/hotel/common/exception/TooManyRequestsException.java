@@ -0,0 +1,17 @@
+package com.blockcode.hotel.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/** 429 response; {@link GlobalExceptionHandler} sends {@code retryAfterSeconds} as the Retry-After header. */
+public class TooManyRequestsException extends AppException {
+  private final long retryAfterSeconds;
+
+  public TooManyRequestsException(String code, String message, long retryAfterSeconds) {
+    super(code, message, HttpStatus.TOO_MANY_REQUESTS);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -0,0 +1,41 @@
+package com.blockcode.hotel.common.partition;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/partitions")
+@PreAuthorize("hasAuthority('rbac.ADMIN')")
+public class PartitionController {
+  private final PartitionMaintenanceService partitionMaintenanceService;
+
+  public PartitionController(PartitionMaintenanceService partitionMaintenanceService) {
+    this.partitionMaintenanceService = partitionMaintenanceService;
+  }
+
+  @GetMapping("/{table}")
+  public List<PartitionResponse> list(@PathVariable String table) {
+    return partitionMaintenanceService.list(table);
+  }
+
+  @PostMapping("/ensure")
+  public int ensure() {
+    return partitionMaintenanceService.ensurePartitions();
+  }
+
+  @PostMapping("/{table}/{month}/detach")
+  public ResponseEntity<Void> detach(@PathVariable String table,
+      @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+    partitionMaintenanceService.detach(table, month);
+    return ResponseEntity.noContent().build();
+  }
+}
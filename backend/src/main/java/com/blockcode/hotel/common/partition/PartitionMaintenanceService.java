@@ -0,0 +1,103 @@
+package com.blockcode.hotel.common.partition;
+
+import com.blockcode.hotel.common.exception.AppException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the monthly partitions of audit_logs and reservation_nights created ahead of time, and detaches old
+ * audit_logs ones for archival. Detaching uses {@code DETACH PARTITION ... CONCURRENTLY}, which only takes brief locks but
+ * cannot run inside a transaction, so this class deliberately has no {@code @Transactional} methods.
+ */
+@Service
+public class PartitionMaintenanceService {
+  private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+  private static final Set<String> TABLES = Set.of("audit_logs", "reservation_nights");
+  // Stay history backs availability, folios and reports, so only audit rows are ever taken out.
+  private static final Set<String> DETACHABLE = Set.of("audit_logs");
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PartitionProperties properties;
+
+  public PartitionMaintenanceService(JdbcTemplate jdbcTemplate, PartitionProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+  }
+
+  @Scheduled(cron = "${app.partitions.maintenance-cron:0 0 1 * * *}")
+  public int ensurePartitions() {
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    int created = ensure("audit_logs", today, today.plusMonths(properties.getAuditLogsMonthsAhead()))
+        + ensure("reservation_nights", today, today.plusMonths(properties.getReservationNightsMonthsAhead()));
+    if (created > 0) {
+      log.info("Created {} monthly partitions", created);
+    }
+    return created;
+  }
+
+  /**
+   * First stay date that is not guaranteed a reservation_nights partition. The month at the end of the horizon
+   * is excluded because it may only be created by the next daily run.
+   */
+  public LocalDate reservationNightsHorizon() {
+    return YearMonth.now(ZoneOffset.UTC).plusMonths(properties.getReservationNightsMonthsAhead()).atDay(1);
+  }
+
+  public List<PartitionResponse> list(String table) {
+    requireTable(table);
+    return jdbcTemplate.query(
+        "select c.relname, pg_get_expr(c.relpartbound, c.oid) from pg_inherits i " +
+            "join pg_class c on c.oid = i.inhrelid " +
+            "where i.inhparent = cast(? as regclass) order by c.relname",
+        (rs, rowNum) -> new PartitionResponse(table, rs.getString(1), rs.getString(2)),
+        table);
+  }
+
+  /**
+   * Detaches the audit_logs partition for {@code month}, leaving it as a standalone table to archive or drop.
+   * Only months before the current one may be detached. If the detach is interrupted, the partition is left pending and
+   * {@code ALTER TABLE ... DETACH PARTITION ... FINALIZE} completes it.
+   */
+  public void detach(String table, YearMonth month) {
+    requireTable(table);
+    if (!DETACHABLE.contains(table)) {
+      throw new AppException("PARTITION_NOT_DETACHABLE", "Partitions of " + table + " cannot be detached",
+          HttpStatus.BAD_REQUEST);
+    }
+    if (!month.isBefore(YearMonth.now(ZoneOffset.UTC))) {
+      throw new AppException("PARTITION_IN_USE", "Only past months can be detached", HttpStatus.BAD_REQUEST);
+    }
+    String partition = table + "_p" + month.format(SUFFIX);
+    boolean attached = list(table).stream().anyMatch(p -> p.partition().equals(partition));
+    if (!attached) {
+      throw new AppException("NOT_FOUND", "Partition " + partition + " is not attached", HttpStatus.NOT_FOUND);
+    }
+    // Both names come from the whitelist and a formatted YearMonth, never from raw input.
+    jdbcTemplate.execute("alter table " + table + " detach partition " + partition + " concurrently");
+    log.info("Detached partition {}", partition);
+  }
+
+  private int ensure(String table, LocalDate from, LocalDate to) {
+    Integer created = jdbcTemplate.queryForObject("select ensure_monthly_partitions(?, ?, ?)", Integer.class,
+        table, from, to);
+    return created != null ? created : 0;
+  }
+
+  private static void requireTable(String table) {
+    if (!TABLES.contains(table)) {
+      throw new AppException("NOT_FOUND", "Table " + table + " is not partitioned", HttpStatus.NOT_FOUND);
+    }
+  }
+}
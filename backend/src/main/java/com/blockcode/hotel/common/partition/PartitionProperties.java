@@ -0,0 +1,28 @@
+package com.blockcode.hotel.common.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.partitions")
+public class PartitionProperties {
+  private int auditLogsMonthsAhead = 3;
+  /** Must cover the furthest bookable stay date; nights past the last partition cannot be inserted. */
+  private int reservationNightsMonthsAhead = 36;
+
+  public int getAuditLogsMonthsAhead() {
+    return auditLogsMonthsAhead;
+  }
+
+  public void setAuditLogsMonthsAhead(int auditLogsMonthsAhead) {
+    this.auditLogsMonthsAhead = auditLogsMonthsAhead;
+  }
+
+  public int getReservationNightsMonthsAhead() {
+    return reservationNightsMonthsAhead;
+  }
+
+  public void setReservationNightsMonthsAhead(int reservationNightsMonthsAhead) {
+    this.reservationNightsMonthsAhead = reservationNightsMonthsAhead;
+  }
+}
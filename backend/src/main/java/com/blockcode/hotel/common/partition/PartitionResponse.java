@@ -0,0 +1,8 @@
+package com.blockcode.hotel.common.partition;
+
+public record PartitionResponse(
+    String table,
+    String partition,
+    String bounds
+) {
+}
@@ -16,12 +16,17 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import com.blockcode.hotel.auth.security.DomainUserDetailsService;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 
 @Configuration
 @EnableMethodSecurity
 @EnableConfigurationProperties(JwtProperties.class)
 public class SecurityConfig {
+  static final String BASIC_AUTH_PROFILE = "basic-auth";
 
   private final DomainUserDetailsService userDetailsService;
   private final PasswordEncoder passwordEncoder;
@@ -45,8 +50,8 @@ public class SecurityConfig {
   }
 
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtFilter)
-      throws Exception {
+  public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtFilter,
+      Environment environment) throws Exception {
     http
         .csrf(csrf -> csrf.disable())
         .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -55,6 +60,8 @@ public class SecurityConfig {
             .requestMatchers(
                 "/api/v1/public/auth/login",
                 "/api/v1/public/auth/register",
+                "/api/v1/public/auth/refresh",
+                "/api/v1/public/auth/logout",
                 "/api/v1/public/auth/google",
                 "/api/v1/public/auth/google/start",
                 "/api/v1/public/auth/google/callback")
@@ -65,8 +72,15 @@ public class SecurityConfig {
             .requestMatchers("/api/v1/public/**").permitAll()
             .requestMatchers("/actuator/health").permitAll()
             .anyRequest().authenticated())
-        .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
-        .httpBasic(Customizer.withDefaults());
+        .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+
+    // Basic auth sends the password on every request; integrations should use API keys instead.
+    if (environment.acceptsProfiles(Profiles.of(BASIC_AUTH_PROFILE))) {
+      http.httpBasic(Customizer.withDefaults());
+    } else {
+      http.exceptionHandling(exceptions ->
+          exceptions.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)));
+    }
 
     return http.build();
   }
@@ -4,11 +4,13 @@ import com.blockcode.hotel.customer.api.dto.CustomerAuthResponse;
 import com.blockcode.hotel.customer.api.dto.CustomerGoogleAuthRequest;
 import com.blockcode.hotel.customer.api.dto.CustomerLoginRequest;
 import com.blockcode.hotel.customer.api.dto.CustomerProfileResponse;
+import com.blockcode.hotel.customer.api.dto.CustomerRefreshRequest;
 import com.blockcode.hotel.customer.api.dto.CustomerRegisterRequest;
 import com.blockcode.hotel.customer.application.CustomerAuthService;
 import com.blockcode.hotel.customer.application.GoogleOAuthProperties;
 import com.blockcode.hotel.customer.application.GoogleOAuthService;
 import com.blockcode.hotel.customer.application.GoogleOAuthStateService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -47,8 +49,8 @@ public class CustomerAuthController {
   }
 
   @PostMapping("/login")
-  public CustomerAuthResponse login(@Valid @RequestBody CustomerLoginRequest request) {
-    return authService.login(request);
+  public CustomerAuthResponse login(@Valid @RequestBody CustomerLoginRequest request, HttpServletRequest httpRequest) {
+    return authService.login(request, httpRequest.getRemoteAddr());
   }
 
   @PostMapping("/google")
@@ -56,6 +58,17 @@ public class CustomerAuthController {
     return authService.loginWithGoogle(request);
   }
 
+  @PostMapping("/refresh")
+  public CustomerAuthResponse refresh(@Valid @RequestBody CustomerRefreshRequest request) {
+    return authService.refresh(request);
+  }
+
+  @PostMapping("/logout")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void logout(@RequestBody(required = false) CustomerRefreshRequest request) {
+    authService.logout(request);
+  }
+
   @GetMapping("/google/start")
   public ResponseEntity<Void> startGoogleLogin(@RequestParam(value = "redirect", required = false) String redirect) {
     String sanitizedRedirect = sanitizeRedirect(redirect);
@@ -4,6 +4,7 @@ public record CustomerAuthResponse(
     String accessToken,
     String tokenType,
     long expiresIn,
-    CustomerProfileResponse customer
+    CustomerProfileResponse customer,
+    String refreshToken
 ) {
 }
@@ -0,0 +1,8 @@
+package com.blockcode.hotel.customer.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record CustomerRefreshRequest(
+    @NotBlank String refreshToken
+) {
+}
@@ -1,11 +1,15 @@
 package com.blockcode.hotel.customer.application;
 
+import com.blockcode.hotel.auth.application.RefreshTokenService;
+import com.blockcode.hotel.auth.domain.TokenSubjectType;
 import com.blockcode.hotel.auth.security.JwtService;
+import com.blockcode.hotel.auth.security.LoginThrottle;
 import com.blockcode.hotel.common.exception.AppException;
 import com.blockcode.hotel.customer.api.dto.CustomerAuthResponse;
 import com.blockcode.hotel.customer.api.dto.CustomerGoogleAuthRequest;
 import com.blockcode.hotel.customer.api.dto.CustomerLoginRequest;
 import com.blockcode.hotel.customer.api.dto.CustomerProfileResponse;
+import com.blockcode.hotel.customer.api.dto.CustomerRefreshRequest;
 import com.blockcode.hotel.customer.api.dto.CustomerRegisterRequest;
 import com.blockcode.hotel.customer.domain.CustomerAuthProvider;
 import com.blockcode.hotel.customer.domain.CustomerEntity;
@@ -35,6 +39,8 @@ public class CustomerAuthService {
   private final PasswordEncoder passwordEncoder;
   private final JwtService jwtService;
   private final GoogleIdentityService googleIdentityService;
+  private final RefreshTokenService refreshTokenService;
+  private final LoginThrottle loginThrottle;
 
   public CustomerAuthService(
       CustomerRepository customerRepository,
@@ -42,7 +48,9 @@ public class CustomerAuthService {
       GuestRepository guestRepository,
       PasswordEncoder passwordEncoder,
       JwtService jwtService,
-      GoogleIdentityService googleIdentityService
+      GoogleIdentityService googleIdentityService,
+      RefreshTokenService refreshTokenService,
+      LoginThrottle loginThrottle
   ) {
     this.customerRepository = customerRepository;
     this.personRepository = personRepository;
@@ -50,6 +58,8 @@ public class CustomerAuthService {
     this.passwordEncoder = passwordEncoder;
     this.jwtService = jwtService;
     this.googleIdentityService = googleIdentityService;
+    this.refreshTokenService = refreshTokenService;
+    this.loginThrottle = loginThrottle;
   }
 
   public CustomerAuthResponse register(CustomerRegisterRequest request) {
@@ -86,7 +96,9 @@ public class CustomerAuthService {
     return buildAuthResponse(customer, person);
   }
 
-  public CustomerAuthResponse login(CustomerLoginRequest request) {
+  public CustomerAuthResponse login(CustomerLoginRequest request, String clientIp) {
+    loginThrottle.check(clientIp, request.email());
+
     CustomerEntity customer = customerRepository.findByEmailIgnoreCaseAndDeletedAtIsNull(request.email())
         .orElseThrow(() -> new AppException("INVALID_CREDENTIALS", "Invalid credentials", HttpStatus.UNAUTHORIZED));
 
@@ -101,6 +113,7 @@ public class CustomerAuthService {
     if (!passwordEncoder.matches(request.password(), customer.getPasswordHash())) {
       throw new AppException("INVALID_CREDENTIALS", "Invalid credentials", HttpStatus.UNAUTHORIZED);
     }
+    loginThrottle.onSuccess(request.email());
 
     customer.setLastLoginAt(Instant.now());
     customerRepository.save(customer);
@@ -148,6 +161,25 @@ public class CustomerAuthService {
     return buildAuthResponse(customer, person);
   }
 
+  /** Exchanges a refresh token for a new access token and a successor refresh token. */
+  public CustomerAuthResponse refresh(CustomerRefreshRequest request) {
+    RefreshTokenService.Rotation rotation =
+        refreshTokenService.rotate(request.refreshToken(), TokenSubjectType.CUSTOMER);
+    CustomerEntity customer = customerRepository.findByIdAndDeletedAtIsNull(rotation.subjectId())
+        .filter(found -> found.getStatus() == CustomerStatus.ACTIVE)
+        .orElseThrow(() -> new AppException("INVALID_REFRESH_TOKEN", "Refresh token is invalid or expired",
+            HttpStatus.UNAUTHORIZED));
+    PersonEntity person = personRepository.findByIdAndDeletedAtIsNull(customer.getPersonId())
+        .orElseThrow(() -> new AppException("NOT_FOUND", "Customer profile not found", HttpStatus.NOT_FOUND));
+    return buildAuthResponse(customer, person, rotation.refreshToken());
+  }
+
+  public void logout(CustomerRefreshRequest request) {
+    if (request != null && request.refreshToken() != null && !request.refreshToken().isBlank()) {
+      refreshTokenService.revoke(request.refreshToken());
+    }
+  }
+
   @Transactional(readOnly = true)
   public CustomerProfileResponse me(UUID customerId) {
     CustomerEntity customer = customerRepository.findByIdAndDeletedAtIsNull(customerId)
@@ -158,12 +190,17 @@ public class CustomerAuthService {
   }
 
   private CustomerAuthResponse buildAuthResponse(CustomerEntity customer, PersonEntity person) {
+    return buildAuthResponse(customer, person, refreshTokenService.issue(customer.getId(), TokenSubjectType.CUSTOMER));
+  }
+
+  private CustomerAuthResponse buildAuthResponse(CustomerEntity customer, PersonEntity person, String refreshToken) {
     String token = jwtService.generateToken(customer.getId(), customer.getEmail(), CUSTOMER_AUTHORITIES);
     return new CustomerAuthResponse(
         token,
         "Bearer",
         jwtService.getAccessTokenTtlSeconds(),
-        toProfile(customer, person)
+        toProfile(customer, person),
+        refreshToken
     );
   }
 
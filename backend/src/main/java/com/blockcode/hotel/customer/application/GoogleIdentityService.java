@@ -1,18 +1,24 @@
 package com.blockcode.hotel.customer.application;
 
 import com.blockcode.hotel.common.exception.AppException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriUtils;
 
-import java.nio.charset.StandardCharsets;
-import java.time.Instant;
+import java.security.PublicKey;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Verifies Google ID tokens locally: the signature against Google's cached signing keys, then audience, issuer,
+ * expiry and email verification. No request leaves the server unless the key cache needs a reload.
+ */
 @Service
 public class GoogleIdentityService {
   private static final Set<String> VALID_ISSUERS = Set.of(
@@ -20,15 +26,17 @@ public class GoogleIdentityService {
       "https://accounts.google.com"
   );
 
-  private final RestTemplate restTemplate;
+  private final GoogleSigningKeyCache signingKeys;
   private final GoogleOAuthProperties properties;
+  private final JwtParser parser;
 
   public GoogleIdentityService(
-      RestTemplateBuilder restTemplateBuilder,
+      GoogleSigningKeyCache signingKeys,
       GoogleOAuthProperties properties
   ) {
-    this.restTemplate = restTemplateBuilder.build();
+    this.signingKeys = signingKeys;
     this.properties = properties;
+    this.parser = Jwts.parser().keyLocator(this::locateKey).build();
   }
 
   public GoogleIdentityPayload verify(String idToken) {
@@ -36,27 +44,23 @@ public class GoogleIdentityService {
       throw new AppException("GOOGLE_NOT_CONFIGURED", "Google sign-in is not configured", HttpStatus.BAD_REQUEST);
     }
 
-    String url = "https://oauth2.googleapis.com/tokeninfo?id_token="
-        + UriUtils.encode(idToken, StandardCharsets.UTF_8);
-    Map<String, Object> response;
+    Claims response;
     try {
-      response = restTemplate.getForObject(url, Map.class);
-    } catch (HttpClientErrorException ex) {
+      response = parser.parseSignedClaims(idToken).getPayload();
+    } catch (ExpiredJwtException ex) {
+      throw new AppException("GOOGLE_TOKEN_EXPIRED", "Google token expired", HttpStatus.UNAUTHORIZED);
+    } catch (JwtException | IllegalArgumentException ex) {
       throw new AppException("INVALID_GOOGLE_TOKEN", "Invalid Google token", HttpStatus.UNAUTHORIZED);
     } catch (Exception ex) {
       throw new AppException("GOOGLE_AUTH_FAILED", "Unable to verify Google token", HttpStatus.BAD_REQUEST);
     }
 
-    if (response == null) {
-      throw new AppException("INVALID_GOOGLE_TOKEN", "Invalid Google token", HttpStatus.UNAUTHORIZED);
-    }
-
-    String audience = readString(response, "aud");
-    if (audience == null || !audience.equals(properties.getClientId())) {
+    Set<String> audience = response.getAudience();
+    if (audience == null || !audience.equals(Set.of(properties.getClientId()))) {
       throw new AppException("INVALID_GOOGLE_TOKEN", "Google token audience mismatch", HttpStatus.UNAUTHORIZED);
     }
 
-    String issuer = readString(response, "iss");
+    String issuer = response.getIssuer();
     if (issuer == null || !VALID_ISSUERS.contains(issuer)) {
       throw new AppException("INVALID_GOOGLE_TOKEN", "Google token issuer mismatch", HttpStatus.UNAUTHORIZED);
     }
@@ -66,11 +70,6 @@ public class GoogleIdentityService {
       throw new AppException("EMAIL_NOT_VERIFIED", "Google account email not verified", HttpStatus.BAD_REQUEST);
     }
 
-    long exp = readLong(response, "exp");
-    if (exp > 0 && Instant.now().getEpochSecond() >= exp) {
-      throw new AppException("GOOGLE_TOKEN_EXPIRED", "Google token expired", HttpStatus.UNAUTHORIZED);
-    }
-
     String email = readString(response, "email");
     String subject = readString(response, "sub");
     if (email == null || subject == null) {
@@ -88,6 +87,18 @@ public class GoogleIdentityService {
     );
   }
 
+  private PublicKey locateKey(Header header) {
+    String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+    if (kid == null) {
+      throw new JwtException("Google token has no key id");
+    }
+    PublicKey key = signingKeys.get(kid);
+    if (key == null) {
+      throw new JwtException("Unknown Google signing key " + kid);
+    }
+    return key;
+  }
+
   private static String readString(Map<String, Object> response, String key) {
     Object value = response.get(key);
     return value == null ? null : value.toString();
@@ -103,16 +114,4 @@ public class GoogleIdentityService {
     }
     return "true".equalsIgnoreCase(value.toString());
   }
-
-  private static long readLong(Map<String, Object> response, String key) {
-    Object value = response.get(key);
-    if (value == null) {
-      return 0L;
-    }
-    try {
-      return Long.parseLong(value.toString());
-    } catch (NumberFormatException ex) {
-      return 0L;
-    }
-  }
 }
@@ -10,6 +10,8 @@ public class GoogleOAuthProperties {
   private String clientSecret;
   private String redirectUri;
   private String storefrontBaseUrl;
+  /** Published ID token signing keys; tokens are verified locally against them. */
+  private String jwksUri = "https://www.googleapis.com/oauth2/v3/certs";
 
   public String getClientId() {
     return clientId;
@@ -42,4 +44,12 @@ public class GoogleOAuthProperties {
   public void setStorefrontBaseUrl(String storefrontBaseUrl) {
     this.storefrontBaseUrl = storefrontBaseUrl;
   }
+
+  public String getJwksUri() {
+    return jwksUri;
+  }
+
+  public void setJwksUri(String jwksUri) {
+    this.jwksUri = jwksUri;
+  }
 }
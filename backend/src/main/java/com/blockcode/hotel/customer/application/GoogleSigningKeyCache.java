@@ -0,0 +1,94 @@
+package com.blockcode.hotel.customer.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caches Google's signing keys for as long as the source allows. Shortly before they expire a background refresh
+ * replaces them, so sign-ins never wait on Google while keys are fresh. A token signed with an unknown
+ * {@code kid} (Google rotated its keys) forces a reload, at most once per {@link #MIN_RELOAD_INTERVAL}.
+ */
+@Component
+public class GoogleSigningKeyCache {
+  private static final Logger log = LoggerFactory.getLogger(GoogleSigningKeyCache.class);
+  static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+  static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+  static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(30);
+
+  private final GoogleSigningKeySource source;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile Snapshot snapshot;
+
+  public GoogleSigningKeyCache(GoogleSigningKeySource source) {
+    this.source = source;
+  }
+
+  /** Returns the key for {@code kid}, or null if Google does not (or no longer) publish it. */
+  public PublicKey get(String kid) {
+    long now = System.currentTimeMillis();
+    Snapshot current = snapshot;
+    if (current == null || now >= current.expiresAtMillis()) {
+      current = reload(current, now);
+    } else if (now >= current.expiresAtMillis() - REFRESH_AHEAD.toMillis()) {
+      refreshInBackground();
+    }
+
+    PublicKey key = current.keysById().get(kid);
+    if (key == null && now - current.loadedAtMillis() >= MIN_RELOAD_INTERVAL.toMillis()) {
+      current = reload(current, now);
+      key = current.keysById().get(kid);
+    }
+    return key;
+  }
+
+  private synchronized Snapshot reload(Snapshot seen, long now) {
+    Snapshot current = snapshot;
+    if (current != seen) {
+      return current;
+    }
+    try {
+      current = load(now);
+    } catch (RuntimeException ex) {
+      if (seen == null) {
+        throw ex;
+      }
+      // Keep verifying with the keys we have and try again after the reload interval.
+      log.warn("Unable to reload Google signing keys, keeping {} cached keys", seen.keysById().size(), ex);
+      current = new Snapshot(seen.keysById(), now, Math.max(seen.expiresAtMillis(), now + MIN_RELOAD_INTERVAL.toMillis()));
+    }
+    snapshot = current;
+    return current;
+  }
+
+  private void refreshInBackground() {
+    if (!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    Snapshot seen = snapshot;
+    Thread.ofVirtual().name("google-jwks-refresh").start(() -> {
+      try {
+        reload(seen, System.currentTimeMillis());
+      } catch (RuntimeException ex) {
+        log.warn("Background refresh of Google signing keys failed", ex);
+      } finally {
+        refreshing.set(false);
+      }
+    });
+  }
+
+  private Snapshot load(long now) {
+    GoogleSigningKeys keys = source.load();
+    Duration maxAge = keys.maxAge() != null ? keys.maxAge() : DEFAULT_MAX_AGE;
+    long lifetime = Math.max(maxAge.toMillis(), MIN_RELOAD_INTERVAL.toMillis());
+    return new Snapshot(Map.copyOf(keys.keysById()), now, now + lifetime);
+  }
+
+  private record Snapshot(Map<String, PublicKey> keysById, long loadedAtMillis, long expiresAtMillis) {
+  }
+}
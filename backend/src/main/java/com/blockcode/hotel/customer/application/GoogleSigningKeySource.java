@@ -0,0 +1,9 @@
+package com.blockcode.hotel.customer.application;
+
+/**
+ * Where Google's ID token signing keys come from. The default reads Google's published JWKS over HTTP; tests
+ * supply a local key set instead.
+ */
+public interface GoogleSigningKeySource {
+  GoogleSigningKeys load();
+}
@@ -0,0 +1,9 @@
+package com.blockcode.hotel.customer.application;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+
+/** Signing keys by {@code kid}, and how long they may be cached ({@code null} when the source did not say). */
+public record GoogleSigningKeys(Map<String, PublicKey> keysById, Duration maxAge) {
+}
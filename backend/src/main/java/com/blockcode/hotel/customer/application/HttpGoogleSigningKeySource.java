@@ -0,0 +1,68 @@
+package com.blockcode.hotel.customer.application;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Reads Google's JWKS endpoint; the cache lifetime comes from the response's Cache-Control max-age. */
+@Component
+public class HttpGoogleSigningKeySource implements GoogleSigningKeySource {
+  private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+  private final RestTemplate restTemplate;
+  private final GoogleOAuthProperties properties;
+
+  public HttpGoogleSigningKeySource(RestTemplateBuilder restTemplateBuilder, GoogleOAuthProperties properties) {
+    this.restTemplate = restTemplateBuilder.build();
+    this.properties = properties;
+  }
+
+  @Override
+  public GoogleSigningKeys load() {
+    ResponseEntity<String> response = restTemplate.getForEntity(properties.getJwksUri(), String.class);
+    if (response.getBody() == null) {
+      throw new IllegalStateException("Google JWKS response was empty");
+    }
+
+    JwkSet jwkSet = Jwks.setParser().build().parse(response.getBody());
+    Map<String, PublicKey> keys = new HashMap<>();
+    for (Jwk<?> jwk : jwkSet.getKeys()) {
+      Key key = jwk.toKey();
+      if (jwk.getId() != null && key instanceof PublicKey publicKey) {
+        keys.put(jwk.getId(), publicKey);
+      }
+    }
+    return new GoogleSigningKeys(Map.copyOf(keys), maxAge(response.getHeaders()));
+  }
+
+  private static Duration maxAge(HttpHeaders headers) {
+    String cacheControl = headers.getCacheControl();
+    if (cacheControl == null) {
+      return null;
+    }
+    Matcher matcher = MAX_AGE.matcher(cacheControl);
+    if (!matcher.find()) {
+      return null;
+    }
+    long seconds = Long.parseLong(matcher.group(1));
+    // A response served from an intermediate cache has already used part of its lifetime.
+    String age = headers.getFirst(HttpHeaders.AGE);
+    if (age != null && age.chars().allMatch(Character::isDigit) && !age.isEmpty()) {
+      seconds -= Long.parseLong(age);
+    }
+    return Duration.ofSeconds(Math.max(0, seconds));
+  }
+}
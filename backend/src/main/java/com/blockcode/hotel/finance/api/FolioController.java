@@ -6,6 +6,10 @@ import com.blockcode.hotel.finance.api.dto.FolioItemResponse;
 import com.blockcode.hotel.finance.api.dto.FolioSummaryResponse;
 import com.blockcode.hotel.finance.api.dto.PaymentCreateRequest;
 import com.blockcode.hotel.finance.api.dto.PaymentResponse;
+import com.blockcode.hotel.finance.api.dto.PosChargeBatchRequest;
+import com.blockcode.hotel.finance.api.dto.PosChargeBatchResponse;
+import com.blockcode.hotel.finance.api.dto.RefundCreateRequest;
+import com.blockcode.hotel.finance.api.dto.RefundResponse;
 import com.blockcode.hotel.finance.application.FolioService;
 import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -32,8 +37,14 @@ public class FolioController {
 
   @GetMapping
   @PreAuthorize("hasAuthority('folio.READ') or hasAuthority('rbac.ADMIN')")
-  public List<FolioSummaryResponse> list() {
-    return folioService.list();
+  public List<FolioSummaryResponse> list(@RequestParam(defaultValue = "false") boolean outstanding) {
+    return folioService.list(outstanding);
+  }
+
+  @PostMapping("/charges/batch")
+  @PreAuthorize("hasAuthority('folio.UPDATE') or hasAuthority('rbac.ADMIN')")
+  public PosChargeBatchResponse ingestPosCharges(@Valid @RequestBody PosChargeBatchRequest request) {
+    return folioService.ingestPosCharges(request);
   }
 
   @GetMapping("/{id}")
@@ -54,6 +65,16 @@ public class FolioController {
     return folioService.addPayment(id, request);
   }
 
+  @PostMapping("/{id}/payments/{paymentId}/refunds")
+  @PreAuthorize("hasAuthority('payment.CAPTURE') or hasAuthority('rbac.ADMIN')")
+  public RefundResponse refundPayment(
+      @PathVariable UUID id,
+      @PathVariable UUID paymentId,
+      @Valid @RequestBody RefundCreateRequest request
+  ) {
+    return folioService.refundPayment(id, paymentId, request);
+  }
+
   @PostMapping("/{id}/close")
   @PreAuthorize("hasAuthority('folio.CLOSE') or hasAuthority('rbac.ADMIN')")
   public FolioDetailResponse close(@PathVariable UUID id) {
@@ -2,12 +2,16 @@ package com.blockcode.hotel.finance.api.dto;
 
 import com.blockcode.hotel.finance.domain.FolioStatus;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 public record FolioSummaryResponse(
     UUID id,
     UUID reservationId,
     FolioStatus status,
-    String currency
+    String currency,
+    BigDecimal totalCharges,
+    BigDecimal totalPayments,
+    BigDecimal balance
 ) {
 }
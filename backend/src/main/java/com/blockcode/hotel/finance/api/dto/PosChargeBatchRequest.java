@@ -0,0 +1,15 @@
+package com.blockcode.hotel.finance.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record PosChargeBatchRequest(
+    @NotNull UUID propertyId,
+    @NotEmpty @Size(max = 500) List<@Valid PosChargeGroupRequest> groups
+) {
+}
@@ -0,0 +1,12 @@
+package com.blockcode.hotel.finance.api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record PosChargeBatchResponse(
+    int posted,
+    int rejected,
+    BigDecimal postedAmount,
+    List<PosChargeLineResult> results
+) {
+}
@@ -0,0 +1,16 @@
+package com.blockcode.hotel.finance.api.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Charges for one guest, addressed either by reservation code or by the number of an occupied room.
+ * Lines are validated individually so one bad line does not reject the whole batch.
+ */
+public record PosChargeGroupRequest(
+    String reservationCode,
+    String roomNumber,
+    @Size(max = 200) List<PosChargeLineRequest> items
+) {
+}
@@ -0,0 +1,13 @@
+package com.blockcode.hotel.finance.api.dto;
+
+import com.blockcode.hotel.finance.domain.FolioItemType;
+
+import java.math.BigDecimal;
+
+public record PosChargeLineRequest(
+    FolioItemType type,
+    String description,
+    BigDecimal qty,
+    BigDecimal unitPrice
+) {
+}
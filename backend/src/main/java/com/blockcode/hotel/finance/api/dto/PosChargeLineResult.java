@@ -0,0 +1,16 @@
+package com.blockcode.hotel.finance.api.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record PosChargeLineResult(
+    int groupIndex,
+    int lineIndex,
+    boolean posted,
+    UUID folioId,
+    UUID itemId,
+    BigDecimal amount,
+    String errorCode,
+    String message
+) {
+}
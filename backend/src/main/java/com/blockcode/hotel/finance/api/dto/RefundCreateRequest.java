@@ -0,0 +1,12 @@
+package com.blockcode.hotel.finance.api.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public record RefundCreateRequest(
+    @NotNull @DecimalMin("0.0") BigDecimal amount,
+    String providerRef
+) {
+}
@@ -0,0 +1,17 @@
+package com.blockcode.hotel.finance.api.dto;
+
+import com.blockcode.hotel.finance.domain.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record RefundResponse(
+    UUID id,
+    UUID paymentId,
+    BigDecimal amount,
+    String providerRef,
+    PaymentStatus status,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,39 @@
+package com.blockcode.hotel.finance.application;
+
+import com.blockcode.hotel.finance.infra.FolioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Verifies the running folio totals against folio items, payments and refunds, and repairs any drift.
+ */
+@Component
+public class FolioBalanceReconciliationJob {
+  private static final Logger log = LoggerFactory.getLogger(FolioBalanceReconciliationJob.class);
+
+  private final FolioRepository folioRepository;
+
+  public FolioBalanceReconciliationJob(FolioRepository folioRepository) {
+    this.folioRepository = folioRepository;
+  }
+
+  @Scheduled(cron = "${app.finance.balance-reconciliation-cron:0 30 3 * * *}")
+  @Transactional
+  public int reconcile() {
+    List<Object[]> drifted = folioRepository.findBalanceDrift();
+    for (Object[] row : drifted) {
+      UUID folioId = (UUID) row[0];
+      log.warn("Folio {} balance drift: charges {} -> {}, payments {} -> {}, balance {}",
+          folioId, row[1], row[4], row[2], row[5], row[3]);
+      // Recomputed inside the update so writes committed since the drift query are not lost.
+      folioRepository.recalculateTotals(folioId);
+    }
+    return drifted.size();
+  }
+}
@@ -0,0 +1,22 @@
+package com.blockcode.hotel.finance.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.finance.posting")
+public class FolioPostingProperties {
+  /**
+   * Stays with at least this many nights post one room-charge line per rate segment (consecutive nights at
+   * the same price) instead of one line per night. Zero keeps per-night lines for every stay.
+   */
+  private int aggregateRoomChargesFromNights;
+
+  public int getAggregateRoomChargesFromNights() {
+    return aggregateRoomChargesFromNights;
+  }
+
+  public void setAggregateRoomChargesFromNights(int aggregateRoomChargesFromNights) {
+    this.aggregateRoomChargesFromNights = aggregateRoomChargesFromNights;
+  }
+}
@@ -1,5 +1,6 @@
 package com.blockcode.hotel.finance.application;
 
+import com.blockcode.hotel.common.event.DataChangedEvent;
 import com.blockcode.hotel.common.exception.AppException;
 import com.blockcode.hotel.common.security.CurrentUserProvider;
 import com.blockcode.hotel.finance.api.dto.FolioDetailResponse;
@@ -8,19 +9,34 @@ import com.blockcode.hotel.finance.api.dto.FolioItemResponse;
 import com.blockcode.hotel.finance.api.dto.FolioSummaryResponse;
 import com.blockcode.hotel.finance.api.dto.PaymentCreateRequest;
 import com.blockcode.hotel.finance.api.dto.PaymentResponse;
+import com.blockcode.hotel.finance.api.dto.PosChargeBatchRequest;
+import com.blockcode.hotel.finance.api.dto.PosChargeBatchResponse;
+import com.blockcode.hotel.finance.api.dto.PosChargeGroupRequest;
+import com.blockcode.hotel.finance.api.dto.PosChargeLineRequest;
+import com.blockcode.hotel.finance.api.dto.PosChargeLineResult;
+import com.blockcode.hotel.finance.api.dto.RefundCreateRequest;
+import com.blockcode.hotel.finance.api.dto.RefundResponse;
 import com.blockcode.hotel.finance.domain.FolioEntity;
 import com.blockcode.hotel.finance.domain.FolioItemEntity;
+import com.blockcode.hotel.finance.domain.FolioItemSource;
 import com.blockcode.hotel.finance.domain.FolioItemType;
 import com.blockcode.hotel.finance.domain.FolioStatus;
 import com.blockcode.hotel.finance.domain.PaymentEntity;
 import com.blockcode.hotel.finance.domain.PaymentStatus;
+import com.blockcode.hotel.finance.domain.RefundEntity;
+import com.blockcode.hotel.finance.infra.DailyRevenueRepository;
 import com.blockcode.hotel.finance.infra.FolioItemRepository;
 import com.blockcode.hotel.finance.infra.FolioRepository;
 import com.blockcode.hotel.finance.infra.PaymentRepository;
+import com.blockcode.hotel.finance.infra.RefundRepository;
 import com.blockcode.hotel.pricing.domain.TaxFeeEntity;
 import com.blockcode.hotel.pricing.domain.TaxFeeType;
 import com.blockcode.hotel.pricing.infra.TaxFeeRepository;
 import com.blockcode.hotel.reservation.application.NightlyCharge;
+import com.blockcode.hotel.reservation.domain.ReservationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,34 +44,61 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class FolioService {
+  private static final Logger log = LoggerFactory.getLogger(FolioService.class);
+  // A POS batch posts in one transaction; the per-group limit alone would still allow 100k items.
+  static final int MAX_POS_LINES = 5000;
+
   private final FolioRepository folioRepository;
   private final FolioItemRepository folioItemRepository;
   private final PaymentRepository paymentRepository;
+  private final RefundRepository refundRepository;
+  private final DailyRevenueRepository dailyRevenueRepository;
   private final TaxFeeRepository taxFeeRepository;
   private final CurrentUserProvider currentUserProvider;
+  private final FolioPostingProperties postingProperties;
+  private final ApplicationEventPublisher eventPublisher;
 
   public FolioService(
       FolioRepository folioRepository,
       FolioItemRepository folioItemRepository,
       PaymentRepository paymentRepository,
+      RefundRepository refundRepository,
+      DailyRevenueRepository dailyRevenueRepository,
       TaxFeeRepository taxFeeRepository,
-      CurrentUserProvider currentUserProvider) {
+      CurrentUserProvider currentUserProvider,
+      FolioPostingProperties postingProperties,
+      ApplicationEventPublisher eventPublisher) {
     this.folioRepository = folioRepository;
     this.folioItemRepository = folioItemRepository;
     this.paymentRepository = paymentRepository;
+    this.refundRepository = refundRepository;
+    this.dailyRevenueRepository = dailyRevenueRepository;
     this.taxFeeRepository = taxFeeRepository;
     this.currentUserProvider = currentUserProvider;
+    this.postingProperties = postingProperties;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional(readOnly = true)
-  public List<FolioSummaryResponse> list() {
-    return folioRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc()
+  public List<FolioSummaryResponse> list(boolean outstandingOnly) {
+    List<FolioEntity> folios = outstandingOnly
+        ? folioRepository.findOutstanding()
+        : folioRepository.findAllByDeletedAtIsNullOrderByCreatedAtDesc();
+    return folios
         .stream()
         .map(this::toSummary)
         .toList();
@@ -89,9 +132,147 @@ public class FolioService {
     item.setPostedBy(currentUserProvider.getCurrentUserId().orElse(null));
 
     folioItemRepository.save(item);
+    folioRepository.applyDelta(folio.getId(), amount, BigDecimal.ZERO);
     return toResponse(item);
   }
 
+  public PosChargeBatchResponse ingestPosCharges(PosChargeBatchRequest request) {
+    Set<String> codes = new HashSet<>();
+    Set<String> roomNumbers = new HashSet<>();
+    int lineCount = 0;
+    for (PosChargeGroupRequest group : request.groups()) {
+      if (group == null) {
+        continue;
+      }
+      lineCount += group.items() == null ? 0 : group.items().size();
+      if (lineCount > MAX_POS_LINES) {
+        throw new AppException("TOO_MANY_LINES",
+            "A POS batch may contain at most " + MAX_POS_LINES + " lines", HttpStatus.BAD_REQUEST);
+      }
+      if (hasText(group.reservationCode())) {
+        codes.add(group.reservationCode().trim());
+      } else if (hasText(group.roomNumber())) {
+        roomNumbers.add(group.roomNumber().trim());
+      }
+    }
+
+    Map<String, List<PosTarget>> byCode = new HashMap<>();
+    Map<String, List<PosTarget>> byRoom = new HashMap<>();
+    if (!codes.isEmpty() || !roomNumbers.isEmpty()) {
+      // An empty IN list is invalid SQL, so an unmatchable placeholder stands in for the unused side.
+      List<Object[]> rows = folioRepository.resolvePosTargets(
+          request.propertyId(),
+          codes.isEmpty() ? List.of("") : codes,
+          roomNumbers.isEmpty() ? List.of("") : roomNumbers);
+      for (Object[] row : rows) {
+        PosTarget target = new PosTarget((UUID) row[2], FolioStatus.valueOf((String) row[3]),
+            ReservationStatus.valueOf((String) row[4]));
+        Map<String, List<PosTarget>> index = "CODE".equals(row[0]) ? byCode : byRoom;
+        index.computeIfAbsent((String) row[1], key -> new ArrayList<>(1)).add(target);
+      }
+    }
+
+    UUID postedBy = currentUserProvider.getCurrentUserId().orElse(null);
+    Instant postedAt = Instant.now();
+    List<PosChargeLineResult> results = new ArrayList<>();
+    List<FolioItemEntity> items = new ArrayList<>();
+    List<int[]> itemPositions = new ArrayList<>();
+    Map<UUID, BigDecimal> deltas = new TreeMap<>();
+
+    for (int g = 0; g < request.groups().size(); g++) {
+      PosChargeGroupRequest group = request.groups().get(g);
+      List<PosChargeLineRequest> lines = group == null || group.items() == null ? List.of() : group.items();
+      if (lines.isEmpty()) {
+        results.add(rejected(g, -1, null, "EMPTY_GROUP", "Group has no items"));
+        continue;
+      }
+
+      String groupError = null;
+      String groupMessage = null;
+      UUID folioId = null;
+      List<PosTarget> targets;
+      if (hasText(group.reservationCode())) {
+        targets = byCode.getOrDefault(group.reservationCode().trim(), List.of());
+      } else if (hasText(group.roomNumber())) {
+        targets = byRoom.getOrDefault(group.roomNumber().trim(), List.of());
+      } else {
+        targets = null;
+        groupError = "INVALID_TARGET";
+        groupMessage = "Reservation code or room number is required";
+      }
+      if (targets != null) {
+        if (targets.isEmpty()) {
+          groupError = "FOLIO_NOT_FOUND";
+          groupMessage = "No open folio for this reservation or room";
+        } else if (targets.size() > 1) {
+          groupError = "FOLIO_AMBIGUOUS";
+          groupMessage = "Room is linked to more than one checked-in folio";
+        } else if (targets.get(0).reservationStatus() != ReservationStatus.CHECKED_IN) {
+          // Charges only land on stays in progress, never on pending, cancelled or checked-out reservations.
+          folioId = targets.get(0).folioId();
+          groupError = "RESERVATION_NOT_CHECKED_IN";
+          groupMessage = "Reservation is not checked in";
+        } else if (targets.get(0).status() != FolioStatus.OPEN) {
+          folioId = targets.get(0).folioId();
+          groupError = "FOLIO_CLOSED";
+          groupMessage = "Folio is not open";
+        } else {
+          folioId = targets.get(0).folioId();
+        }
+      }
+
+      for (int l = 0; l < lines.size(); l++) {
+        if (groupError != null) {
+          results.add(rejected(g, l, folioId, groupError, groupMessage));
+          continue;
+        }
+
+        PosChargeLineRequest line = lines.get(l);
+        if (line == null || line.type() == null || !hasText(line.description())) {
+          results.add(rejected(g, l, folioId, "INVALID_ITEM", "Type and description are required"));
+          continue;
+        }
+        BigDecimal qty = normalizeQty(line.qty() == null ? BigDecimal.ONE : line.qty());
+        BigDecimal unitPrice = normalizeMoney(line.unitPrice());
+        if (qty.signum() <= 0 || unitPrice.signum() <= 0) {
+          results.add(rejected(g, l, folioId, "INVALID_AMOUNT", "Amounts must be positive"));
+          continue;
+        }
+
+        BigDecimal amount = unitPrice.multiply(qty).setScale(2, RoundingMode.HALF_UP);
+        FolioItemEntity item = new FolioItemEntity();
+        item.setFolioId(folioId);
+        item.setType(line.type());
+        item.setDescription(line.description().trim());
+        item.setQty(qty);
+        item.setUnitPrice(unitPrice);
+        item.setAmount(amount);
+        item.setPostedAt(postedAt);
+        item.setPostedBy(postedBy);
+        item.setSource(FolioItemSource.POS);
+        items.add(item);
+        itemPositions.add(new int[] {g, l, results.size()});
+        results.add(null);
+        deltas.merge(folioId, amount, BigDecimal::add);
+      }
+    }
+
+    folioItemRepository.saveAll(items);
+    // Folio rows are updated in id order so concurrent batches lock them in the same sequence.
+    deltas.forEach((folioId, amount) -> folioRepository.applyDelta(folioId, amount, BigDecimal.ZERO));
+
+    BigDecimal postedAmount = BigDecimal.ZERO;
+    for (int i = 0; i < items.size(); i++) {
+      FolioItemEntity item = items.get(i);
+      int[] position = itemPositions.get(i);
+      results.set(position[2], new PosChargeLineResult(
+          position[0], position[1], true, item.getFolioId(), item.getId(), item.getAmount(), null, null));
+      postedAmount = postedAmount.add(item.getAmount());
+    }
+
+    return new PosChargeBatchResponse(items.size(), results.size() - items.size(), postedAmount, results);
+  }
+
   public PaymentResponse addPayment(UUID folioId, PaymentCreateRequest request) {
     FolioEntity folio = getOpenFolio(folioId);
 
@@ -125,10 +306,50 @@ public class FolioService {
     payment.setIdempotencyKey(idempotencyKey);
     payment.setCreatedBy(currentUserProvider.getCurrentUserId().orElse(null));
 
-    paymentRepository.save(payment);
+    paymentRepository.saveAndFlush(payment);
+    if (isAppliedPayment(payment.getStatus())) {
+      folioRepository.applyDelta(folio.getId(), BigDecimal.ZERO, amount);
+      dailyRevenueRepository.recordPayment(payment.getId());
+      publishPaymentsChanged();
+    }
     return toResponse(payment);
   }
 
+  public RefundResponse refundPayment(UUID folioId, UUID paymentId, RefundCreateRequest request) {
+    // Concurrent refunds of one payment serialize on the folio row, so each sees the others' amounts.
+    FolioEntity folio = folioRepository.findByIdForUpdate(folioId)
+        .orElseThrow(() -> new AppException("NOT_FOUND", "Folio not found", HttpStatus.NOT_FOUND));
+    PaymentEntity payment = paymentRepository.findByIdAndDeletedAtIsNull(paymentId)
+        .filter(entity -> entity.getFolioId().equals(folio.getId()))
+        .orElseThrow(() -> new AppException("PAYMENT_NOT_FOUND", "Payment not found", HttpStatus.NOT_FOUND));
+    if (!isAppliedPayment(payment.getStatus())) {
+      throw new AppException("PAYMENT_NOT_REFUNDABLE", "Only authorized or captured payments can be refunded",
+          HttpStatus.CONFLICT);
+    }
+
+    BigDecimal amount = normalizeMoney(request.amount());
+    if (amount.signum() <= 0) {
+      throw new AppException("INVALID_AMOUNT", "Amount must be positive", HttpStatus.BAD_REQUEST);
+    }
+    BigDecimal alreadyRefunded = refundRepository.sumRefundedByPaymentId(payment.getId());
+    if (alreadyRefunded.add(amount).compareTo(payment.getAmount()) > 0) {
+      throw new AppException("REFUND_EXCEEDS_PAYMENT", "Refund exceeds the remaining payment amount",
+          HttpStatus.BAD_REQUEST);
+    }
+
+    RefundEntity refund = new RefundEntity();
+    refund.setPaymentId(payment.getId());
+    refund.setAmount(amount);
+    refund.setProviderRef(request.providerRef());
+    refund.setStatus(PaymentStatus.REFUNDED);
+
+    refundRepository.saveAndFlush(refund);
+    folioRepository.applyDelta(folio.getId(), BigDecimal.ZERO, amount.negate());
+    dailyRevenueRepository.recordRefund(refund.getId());
+    publishPaymentsChanged();
+    return toResponse(refund);
+  }
+
   public FolioDetailResponse close(UUID folioId) {
     FolioEntity folio = getActiveFolio(folioId);
     if (folio.getStatus() != FolioStatus.CLOSED) {
@@ -149,64 +370,123 @@ public class FolioService {
       throw new AppException("FOLIO_CLOSED", "Folio is not open", HttpStatus.CONFLICT);
     }
 
+    Instant postedAt = Instant.now();
+    List<FolioItemEntity> items = new ArrayList<>();
+    int aggregateFrom = postingProperties.getAggregateRoomChargesFromNights();
+    boolean aggregate = aggregateFrom > 0 && nightlyCharges.size() >= aggregateFrom;
+
     BigDecimal roomTotal = BigDecimal.ZERO;
-    for (NightlyCharge charge : nightlyCharges) {
+    int segmentStart = 0;
+    for (int i = 0; i < nightlyCharges.size(); i++) {
+      NightlyCharge charge = nightlyCharges.get(i);
       BigDecimal unitPrice = normalizeMoney(charge.price());
-      FolioItemEntity item = new FolioItemEntity();
-      item.setFolioId(folio.getId());
-      item.setType(FolioItemType.ROOM_CHARGE);
-      item.setDescription("Room charge - " + charge.date());
-      item.setQty(BigDecimal.ONE);
-      item.setUnitPrice(unitPrice);
-      item.setAmount(unitPrice);
-      item.setPostedAt(Instant.now());
-      item.setPostedBy(null);
-      folioItemRepository.save(item);
       roomTotal = roomTotal.add(unitPrice);
-    }
+      if (!aggregate) {
+        items.add(newItem(folio.getId(), FolioItemType.ROOM_CHARGE, "Room charge - " + charge.date(),
+            BigDecimal.ONE, unitPrice, unitPrice, postedAt, FolioItemSource.RESERVATION));
+        continue;
+      }
 
-    if (roomTotal.signum() == 0) {
-      return;
+      // A segment ends where the price changes or the dates stop being consecutive (e.g. the next room).
+      boolean last = i == nightlyCharges.size() - 1;
+      if (last || !continuesSegment(charge, unitPrice, nightlyCharges.get(i + 1))) {
+        int nights = i - segmentStart + 1;
+        BigDecimal qty = BigDecimal.valueOf(nights);
+        String description = nights == 1
+            ? "Room charge - " + charge.date()
+            : "Room charge - " + nightlyCharges.get(segmentStart).date() + " to " + charge.date()
+                + " (" + nights + " nights)";
+        items.add(newItem(folio.getId(), FolioItemType.ROOM_CHARGE, description,
+            qty, unitPrice, unitPrice.multiply(qty).setScale(2, RoundingMode.HALF_UP), postedAt,
+            FolioItemSource.RESERVATION));
+        segmentStart = i + 1;
+      }
     }
 
-    List<TaxFeeEntity> taxes = taxFeeRepository.findAllByPropertyIdAndActiveTrueAndDeletedAtIsNull(propertyId);
-    int nightsCount = nightlyCharges.size();
-    for (TaxFeeEntity taxFee : taxes) {
-      String appliesTo = taxFee.getAppliesTo() == null ? "ALL" : taxFee.getAppliesTo();
-      if (!"ROOM".equalsIgnoreCase(appliesTo) && !"ALL".equalsIgnoreCase(appliesTo)) {
-        continue;
+    BigDecimal postedTotal = roomTotal;
+
+    if (roomTotal.signum() != 0) {
+      List<TaxFeeEntity> taxes = taxFeeRepository.findAllByPropertyIdAndActiveTrueAndDeletedAtIsNull(propertyId);
+      int nightsCount = nightlyCharges.size();
+      for (TaxFeeEntity taxFee : taxes) {
+        String appliesTo = taxFee.getAppliesTo() == null ? "ALL" : taxFee.getAppliesTo();
+        if (!"ROOM".equalsIgnoreCase(appliesTo) && !"ALL".equalsIgnoreCase(appliesTo)) {
+          continue;
+        }
+
+        BigDecimal amount;
+        BigDecimal qty;
+        BigDecimal unitPrice;
+        FolioItemType type = taxFee.getType() == TaxFeeType.PERCENT ? FolioItemType.TAX : FolioItemType.FEE;
+
+        if (taxFee.getType() == TaxFeeType.PERCENT) {
+          BigDecimal rate = taxFee.getValue().divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
+          amount = roomTotal.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+          qty = BigDecimal.ONE;
+          unitPrice = amount;
+        } else {
+          qty = BigDecimal.valueOf(nightsCount);
+          unitPrice = normalizeMoney(taxFee.getValue());
+          amount = unitPrice.multiply(qty).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        if (amount.signum() <= 0) {
+          continue;
+        }
+
+        items.add(newItem(folio.getId(), type, taxFee.getName(), qty, unitPrice, amount, postedAt,
+            FolioItemSource.RESERVATION));
+        postedTotal = postedTotal.add(amount);
       }
+    }
 
-      BigDecimal amount;
-      BigDecimal qty;
-      BigDecimal unitPrice;
-      FolioItemType type = taxFee.getType() == TaxFeeType.PERCENT ? FolioItemType.TAX : FolioItemType.FEE;
+    // Ids come from the UUID generator, so Hibernate can group these into JDBC batches on flush.
+    folioItemRepository.saveAll(items);
+    if (postedTotal.signum() != 0) {
+      folioRepository.applyDelta(folio.getId(), postedTotal, BigDecimal.ZERO);
+    }
+  }
 
-      if (taxFee.getType() == TaxFeeType.PERCENT) {
-        BigDecimal rate = taxFee.getValue().divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
-        amount = roomTotal.multiply(rate).setScale(2, RoundingMode.HALF_UP);
-        qty = BigDecimal.ONE;
-        unitPrice = amount;
-      } else {
-        qty = BigDecimal.valueOf(nightsCount);
-        unitPrice = normalizeMoney(taxFee.getValue());
-        amount = unitPrice.multiply(qty).setScale(2, RoundingMode.HALF_UP);
-      }
+  /**
+   * Settles the folio of a cancelled reservation: the lines posted by {@link #postReservationCharges} are voided
+   * and only the penalty (if any) is added; staff, POS and earlier penalty lines stay. A closed folio has already been settled, so it is left untouched.
+   */
+  public void settleCancellation(UUID reservationId, BigDecimal penalty, String description) {
+    if (reservationId == null) {
+      return;
+    }
 
-      if (amount.signum() <= 0) {
-        continue;
+    FolioEntity folio = folioRepository.findByReservationIdAndDeletedAtIsNull(reservationId).orElse(null);
+    if (folio == null) {
+      return;
+    }
+    if (folio.getStatus() != FolioStatus.OPEN) {
+      log.warn("Folio {} of cancelled reservation {} is {}; charges and penalty were not adjusted",
+          folio.getId(), reservationId, folio.getStatus());
+      return;
+    }
+
+    Instant now = Instant.now();
+    BigDecimal delta = BigDecimal.ZERO;
+    List<FolioItemEntity> voided = new ArrayList<>();
+    for (FolioItemEntity item : folioItemRepository.findAllByFolioIdAndDeletedAtIsNullOrderByPostedAtDesc(folio.getId())) {
+      if (item.getSource() == FolioItemSource.RESERVATION) {
+        item.setDeletedAt(now);
+        voided.add(item);
+        delta = delta.subtract(item.getAmount());
       }
+    }
+    folioItemRepository.saveAll(voided);
 
-      FolioItemEntity item = new FolioItemEntity();
-      item.setFolioId(folio.getId());
-      item.setType(type);
-      item.setDescription(taxFee.getName());
-      item.setQty(qty);
-      item.setUnitPrice(unitPrice);
-      item.setAmount(amount);
-      item.setPostedAt(Instant.now());
-      item.setPostedBy(null);
-      folioItemRepository.save(item);
+    BigDecimal amount = normalizeMoney(penalty);
+    if (amount.signum() > 0) {
+      folioItemRepository.save(newItem(folio.getId(), FolioItemType.FEE, description,
+          BigDecimal.ONE, amount, amount, now, FolioItemSource.CANCELLATION_PENALTY));
+      delta = delta.add(amount);
+    }
+
+    if (delta.signum() != 0) {
+      folioRepository.applyDelta(folio.getId(), delta, BigDecimal.ZERO);
     }
   }
 
@@ -228,7 +508,10 @@ public class FolioService {
         entity.getId(),
         entity.getReservationId(),
         entity.getStatus(),
-        entity.getCurrency());
+        entity.getCurrency(),
+        entity.getTotalCharges(),
+        entity.getTotalPayments(),
+        entity.getBalance());
   }
 
   private FolioDetailResponse toDetail(FolioEntity entity) {
@@ -245,19 +528,6 @@ public class FolioService {
         .map(this::toResponse)
         .toList();
 
-    BigDecimal totalCharges = items.stream()
-        .map(FolioItemEntity::getAmount)
-        .filter(amount -> amount != null)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    BigDecimal totalPayments = payments.stream()
-        .filter(payment -> isAppliedPayment(payment.getStatus()))
-        .map(PaymentEntity::getAmount)
-        .filter(amount -> amount != null)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    BigDecimal balance = totalCharges.subtract(totalPayments);
-
     return new FolioDetailResponse(
         entity.getId(),
         entity.getReservationId(),
@@ -265,9 +535,9 @@ public class FolioService {
         entity.getCurrency(),
         itemResponses,
         paymentResponses,
-        totalCharges,
-        totalPayments,
-        balance);
+        entity.getTotalCharges(),
+        entity.getTotalPayments(),
+        entity.getBalance());
   }
 
   private FolioItemResponse toResponse(FolioItemEntity item) {
@@ -298,10 +568,66 @@ public class FolioService {
         payment.getCreatedAt());
   }
 
+  private RefundResponse toResponse(RefundEntity refund) {
+    return new RefundResponse(
+        refund.getId(),
+        refund.getPaymentId(),
+        refund.getAmount(),
+        refund.getProviderRef(),
+        refund.getStatus(),
+        refund.getCreatedAt());
+  }
+
   private boolean isAppliedPayment(PaymentStatus status) {
     return status == PaymentStatus.CAPTURED || status == PaymentStatus.AUTHORIZED;
   }
 
+  private boolean continuesSegment(NightlyCharge current, BigDecimal currentPrice, NightlyCharge next) {
+    return next.date() != null
+        && current.date() != null
+        && next.date().equals(current.date().plusDays(1))
+        && normalizeMoney(next.price()).compareTo(currentPrice) == 0;
+  }
+
+  private FolioItemEntity newItem(
+      UUID folioId,
+      FolioItemType type,
+      String description,
+      BigDecimal qty,
+      BigDecimal unitPrice,
+      BigDecimal amount,
+      Instant postedAt,
+      FolioItemSource source
+  ) {
+    FolioItemEntity item = new FolioItemEntity();
+    item.setFolioId(folioId);
+    item.setType(type);
+    item.setDescription(description);
+    item.setQty(qty);
+    item.setUnitPrice(unitPrice);
+    item.setAmount(amount);
+    item.setPostedAt(postedAt);
+    item.setPostedBy(null);
+    item.setSource(source);
+    return item;
+  }
+
+  private void publishPaymentsChanged() {
+    // Business dates follow the property timezone, so cover the UTC day on either side.
+    LocalDate today = LocalDate.now(ZoneOffset.UTC);
+    eventPublisher.publishEvent(DataChangedEvent.payments(null, today.minusDays(1), today.plusDays(1)));
+  }
+
+  private PosChargeLineResult rejected(int groupIndex, int lineIndex, UUID folioId, String code, String message) {
+    return new PosChargeLineResult(groupIndex, lineIndex, false, folioId, null, null, code, message);
+  }
+
+  private boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  private record PosTarget(UUID folioId, FolioStatus status, ReservationStatus reservationStatus) {}
+
   private BigDecimal normalizeMoney(BigDecimal value) {
     if (value == null) {
       return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
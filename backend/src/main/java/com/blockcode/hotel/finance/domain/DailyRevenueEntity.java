@@ -0,0 +1,59 @@
+package com.blockcode.hotel.finance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Read model for revenue reporting. Rows are only written through the upserts in
+ * {@link com.blockcode.hotel.finance.infra.DailyRevenueRepository}.
+ */
+@Entity
+@Table(name = "daily_revenue")
+public class DailyRevenueEntity {
+  @EmbeddedId
+  private DailyRevenueId id;
+
+  @Column(name = "payment_amount", nullable = false, precision = 14, scale = 2)
+  private BigDecimal paymentAmount = BigDecimal.ZERO;
+
+  @Column(name = "payment_count", nullable = false)
+  private int paymentCount;
+
+  @Column(name = "refund_amount", nullable = false, precision = 14, scale = 2)
+  private BigDecimal refundAmount = BigDecimal.ZERO;
+
+  @Column(name = "refund_count", nullable = false)
+  private int refundCount;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  public DailyRevenueId getId() {
+    return id;
+  }
+
+  public BigDecimal getPaymentAmount() {
+    return paymentAmount;
+  }
+
+  public int getPaymentCount() {
+    return paymentCount;
+  }
+
+  public BigDecimal getRefundAmount() {
+    return refundAmount;
+  }
+
+  public int getRefundCount() {
+    return refundCount;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+}
@@ -0,0 +1,72 @@
+package com.blockcode.hotel.finance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class DailyRevenueId implements Serializable {
+  @Column(name = "property_id", columnDefinition = "uuid")
+  private UUID propertyId;
+
+  @Column(name = "business_date")
+  private LocalDate businessDate;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "method")
+  private PaymentMethod method;
+
+  @Column(name = "currency")
+  private String currency;
+
+  public DailyRevenueId() {
+  }
+
+  public DailyRevenueId(UUID propertyId, LocalDate businessDate, PaymentMethod method, String currency) {
+    this.propertyId = propertyId;
+    this.businessDate = businessDate;
+    this.method = method;
+    this.currency = currency;
+  }
+
+  public UUID getPropertyId() {
+    return propertyId;
+  }
+
+  public LocalDate getBusinessDate() {
+    return businessDate;
+  }
+
+  public PaymentMethod getMethod() {
+    return method;
+  }
+
+  public String getCurrency() {
+    return currency;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    DailyRevenueId that = (DailyRevenueId) o;
+    return Objects.equals(propertyId, that.propertyId)
+        && Objects.equals(businessDate, that.businessDate)
+        && method == that.method
+        && Objects.equals(currency, that.currency);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(propertyId, businessDate, method, currency);
+  }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import org.hibernate.annotations.UuidGenerator;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -34,6 +35,17 @@ public class FolioEntity extends AuditableEntity {
   @Column(name = "currency", nullable = false)
   private String currency = "USD";
 
+  // Running totals are only written through FolioRepository.applyDelta/recalculateTotals so that stale
+  // entity copies can never overwrite them.
+  @Column(name = "total_charges", nullable = false, precision = 12, scale = 2, insertable = false, updatable = false)
+  private BigDecimal totalCharges = BigDecimal.ZERO;
+
+  @Column(name = "total_payments", nullable = false, precision = 12, scale = 2, insertable = false, updatable = false)
+  private BigDecimal totalPayments = BigDecimal.ZERO;
+
+  @Column(name = "balance", nullable = false, precision = 12, scale = 2, insertable = false, updatable = false)
+  private BigDecimal balance = BigDecimal.ZERO;
+
   public UUID getId() {
     return id;
   }
@@ -65,4 +77,16 @@ public class FolioEntity extends AuditableEntity {
   public void setCurrency(String currency) {
     this.currency = currency;
   }
+
+  public BigDecimal getTotalCharges() {
+    return totalCharges;
+  }
+
+  public BigDecimal getTotalPayments() {
+    return totalPayments;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
 }
@@ -51,6 +51,10 @@ public class FolioItemEntity extends AuditableEntity {
   @Column(name = "posted_by")
   private UUID postedBy;
 
+  @Enumerated(EnumType.STRING)
+  @Column(name = "source", nullable = false)
+  private FolioItemSource source = FolioItemSource.MANUAL;
+
   public UUID getId() {
     return id;
   }
@@ -122,4 +126,12 @@ public class FolioItemEntity extends AuditableEntity {
   public void setPostedBy(UUID postedBy) {
     this.postedBy = postedBy;
   }
+
+  public FolioItemSource getSource() {
+    return source;
+  }
+
+  public void setSource(FolioItemSource source) {
+    this.source = source;
+  }
 }
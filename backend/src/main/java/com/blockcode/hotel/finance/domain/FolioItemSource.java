@@ -0,0 +1,8 @@
+package com.blockcode.hotel.finance.domain;
+
+public enum FolioItemSource {
+  MANUAL,
+  POS,
+  RESERVATION,
+  CANCELLATION_PENALTY
+}
@@ -0,0 +1,69 @@
+package com.blockcode.hotel.finance.infra;
+
+import com.blockcode.hotel.finance.domain.DailyRevenueEntity;
+import com.blockcode.hotel.finance.domain.DailyRevenueId;
+import com.blockcode.hotel.report.api.dto.RevenueReportResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyRevenueRepository extends JpaRepository<DailyRevenueEntity, DailyRevenueId> {
+  @Modifying
+  @Query(
+      value = "insert into daily_revenue (property_id, business_date, method, currency, payment_amount, payment_count) " +
+          "select r.property_id, cast(p.created_at at time zone pr.timezone as date), p.method, p.currency, p.amount, 1 " +
+          "from payments p " +
+          "join folios f on f.id = p.folio_id " +
+          "join reservations r on r.id = f.reservation_id " +
+          "join properties pr on pr.id = r.property_id " +
+          "where p.id = :paymentId " +
+          "on conflict (property_id, business_date, method, currency) do update set " +
+          "payment_amount = daily_revenue.payment_amount + excluded.payment_amount, " +
+          "payment_count = daily_revenue.payment_count + 1, " +
+          "updated_at = now()",
+      nativeQuery = true
+  )
+  int recordPayment(@Param("paymentId") UUID paymentId);
+
+  @Modifying
+  @Query(
+      value = "insert into daily_revenue (property_id, business_date, method, currency, refund_amount, refund_count) " +
+          "select r.property_id, cast(rf.created_at at time zone pr.timezone as date), p.method, p.currency, rf.amount, 1 " +
+          "from refunds rf " +
+          "join payments p on p.id = rf.payment_id " +
+          "join folios f on f.id = p.folio_id " +
+          "join reservations r on r.id = f.reservation_id " +
+          "join properties pr on pr.id = r.property_id " +
+          "where rf.id = :refundId " +
+          "on conflict (property_id, business_date, method, currency) do update set " +
+          "refund_amount = daily_revenue.refund_amount + excluded.refund_amount, " +
+          "refund_count = daily_revenue.refund_count + 1, " +
+          "updated_at = now()",
+      nativeQuery = true
+  )
+  int recordRefund(@Param("refundId") UUID refundId);
+
+  @Query(value = "select rebuild_daily_revenue(:fromDate, :toDate)", nativeQuery = true)
+  int rebuild(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+  @Query("select new com.blockcode.hotel.report.api.dto.RevenueReportResponse(" +
+      "d.id.businessDate, " +
+      "cast(d.id.method as string), " +
+      "d.id.currency, " +
+      "sum(d.paymentAmount - d.refundAmount), " +
+      "sum(d.refundAmount), " +
+      "sum(d.paymentCount)) " +
+      "from DailyRevenueEntity d " +
+      "where d.id.businessDate between :fromDate and :toDate " +
+      "and (:propertyId is null or d.id.propertyId = :propertyId) " +
+      "group by d.id.businessDate, d.id.method, d.id.currency " +
+      "order by d.id.businessDate desc, d.id.method asc, d.id.currency asc")
+  List<RevenueReportResponse> getRevenueReport(@Param("fromDate") LocalDate fromDate,
+                                               @Param("toDate") LocalDate toDate,
+                                               @Param("propertyId") UUID propertyId);
+}
@@ -1,8 +1,15 @@
 package com.blockcode.hotel.finance.infra;
 
 import com.blockcode.hotel.finance.domain.FolioEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,7 +17,87 @@ import java.util.UUID;
 public interface FolioRepository extends JpaRepository<FolioEntity, UUID> {
   Optional<FolioEntity> findByIdAndDeletedAtIsNull(UUID id);
 
+  /** Row-locks the folio so checks against its payments and refunds hold until the transaction commits. */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select f from FolioEntity f where f.id = :id and f.deletedAt is null")
+  Optional<FolioEntity> findByIdForUpdate(@Param("id") UUID id);
+
   Optional<FolioEntity> findByReservationIdAndDeletedAtIsNull(UUID reservationId);
 
   List<FolioEntity> findAllByDeletedAtIsNullOrderByCreatedAtDesc();
+
+  @Query("select f from FolioEntity f where f.deletedAt is null and f.balance <> 0 order by f.balance desc")
+  List<FolioEntity> findOutstanding();
+
+  /**
+   * Resolves POS targets in one round trip. Rows are [kind ('CODE' or 'ROOM'), key, folio id, folio status,
+   * reservation status]; a room number resolves through the reservation currently checked in to it.
+   */
+  @Query(
+      value = "select 'CODE', r.code, f.id, cast(f.status as text), cast(r.status as text) " +
+          "from reservations r " +
+          "join folios f on f.reservation_id = r.id and f.deleted_at is null " +
+          "where r.property_id = :propertyId and r.deleted_at is null and r.code in (:codes) " +
+          "union all " +
+          "select 'ROOM', rm.room_number, f.id, cast(f.status as text), cast(r.status as text) " +
+          "from rooms rm " +
+          "join reservation_rooms rr on rr.room_id = rm.id and rr.deleted_at is null " +
+          "join reservations r on r.id = rr.reservation_id and r.deleted_at is null and r.status = 'CHECKED_IN' " +
+          "join folios f on f.reservation_id = r.id and f.deleted_at is null " +
+          "where rm.property_id = :propertyId and rm.deleted_at is null and rm.room_number in (:roomNumbers)",
+      nativeQuery = true
+  )
+  List<Object[]> resolvePosTargets(@Param("propertyId") UUID propertyId,
+                                   @Param("codes") Collection<String> codes,
+                                   @Param("roomNumbers") Collection<String> roomNumbers);
+
+  @Modifying
+  @Query("update FolioEntity f set " +
+      "f.totalCharges = f.totalCharges + :charges, " +
+      "f.totalPayments = f.totalPayments + :payments, " +
+      "f.balance = f.balance + :charges - :payments " +
+      "where f.id = :folioId")
+  int applyDelta(@Param("folioId") UUID folioId,
+                 @Param("charges") BigDecimal charges,
+                 @Param("payments") BigDecimal payments);
+
+  @Modifying
+  @Query(
+      value = "update folios f set " +
+          "total_charges = t.charges, total_payments = t.payments, balance = t.charges - t.payments " +
+          "from (select " +
+          "  (select coalesce(sum(i.amount), 0) from folio_items i " +
+          "    where i.folio_id = :folioId and i.deleted_at is null) as charges, " +
+          "  (select coalesce(sum(p.amount), 0) from payments p " +
+          "    where p.folio_id = :folioId and p.deleted_at is null " +
+          "    and p.status in ('AUTHORIZED', 'CAPTURED')) " +
+          "  - (select coalesce(sum(r.amount), 0) from refunds r join payments p on p.id = r.payment_id " +
+          "    where p.folio_id = :folioId and r.deleted_at is null and r.status = 'REFUNDED' " +
+          "    and p.deleted_at is null and p.status in ('AUTHORIZED', 'CAPTURED')) as payments) t " +
+          "where f.id = :folioId",
+      nativeQuery = true
+  )
+  int recalculateTotals(@Param("folioId") UUID folioId);
+
+  @Query(
+      value = "select f.id, f.total_charges, f.total_payments, f.balance, " +
+          "coalesce(c.total, 0), coalesce(ap.total, 0) - coalesce(rf.total, 0) " +
+          "from folios f " +
+          "left join (select folio_id, sum(amount) as total from folio_items " +
+          "  where deleted_at is null group by folio_id) c on c.folio_id = f.id " +
+          "left join (select folio_id, sum(amount) as total from payments " +
+          "  where deleted_at is null and status in ('AUTHORIZED', 'CAPTURED') group by folio_id) ap " +
+          "  on ap.folio_id = f.id " +
+          "left join (select p.folio_id, sum(r.amount) as total from refunds r " +
+          "  join payments p on p.id = r.payment_id " +
+          "  where r.deleted_at is null and r.status = 'REFUNDED' " +
+          "  and p.deleted_at is null and p.status in ('AUTHORIZED', 'CAPTURED') " +
+          "  group by p.folio_id) rf on rf.folio_id = f.id " +
+          "where f.deleted_at is null " +
+          "and (f.total_charges <> coalesce(c.total, 0) " +
+          "  or f.total_payments <> coalesce(ap.total, 0) - coalesce(rf.total, 0) " +
+          "  or f.balance <> f.total_charges - f.total_payments)",
+      nativeQuery = true
+  )
+  List<Object[]> findBalanceDrift();
 }
@@ -2,10 +2,18 @@ package com.blockcode.hotel.finance.infra;
 
 import com.blockcode.hotel.finance.domain.RefundEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
 public interface RefundRepository extends JpaRepository<RefundEntity, UUID> {
   List<RefundEntity> findAllByPaymentIdAndDeletedAtIsNullOrderByCreatedAtDesc(UUID paymentId);
+
+  @Query("select coalesce(sum(r.amount), 0) from RefundEntity r " +
+      "where r.paymentId = :paymentId and r.deletedAt is null " +
+      "and r.status = com.blockcode.hotel.finance.domain.PaymentStatus.REFUNDED")
+  BigDecimal sumRefundedByPaymentId(@Param("paymentId") UUID paymentId);
 }
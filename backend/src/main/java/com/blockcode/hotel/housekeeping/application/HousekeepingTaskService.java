@@ -1,5 +1,6 @@
 package com.blockcode.hotel.housekeeping.application;
 
+import com.blockcode.hotel.common.event.DataChangedEvent;
 import com.blockcode.hotel.common.exception.AppException;
 import com.blockcode.hotel.common.security.CurrentUserProvider;
 import com.blockcode.hotel.housekeeping.api.dto.HousekeepingBoardRowResponse;
@@ -15,6 +16,7 @@ import com.blockcode.hotel.housekeeping.infra.HousekeepingTaskRepository;
 import com.blockcode.hotel.property.infra.PropertyRepository;
 import com.blockcode.hotel.room.domain.RoomEntity;
 import com.blockcode.hotel.room.infra.RoomRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,19 +38,22 @@ public class HousekeepingTaskService {
   private final PropertyRepository propertyRepository;
   private final RoomRepository roomRepository;
   private final CurrentUserProvider currentUserProvider;
+  private final ApplicationEventPublisher eventPublisher;
 
   public HousekeepingTaskService(
       HousekeepingTaskRepository taskRepository,
       HousekeepingTaskEventRepository eventRepository,
       PropertyRepository propertyRepository,
       RoomRepository roomRepository,
-      CurrentUserProvider currentUserProvider
+      CurrentUserProvider currentUserProvider,
+      ApplicationEventPublisher eventPublisher
   ) {
     this.taskRepository = taskRepository;
     this.eventRepository = eventRepository;
     this.propertyRepository = propertyRepository;
     this.roomRepository = roomRepository;
     this.currentUserProvider = currentUserProvider;
+    this.eventPublisher = eventPublisher;
   }
 
   public HousekeepingTaskResponse create(HousekeepingTaskRequest request) {
@@ -59,6 +64,7 @@ public class HousekeepingTaskService {
     apply(entity, request);
     taskRepository.save(entity);
     recordStatusEvent(entity, entity.getStatus());
+    eventPublisher.publishEvent(DataChangedEvent.housekeeping(entity.getPropertyId()));
 
     return toResponse(entity);
   }
@@ -92,6 +98,7 @@ public class HousekeepingTaskService {
     if (previousStatus != entity.getStatus()) {
       recordStatusEvent(entity, entity.getStatus());
     }
+    eventPublisher.publishEvent(DataChangedEvent.housekeeping(entity.getPropertyId()));
     return toResponse(entity);
   }
 
@@ -148,6 +155,7 @@ public class HousekeepingTaskService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "Housekeeping task not found", HttpStatus.NOT_FOUND));
     entity.setDeletedAt(Instant.now());
     taskRepository.save(entity);
+    eventPublisher.publishEvent(DataChangedEvent.housekeeping(entity.getPropertyId()));
   }
 
   private void validateProperty(UUID propertyId) {
@@ -2,6 +2,8 @@ package com.blockcode.hotel.housekeeping.infra;
 
 import com.blockcode.hotel.housekeeping.domain.HousekeepingTaskEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,5 +28,26 @@ public interface HousekeepingTaskRepository extends JpaRepository<HousekeepingTa
       LocalDate taskDate,
       WorkShift shift);
 
-  Optional<HousekeepingTaskEntity> findTopByRoomIdOrderByTaskDateDesc(UUID roomId);
+  /**
+   * Every active room with its most recent housekeeping task. Rows are [room id, room number, room type name,
+   * floor, zone, latest task status or null, assigned employee id or null].
+   */
+  @Query(
+      value = "select rm.id, rm.room_number, coalesce(rt.name, 'Unknown'), rm.floor, rm.housekeeping_zone, " +
+          "cast(t.status as text), t.assigned_to_employee_id " +
+          "from rooms rm " +
+          "left join room_types rt on rt.id = rm.room_type_id " +
+          "left join (" +
+          "  select distinct on (ht.room_id) ht.room_id, ht.status, ht.assigned_to_employee_id " +
+          "  from housekeeping_tasks ht " +
+          "  where ht.deleted_at is null " +
+          "  and (cast(:propertyId as uuid) is null or ht.property_id = :propertyId) " +
+          "  order by ht.room_id, ht.task_date desc, ht.shift desc, ht.created_at desc" +
+          ") t on t.room_id = rm.id " +
+          "where rm.deleted_at is null " +
+          "and (cast(:propertyId as uuid) is null or rm.property_id = :propertyId) " +
+          "order by rm.room_number",
+      nativeQuery = true
+  )
+  List<Object[]> findRoomsWithLatestTask(@Param("propertyId") UUID propertyId);
 }
@@ -0,0 +1,95 @@
+package com.blockcode.hotel.pricing.application;
+
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.pricing.domain.CancellationPolicyEntity;
+import com.blockcode.hotel.pricing.domain.RatePlanEntity;
+import com.blockcode.hotel.pricing.infra.CancellationPolicyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles cancellation policy rules once and keeps the immutable evaluators per policy id.
+ * {@link CancellationPolicyService} evicts entries whenever a policy is changed or deleted.
+ */
+@Service
+public class CancellationPolicyEngine {
+  private final CancellationPolicyRepository cancellationPolicyRepository;
+  private final ObjectMapper objectMapper;
+  private final Map<UUID, CancellationPolicyEvaluator> evaluators = new ConcurrentHashMap<>();
+
+  public CancellationPolicyEngine(
+      CancellationPolicyRepository cancellationPolicyRepository,
+      ObjectMapper objectMapper
+  ) {
+    this.cancellationPolicyRepository = cancellationPolicyRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  public CancellationPolicyEvaluator compile(String rules) {
+    try {
+      return CancellationPolicyEvaluator.compile(objectMapper.readTree(rules));
+    } catch (IllegalArgumentException ex) {
+      throw new AppException("INVALID_RULES", ex.getMessage(), HttpStatus.BAD_REQUEST);
+    } catch (Exception ex) {
+      throw new AppException("INVALID_RULES_JSON", "Rules must be valid JSON", HttpStatus.BAD_REQUEST);
+    }
+  }
+
+  public CancellationPolicyEvaluator forRatePlan(RatePlanEntity ratePlan) {
+    if (ratePlan.getCancellationPolicyId() != null) {
+      return forPolicy(ratePlan.getCancellationPolicyId());
+    }
+    return ratePlan.isRefundable() ? CancellationPolicyEvaluator.FREE : CancellationPolicyEvaluator.NON_REFUNDABLE;
+  }
+
+  public CancellationPolicyEvaluator forPolicy(UUID policyId) {
+    CancellationPolicyEvaluator cached = evaluators.get(policyId);
+    if (cached != null) {
+      return cached;
+    }
+
+    CancellationPolicyEvaluator compiled = cancellationPolicyRepository.findByIdAndDeletedAtIsNull(policyId)
+        .map(CancellationPolicyEntity::getRules)
+        .map(this::compileStored)
+        .orElse(CancellationPolicyEvaluator.FREE);
+    CancellationPolicyEvaluator existing = evaluators.putIfAbsent(policyId, compiled);
+    return existing != null ? existing : compiled;
+  }
+
+  public Instant arrivalInstant(CancellationPolicyEvaluator evaluator, LocalDate checkInDate, ZoneId zone) {
+    return checkInDate.atTime(evaluator.getCheckInTime()).atZone(zone).toInstant();
+  }
+
+  public void evict(UUID policyId) {
+    evaluators.remove(policyId);
+    // A concurrent reader may re-cache the old rules before the write commits, so evict again afterwards.
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evaluators.remove(policyId);
+        }
+      });
+    }
+  }
+
+  private CancellationPolicyEvaluator compileStored(String rules) {
+    // Policies saved before rules were compiled on write may not parse; treat them as free cancellation
+    // rather than blocking the cancellation itself.
+    try {
+      return CancellationPolicyEvaluator.compile(objectMapper.readTree(rules));
+    } catch (Exception ex) {
+      return CancellationPolicyEvaluator.FREE;
+    }
+  }
+}
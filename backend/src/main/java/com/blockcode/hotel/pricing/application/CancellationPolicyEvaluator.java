@@ -0,0 +1,238 @@
+package com.blockcode.hotel.pricing.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, pre-compiled form of a cancellation policy's JSON rules.
+ *
+ * <p>Supported rule shapes:
+ * <pre>
+ * {}                                                       free cancellation until check-in
+ * {"type":"NON_REFUNDABLE"}                                full stay is charged at any time
+ * {"type":"FLEXIBLE","hours":24,"penalty":"one_night"}     single window before check-in
+ * {"checkInTime":"14:00","tiers":[
+ *    {"hoursBefore":72,"penaltyType":"PERCENT","penaltyValue":50},
+ *    {"hoursBefore":24,"penalty":"full_stay"}]}            nested windows, tightest wins
+ * </pre>
+ * Penalty shorthands are {@code none}, {@code one_night} and {@code full_stay}; explicit penalties use
+ * {@code penaltyType} PERCENT (of the stay), NIGHTS (first n nights) or FIXED (amount, capped at the stay).
+ */
+public final class CancellationPolicyEvaluator {
+  public static final LocalTime DEFAULT_CHECK_IN_TIME = LocalTime.of(14, 0);
+
+  public static final CancellationPolicyEvaluator FREE =
+      new CancellationPolicyEvaluator(DEFAULT_CHECK_IN_TIME, new long[0], new PenaltyType[0], new BigDecimal[0]);
+
+  public static final CancellationPolicyEvaluator NON_REFUNDABLE = new CancellationPolicyEvaluator(
+      DEFAULT_CHECK_IN_TIME,
+      new long[] {Long.MAX_VALUE},
+      new PenaltyType[] {PenaltyType.PERCENT},
+      new BigDecimal[] {BigDecimal.ONE});
+
+  private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+  public enum PenaltyType {
+    PERCENT,
+    NIGHTS,
+    FIXED
+  }
+
+  private final LocalTime checkInTime;
+  // Parallel arrays sorted by window size ascending; the first window containing the cancellation applies.
+  private final long[] windowSeconds;
+  private final PenaltyType[] penaltyTypes;
+  private final BigDecimal[] penaltyValues;
+
+  private CancellationPolicyEvaluator(
+      LocalTime checkInTime,
+      long[] windowSeconds,
+      PenaltyType[] penaltyTypes,
+      BigDecimal[] penaltyValues
+  ) {
+    this.checkInTime = checkInTime;
+    this.windowSeconds = windowSeconds;
+    this.penaltyTypes = penaltyTypes;
+    this.penaltyValues = penaltyValues;
+  }
+
+  public static CancellationPolicyEvaluator compile(JsonNode rules) {
+    if (rules == null || rules.isNull() || rules.isMissingNode()) {
+      return FREE;
+    }
+    if (!rules.isObject()) {
+      throw new IllegalArgumentException("Rules must be a JSON object");
+    }
+
+    LocalTime checkInTime = parseCheckInTime(rules.path("checkInTime"));
+    String type = rules.path("type").asText("");
+    List<Tier> tiers = new ArrayList<>();
+
+    if ("NON_REFUNDABLE".equalsIgnoreCase(type)) {
+      tiers.add(new Tier(Long.MAX_VALUE, PenaltyType.PERCENT, BigDecimal.ONE));
+    } else if ("FLEXIBLE".equalsIgnoreCase(type)) {
+      addTier(tiers, rules, "hours");
+    } else if (!type.isEmpty()) {
+      throw new IllegalArgumentException("Unknown policy type: " + type);
+    }
+
+    JsonNode tierNodes = rules.path("tiers");
+    if (!tierNodes.isMissingNode() && !tierNodes.isNull()) {
+      if (!tierNodes.isArray()) {
+        throw new IllegalArgumentException("tiers must be an array");
+      }
+      for (JsonNode tierNode : tierNodes) {
+        addTier(tiers, tierNode, "hoursBefore");
+      }
+    }
+
+    if (tiers.isEmpty() && checkInTime.equals(DEFAULT_CHECK_IN_TIME)) {
+      return FREE;
+    }
+
+    tiers.sort(Comparator.comparingLong(Tier::windowSeconds));
+    long[] windows = new long[tiers.size()];
+    PenaltyType[] types = new PenaltyType[tiers.size()];
+    BigDecimal[] values = new BigDecimal[tiers.size()];
+    for (int i = 0; i < tiers.size(); i++) {
+      Tier tier = tiers.get(i);
+      windows[i] = tier.windowSeconds();
+      types[i] = tier.type();
+      values[i] = tier.value();
+    }
+    return new CancellationPolicyEvaluator(checkInTime, windows, types, values);
+  }
+
+  public LocalTime getCheckInTime() {
+    return checkInTime;
+  }
+
+  public boolean isRefundable() {
+    return windowSeconds.length == 0 || windowSeconds[windowSeconds.length - 1] != Long.MAX_VALUE;
+  }
+
+  /**
+   * Last instant at which the booking can be cancelled without penalty, or {@code null} when no free
+   * cancellation window exists.
+   */
+  public Instant freeCancellationUntil(Instant arrival) {
+    if (windowSeconds.length == 0) {
+      return arrival;
+    }
+    long widest = windowSeconds[windowSeconds.length - 1];
+    if (widest == Long.MAX_VALUE) {
+      return null;
+    }
+    return arrival.minusSeconds(widest);
+  }
+
+  /**
+   * Penalty owed when cancelling at {@code cancelledAt} for a stay arriving at {@code arrival}.
+   * {@code nightlyPrices} must be ordered by stay date.
+   */
+  public BigDecimal penalty(Instant cancelledAt, Instant arrival, List<BigDecimal> nightlyPrices) {
+    int tier = applicableTier(arrival.getEpochSecond() - cancelledAt.getEpochSecond());
+    if (tier < 0 || nightlyPrices == null || nightlyPrices.isEmpty()) {
+      return BigDecimal.ZERO;
+    }
+
+    BigDecimal stayTotal = BigDecimal.ZERO;
+    for (BigDecimal price : nightlyPrices) {
+      if (price != null) {
+        stayTotal = stayTotal.add(price);
+      }
+    }
+
+    BigDecimal value = penaltyValues[tier];
+    BigDecimal amount = switch (penaltyTypes[tier]) {
+      case PERCENT -> stayTotal.multiply(value);
+      case FIXED -> value.min(stayTotal);
+      case NIGHTS -> {
+        int nights = Math.min(value.intValue(), nightlyPrices.size());
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < nights; i++) {
+          BigDecimal price = nightlyPrices.get(i);
+          if (price != null) {
+            sum = sum.add(price);
+          }
+        }
+        yield sum;
+      }
+    };
+    return amount.setScale(2, RoundingMode.HALF_UP);
+  }
+
+  private int applicableTier(long secondsBeforeArrival) {
+    for (int i = 0; i < windowSeconds.length; i++) {
+      if (secondsBeforeArrival <= windowSeconds[i]) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void addTier(List<Tier> tiers, JsonNode node, String hoursField) {
+    JsonNode hours = node.path(hoursField);
+    if (!hours.isNumber() || hours.asLong() < 0) {
+      throw new IllegalArgumentException(hoursField + " must be a non-negative number");
+    }
+
+    PenaltyType type;
+    BigDecimal value;
+    JsonNode shorthand = node.path("penalty");
+    if (shorthand.isTextual()) {
+      switch (shorthand.asText().toLowerCase()) {
+        case "none" -> {
+          return;
+        }
+        case "one_night" -> {
+          type = PenaltyType.NIGHTS;
+          value = BigDecimal.ONE;
+        }
+        case "full_stay", "full" -> {
+          type = PenaltyType.PERCENT;
+          value = BigDecimal.ONE;
+        }
+        default -> throw new IllegalArgumentException("Unknown penalty: " + shorthand.asText());
+      }
+    } else {
+      try {
+        type = PenaltyType.valueOf(node.path("penaltyType").asText("").toUpperCase());
+      } catch (IllegalArgumentException ex) {
+        throw new IllegalArgumentException("penaltyType must be PERCENT, NIGHTS or FIXED");
+      }
+      JsonNode rawValue = node.path("penaltyValue");
+      if (!rawValue.isNumber() || rawValue.decimalValue().signum() < 0) {
+        throw new IllegalArgumentException("penaltyValue must be a non-negative number");
+      }
+      value = rawValue.decimalValue();
+      if (type == PenaltyType.PERCENT) {
+        value = value.divide(HUNDRED, 6, RoundingMode.HALF_UP);
+      }
+    }
+
+    long window = Math.multiplyExact(hours.asLong(), 3600L);
+    tiers.add(new Tier(window, type, value));
+  }
+
+  private static LocalTime parseCheckInTime(JsonNode node) {
+    if (node.isMissingNode() || node.isNull()) {
+      return DEFAULT_CHECK_IN_TIME;
+    }
+    try {
+      return LocalTime.parse(node.asText());
+    } catch (DateTimeParseException ex) {
+      throw new IllegalArgumentException("checkInTime must be HH:mm");
+    }
+  }
+
+  private record Tier(long windowSeconds, PenaltyType type, BigDecimal value) {}
+}
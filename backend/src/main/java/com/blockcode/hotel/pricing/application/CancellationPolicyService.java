@@ -7,7 +7,6 @@ import com.blockcode.hotel.pricing.api.dto.CancellationPolicyResponse;
 import com.blockcode.hotel.pricing.domain.CancellationPolicyEntity;
 import com.blockcode.hotel.pricing.infra.CancellationPolicyRepository;
 import com.blockcode.hotel.property.infra.PropertyRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,18 +20,18 @@ import java.util.UUID;
 public class CancellationPolicyService {
   private final CancellationPolicyRepository cancellationPolicyRepository;
   private final PropertyRepository propertyRepository;
-  private final ObjectMapper objectMapper;
+  private final CancellationPolicyEngine cancellationPolicyEngine;
   private final AuditService auditService;
 
   public CancellationPolicyService(
       CancellationPolicyRepository cancellationPolicyRepository,
       PropertyRepository propertyRepository,
-      ObjectMapper objectMapper,
+      CancellationPolicyEngine cancellationPolicyEngine,
       AuditService auditService
   ) {
     this.cancellationPolicyRepository = cancellationPolicyRepository;
     this.propertyRepository = propertyRepository;
-    this.objectMapper = objectMapper;
+    this.cancellationPolicyEngine = cancellationPolicyEngine;
     this.auditService = auditService;
   }
 
@@ -83,6 +82,7 @@ public class CancellationPolicyService {
 
     apply(entity, request);
     cancellationPolicyRepository.save(entity);
+    cancellationPolicyEngine.evict(entity.getId());
     auditService.log("cancellation_policy", entity.getId(), "UPDATE", null, entity, entity.getPropertyId());
     return toResponse(entity);
   }
@@ -92,6 +92,7 @@ public class CancellationPolicyService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "Cancellation policy not found", HttpStatus.NOT_FOUND));
     entity.setDeletedAt(Instant.now());
     cancellationPolicyRepository.save(entity);
+    cancellationPolicyEngine.evict(entity.getId());
     auditService.log("cancellation_policy", entity.getId(), "DELETE", null, entity, entity.getPropertyId());
   }
 
@@ -108,11 +109,7 @@ public class CancellationPolicyService {
   }
 
   private void validateRules(String rules) {
-    try {
-      objectMapper.readTree(rules);
-    } catch (Exception ex) {
-      throw new AppException("INVALID_RULES_JSON", "Rules must be valid JSON", HttpStatus.BAD_REQUEST);
-    }
+    cancellationPolicyEngine.compile(rules);
   }
 
   private CancellationPolicyResponse toResponse(CancellationPolicyEntity entity) {
@@ -1,5 +1,6 @@
 package com.blockcode.hotel.publicapi.api;
 
+import com.blockcode.hotel.publicapi.api.dto.PublicCancellationTermsResponse;
 import com.blockcode.hotel.publicapi.api.dto.PublicPropertyResponse;
 import com.blockcode.hotel.publicapi.api.dto.PublicReservationRequest;
 import com.blockcode.hotel.publicapi.application.PublicReservationService;
@@ -9,6 +10,8 @@ import com.blockcode.hotel.reservation.application.AvailabilityService;
 import com.blockcode.hotel.room.api.dto.RoomTypeResponse;
 import com.blockcode.hotel.room.application.RoomTypeService;
 import com.blockcode.hotel.pricing.api.dto.RatePlanResponse;
+import com.blockcode.hotel.pricing.application.CancellationPolicyEngine;
+import com.blockcode.hotel.pricing.application.CancellationPolicyEvaluator;
 import com.blockcode.hotel.pricing.domain.RatePlanEntity;
 import com.blockcode.hotel.pricing.domain.RatePlanPriceEntity;
 import com.blockcode.hotel.pricing.infra.RatePlanPriceRepository;
@@ -21,6 +24,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -35,6 +39,7 @@ public class PublicController {
   private final RatePlanPriceRepository ratePlanPriceRepository;
   private final AvailabilityService availabilityService;
   private final PublicReservationService publicReservationService;
+  private final CancellationPolicyEngine cancellationPolicyEngine;
 
   public PublicController(
       PropertyRepository propertyRepository,
@@ -42,7 +47,8 @@ public class PublicController {
       RatePlanRepository ratePlanRepository,
       RatePlanPriceRepository ratePlanPriceRepository,
       AvailabilityService availabilityService,
-      PublicReservationService publicReservationService
+      PublicReservationService publicReservationService,
+      CancellationPolicyEngine cancellationPolicyEngine
   ) {
     this.propertyRepository = propertyRepository;
     this.roomTypeService = roomTypeService;
@@ -50,6 +56,7 @@ public class PublicController {
     this.ratePlanPriceRepository = ratePlanPriceRepository;
     this.availabilityService = availabilityService;
     this.publicReservationService = publicReservationService;
+    this.cancellationPolicyEngine = cancellationPolicyEngine;
   }
 
   @GetMapping("/properties")
@@ -97,6 +104,28 @@ public class PublicController {
         .toList();
   }
 
+  @GetMapping("/rate-plans/cancellation-terms")
+  public List<PublicCancellationTermsResponse> cancellationTerms(
+      @RequestParam UUID propertyId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn
+  ) {
+    PropertyEntity property = propertyRepository.findByIdAndDeletedAtIsNull(propertyId)
+        .orElseThrow(() -> new AppException("PROPERTY_NOT_FOUND", "Property not found", org.springframework.http.HttpStatus.NOT_FOUND));
+    ZoneId zone = ZoneId.of(property.getTimezone());
+
+    return ratePlanRepository.findAllByPropertyIdAndDeletedAtIsNullOrderByNameAsc(propertyId)
+        .stream()
+        .map(plan -> {
+          CancellationPolicyEvaluator evaluator = cancellationPolicyEngine.forRatePlan(plan);
+          return new PublicCancellationTermsResponse(
+              plan.getId(),
+              evaluator.isRefundable(),
+              evaluator.freeCancellationUntil(cancellationPolicyEngine.arrivalInstant(evaluator, checkIn, zone))
+          );
+        })
+        .toList();
+  }
+
   @GetMapping("/availability")
   public List<RoomTypeAvailabilityResponse> availability(
       @RequestParam UUID propertyId,
@@ -0,0 +1,11 @@
+package com.blockcode.hotel.publicapi.api.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record PublicCancellationTermsResponse(
+    UUID ratePlanId,
+    boolean refundable,
+    Instant freeCancellationUntil
+) {
+}
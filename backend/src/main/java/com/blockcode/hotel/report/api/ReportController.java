@@ -1,91 +1,187 @@
 package com.blockcode.hotel.report.api;
 
+import com.blockcode.hotel.report.api.dto.DashboardResponse;
 import com.blockcode.hotel.report.api.dto.GuestInHouseResponse;
+import com.blockcode.hotel.report.api.dto.HousekeepingBoardResponse;
 import com.blockcode.hotel.report.api.dto.HousekeepingStatusResponse;
 import com.blockcode.hotel.report.api.dto.OccupancyReportResponse;
+import com.blockcode.hotel.report.api.dto.PaceReportResponse;
 import com.blockcode.hotel.report.api.dto.PayrollReportResponse;
+import com.blockcode.hotel.report.api.dto.PickupReportResponse;
 import com.blockcode.hotel.report.api.dto.RevenueReportResponse;
+import com.blockcode.hotel.report.api.dto.RoomTypeOccupancyResponse;
+import com.blockcode.hotel.report.application.BookingPaceService;
+import com.blockcode.hotel.report.application.DashboardService;
+import com.blockcode.hotel.report.application.ReportCache;
+import com.blockcode.hotel.report.application.ReportCache.Report;
 import com.blockcode.hotel.report.application.ReportService;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/reports")
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportCache reportCache;
+    private final DashboardService dashboardService;
+    private final BookingPaceService bookingPaceService;
 
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService,
+            ReportCache reportCache,
+            DashboardService dashboardService,
+            BookingPaceService bookingPaceService) {
         this.reportService = reportService;
+        this.reportCache = reportCache;
+        this.dashboardService = dashboardService;
+        this.bookingPaceService = bookingPaceService;
+    }
+
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public DashboardResponse getDashboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) UUID propertyId) {
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        return dashboardService.getDashboard(targetDate, propertyId);
     }
 
     @GetMapping("/revenue")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
     public List<RevenueReportResponse> getRevenueReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) UUID propertyId) {
+        return reportCache.get(Report.REVENUE, propertyId, fromDate, toDate,
+                () -> reportService.getRevenueReport(fromDate, toDate, propertyId));
+    }
+
+    @PostMapping("/revenue/rebuild")
+    @PreAuthorize("hasAuthority('rbac.ADMIN')")
+    public int rebuildRevenueRollup(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
-        return reportService.getRevenueReport(fromDate, toDate);
+        return reportService.rebuildRevenueRollup(fromDate, toDate);
     }
 
     @GetMapping("/occupancy")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
     public List<OccupancyReportResponse> getOccupancyReport(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
-        return reportService.getOccupancyReport(fromDate, toDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) UUID propertyId) {
+        return reportCache.get(Report.OCCUPANCY, propertyId, fromDate, toDate,
+                () -> reportService.getOccupancyReport(fromDate, toDate, propertyId));
+    }
+
+    @GetMapping("/occupancy/room-types")
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public List<RoomTypeOccupancyResponse> getRoomTypeOccupancyReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) UUID propertyId) {
+        return reportCache.get(Report.ROOM_TYPE_OCCUPANCY, propertyId, fromDate, toDate,
+                () -> reportService.getRoomTypeOccupancyReport(fromDate, toDate, propertyId));
+    }
+
+    @GetMapping("/pace")
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public List<PaceReportResponse> getPaceReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "30") int daysOut,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(required = false) UUID propertyId) {
+        LocalDate targetDate = asOf != null ? asOf : LocalDate.now();
+        return bookingPaceService.getPaceReport(fromDate, toDate, daysOut, targetDate, propertyId);
+    }
+
+    @GetMapping("/pickup")
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public List<PickupReportResponse> getPickupReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID propertyId) {
+        LocalDate targetDate = endDate != null ? endDate : LocalDate.now();
+        return bookingPaceService.getPickupReport(fromDate, toDate, startDate, targetDate, propertyId);
+    }
+
+    @PostMapping("/pace/snapshot")
+    @PreAuthorize("hasAuthority('rbac.ADMIN')")
+    public int snapshotBookingPace() {
+        return bookingPaceService.snapshot(LocalDate.now());
     }
 
     @GetMapping("/guests-in-house")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
     public List<GuestInHouseResponse> getGuestInHouseReport(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) UUID propertyId) {
         // Default to today if null
         LocalDate targetDate = date != null ? date : LocalDate.now();
-        return reportService.getGuestInHouseReport(targetDate);
+        return reportCache.get(Report.IN_HOUSE, propertyId, targetDate, targetDate,
+                () -> reportService.getGuestInHouseReport(targetDate, propertyId));
     }
 
     @GetMapping("/arrivals")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
     public List<GuestInHouseResponse> getArrivalsReport(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) UUID propertyId) {
         LocalDate targetDate = date != null ? date : LocalDate.now();
-        return reportService.getArrivalsReport(targetDate);
+        return reportCache.get(Report.ARRIVALS, propertyId, targetDate, targetDate,
+                () -> reportService.getArrivalsReport(targetDate, propertyId));
     }
 
     @GetMapping("/departures")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
     public List<GuestInHouseResponse> getDeparturesReport(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) UUID propertyId) {
         LocalDate targetDate = date != null ? date : LocalDate.now();
-        return reportService.getDeparturesReport(targetDate);
+        return reportCache.get(Report.DEPARTURES, propertyId, targetDate, targetDate,
+                () -> reportService.getDeparturesReport(targetDate, propertyId));
     }
 
     @GetMapping("/housekeeping")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
-    public List<HousekeepingStatusResponse> getHousekeepingReport() {
-        return reportService.getHousekeepingReport();
+    public List<HousekeepingStatusResponse> getHousekeepingReport(@RequestParam(required = false) UUID propertyId) {
+        return getHousekeepingBoard(propertyId).rooms();
+    }
+
+    @GetMapping("/housekeeping/board")
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public HousekeepingBoardResponse getHousekeepingBoard(@RequestParam(required = false) UUID propertyId) {
+        return reportCache.get(Report.HOUSEKEEPING, propertyId, null, null,
+                () -> reportService.getHousekeepingBoard(propertyId));
     }
 
     @GetMapping("/new-bookings")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
     public long getNewBookingsCount(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) UUID propertyId) {
         LocalDate targetDate = date != null ? date : LocalDate.now();
-        return reportService.getNewBookingsCount(targetDate);
+        return reportService.getNewBookingsCount(targetDate, propertyId);
     }
 
     @GetMapping("/payroll")
     @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
     public List<PayrollReportResponse> getPayrollReport(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
-        return reportService.getPayrollReport(fromDate, toDate);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) UUID propertyId) {
+        return reportService.getPayrollReport(fromDate, toDate, propertyId);
     }
 }
@@ -0,0 +1,60 @@
+package com.blockcode.hotel.report.api;
+
+import com.blockcode.hotel.report.api.dto.ReportJobRequest;
+import com.blockcode.hotel.report.api.dto.ReportJobResponse;
+import com.blockcode.hotel.report.application.ReportJobService;
+import com.blockcode.hotel.report.application.ReportJobService.ReportJobResult;
+import com.blockcode.hotel.report.domain.ReportFormat;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/reports/jobs")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    public ReportJobController(ReportJobService reportJobService) {
+        this.reportJobService = reportJobService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public ReportJobResponse submit(@Valid @RequestBody ReportJobRequest request) {
+        return reportJobService.submit(request);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public ReportJobResponse get(@PathVariable UUID id) {
+        return reportJobService.get(id);
+    }
+
+    /** Streams the stored gzip body as-is; clients decompress it transparently via Content-Encoding. */
+    @GetMapping("/{id}/result")
+    @PreAuthorize("hasAuthority('report.READ') or hasAuthority('rbac.ADMIN')")
+    public ResponseEntity<byte[]> getResult(@PathVariable UUID id) {
+        ReportJobResult result = reportJobService.getResult(id);
+        boolean csv = result.format() == ReportFormat.CSV;
+        String filename = result.reportType().name().toLowerCase() + "-" + id + (csv ? ".csv" : ".json");
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(result.content());
+    }
+}
@@ -0,0 +1,18 @@
+package com.blockcode.hotel.report.api.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record DashboardResponse(
+        LocalDate date,
+        UUID propertyId,
+        boolean complete,
+        long elapsedMs,
+        DashboardSectionResponse<List<GuestInHouseResponse>> arrivals,
+        DashboardSectionResponse<List<GuestInHouseResponse>> departures,
+        DashboardSectionResponse<List<GuestInHouseResponse>> inHouse,
+        DashboardSectionResponse<OccupancyReportResponse> occupancy,
+        DashboardSectionResponse<Long> newBookings,
+        DashboardSectionResponse<HousekeepingBoardResponse> housekeeping) {
+}
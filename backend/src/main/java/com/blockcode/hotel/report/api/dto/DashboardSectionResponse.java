@@ -0,0 +1,18 @@
+package com.blockcode.hotel.report.api.dto;
+
+/**
+ * One dashboard section. {@code data} is null unless {@code status} is OK; {@code elapsedMs} is the time the
+ * section took, or how long the dashboard waited for it before giving up.
+ */
+public record DashboardSectionResponse<T>(
+        Status status,
+        long elapsedMs,
+        T data,
+        String error) {
+
+    public enum Status {
+        OK,
+        TIMEOUT,
+        FAILED
+    }
+}
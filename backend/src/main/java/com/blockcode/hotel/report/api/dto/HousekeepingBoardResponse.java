@@ -0,0 +1,8 @@
+package com.blockcode.hotel.report.api.dto;
+
+import java.util.List;
+
+public record HousekeepingBoardResponse(
+        List<HousekeepingStatusResponse> rooms,
+        List<HousekeepingZoneSummaryResponse> zones) {
+}
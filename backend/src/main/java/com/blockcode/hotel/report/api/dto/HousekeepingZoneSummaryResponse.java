@@ -0,0 +1,10 @@
+package com.blockcode.hotel.report.api.dto;
+
+import java.util.Map;
+
+public record HousekeepingZoneSummaryResponse(
+        String floor,
+        String zone,
+        long totalRooms,
+        Map<String, Long> roomsByStatus) {
+}
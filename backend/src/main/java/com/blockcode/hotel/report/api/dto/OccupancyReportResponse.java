@@ -1,10 +1,14 @@
 package com.blockcode.hotel.report.api.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public record OccupancyReportResponse(
         LocalDate date,
         long totalRooms,
         long occupiedRooms,
-        double occupancyPercentage) {
+        double occupancyPercentage,
+        BigDecimal roomRevenue,
+        BigDecimal adr,
+        BigDecimal revpar) {
 }
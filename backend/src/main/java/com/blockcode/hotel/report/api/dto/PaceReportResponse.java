@@ -0,0 +1,16 @@
+package com.blockcode.hotel.report.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PaceReportResponse(
+        LocalDate stayDate,
+        int daysOut,
+        long roomsSold,
+        BigDecimal revenue,
+        LocalDate lastYearStayDate,
+        long lastYearRoomsSold,
+        BigDecimal lastYearRevenue,
+        long currentRoomsSold,
+        BigDecimal currentRevenue) {
+}
@@ -10,6 +10,10 @@ public record PayrollReportResponse(
     String department,
     BigDecimal hourlyRate,
     int totalMinutes,
-    BigDecimal totalPay
+    BigDecimal totalPay,
+    int regularMinutes,
+    int overtimeMinutes,
+    BigDecimal regularPay,
+    BigDecimal overtimePay
 ) {
 }
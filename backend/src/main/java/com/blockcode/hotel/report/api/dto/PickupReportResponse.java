@@ -0,0 +1,14 @@
+package com.blockcode.hotel.report.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PickupReportResponse(
+        LocalDate stayDate,
+        long startRoomsSold,
+        long endRoomsSold,
+        long roomsPickup,
+        BigDecimal startRevenue,
+        BigDecimal endRevenue,
+        BigDecimal revenuePickup) {
+}
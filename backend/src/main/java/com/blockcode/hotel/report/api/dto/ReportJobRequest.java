@@ -0,0 +1,17 @@
+package com.blockcode.hotel.report.api.dto;
+
+import com.blockcode.hotel.report.domain.ReportFormat;
+import com.blockcode.hotel.report.domain.ReportType;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ReportJobRequest(
+        @NotNull ReportType reportType,
+        ReportFormat format,
+        @NotNull LocalDate fromDate,
+        @NotNull LocalDate toDate,
+        UUID propertyId
+) {
+}
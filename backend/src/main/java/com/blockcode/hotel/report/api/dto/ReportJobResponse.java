@@ -0,0 +1,24 @@
+package com.blockcode.hotel.report.api.dto;
+
+import com.blockcode.hotel.report.domain.ReportFormat;
+import com.blockcode.hotel.report.domain.ReportJobStatus;
+import com.blockcode.hotel.report.domain.ReportType;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ReportJobResponse(
+        UUID id,
+        ReportType reportType,
+        ReportFormat format,
+        JsonNode params,
+        ReportJobStatus status,
+        Integer rowCount,
+        String error,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        Instant expiresAt
+) {
+}
@@ -6,6 +6,8 @@ import java.time.LocalDate;
 public record RevenueReportResponse(
         LocalDate date,
         String paymentMethod,
+        String currency,
         BigDecimal totalAmount,
+        BigDecimal refundedAmount,
         long transactionCount) {
 }
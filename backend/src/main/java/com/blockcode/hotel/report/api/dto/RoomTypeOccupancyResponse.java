@@ -0,0 +1,18 @@
+package com.blockcode.hotel.report.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record RoomTypeOccupancyResponse(
+        LocalDate date,
+        UUID propertyId,
+        UUID roomTypeId,
+        String roomTypeName,
+        long totalRooms,
+        long occupiedRooms,
+        double occupancyPercentage,
+        BigDecimal roomRevenue,
+        BigDecimal adr,
+        BigDecimal revpar) {
+}
@@ -0,0 +1,33 @@
+package com.blockcode.hotel.report.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.reports.pace")
+public class BookingPaceProperties {
+    /**
+     * How far each run looks back past the previous run's watermark, to catch transactions that committed after
+     * it with an earlier updated_at. Re-examined dates whose values did not change are not written again.
+     */
+    private Duration overlap = Duration.ofMinutes(15);
+    private int maxRangeDays = 366;
+
+    public Duration getOverlap() {
+        return overlap;
+    }
+
+    public void setOverlap(Duration overlap) {
+        this.overlap = overlap;
+    }
+
+    public int getMaxRangeDays() {
+        return maxRangeDays;
+    }
+
+    public void setMaxRangeDays(int maxRangeDays) {
+        this.maxRangeDays = maxRangeDays;
+    }
+}
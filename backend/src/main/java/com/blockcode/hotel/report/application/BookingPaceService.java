@@ -0,0 +1,118 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.report.api.dto.PaceReportResponse;
+import com.blockcode.hotel.report.api.dto.PickupReportResponse;
+import com.blockcode.hotel.report.infra.BookingPaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Pace and pickup reports over the change-only {@code booking_pace_snapshots} history. A stay date with no
+ * snapshot row as of a given date had nothing on the books.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookingPaceService {
+    private static final Logger log = LoggerFactory.getLogger(BookingPaceService.class);
+    // 52 weeks, so last year's stay date falls on the same weekday.
+    private static final int LAST_YEAR_DAYS = 364;
+
+    private final BookingPaceRepository bookingPaceRepository;
+    private final BookingPaceProperties properties;
+
+    public BookingPaceService(BookingPaceRepository bookingPaceRepository, BookingPaceProperties properties) {
+        this.bookingPaceRepository = bookingPaceRepository;
+        this.properties = properties;
+    }
+
+    @Transactional
+    public int snapshot(LocalDate snapshotDate) {
+        int changed = bookingPaceRepository.snapshot(snapshotDate, properties.getOverlap().toSeconds());
+        log.info("Booking pace snapshot {} wrote {} rows", snapshotDate, changed);
+        return changed;
+    }
+
+    public List<PaceReportResponse> getPaceReport(LocalDate fromDate, LocalDate toDate, int daysOut,
+            LocalDate asOf, UUID propertyId) {
+        validateRange(fromDate, toDate);
+        if (daysOut < 0) {
+            throw new AppException("INVALID_DAYS_OUT", "daysOut must not be negative", HttpStatus.BAD_REQUEST);
+        }
+
+        Map<LocalDate, OnTheBooks> atDaysOut = load(fromDate, toDate, asOf, daysOut, propertyId);
+        Map<LocalDate, OnTheBooks> lastYear = load(fromDate.minusDays(LAST_YEAR_DAYS),
+                toDate.minusDays(LAST_YEAR_DAYS), asOf, daysOut, propertyId);
+        Map<LocalDate, OnTheBooks> current = load(fromDate, toDate, asOf, null, propertyId);
+
+        List<PaceReportResponse> report = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            LocalDate lastYearDate = date.minusDays(LAST_YEAR_DAYS);
+            OnTheBooks pace = atDaysOut.getOrDefault(date, OnTheBooks.EMPTY);
+            OnTheBooks previous = lastYear.getOrDefault(lastYearDate, OnTheBooks.EMPTY);
+            OnTheBooks now = current.getOrDefault(date, OnTheBooks.EMPTY);
+            report.add(new PaceReportResponse(date, daysOut,
+                    pace.roomsSold(), pace.revenue(),
+                    lastYearDate, previous.roomsSold(), previous.revenue(),
+                    now.roomsSold(), now.revenue()));
+        }
+        return report;
+    }
+
+    public List<PickupReportResponse> getPickupReport(LocalDate fromDate, LocalDate toDate, LocalDate startDate,
+            LocalDate endDate, UUID propertyId) {
+        validateRange(fromDate, toDate);
+        if (endDate.isBefore(startDate)) {
+            throw new AppException("INVALID_DATE_RANGE", "endDate must not be before startDate", HttpStatus.BAD_REQUEST);
+        }
+
+        Map<LocalDate, OnTheBooks> start = load(fromDate, toDate, startDate, null, propertyId);
+        Map<LocalDate, OnTheBooks> end = load(fromDate, toDate, endDate, null, propertyId);
+
+        List<PickupReportResponse> report = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            OnTheBooks before = start.getOrDefault(date, OnTheBooks.EMPTY);
+            OnTheBooks after = end.getOrDefault(date, OnTheBooks.EMPTY);
+            report.add(new PickupReportResponse(date,
+                    before.roomsSold(), after.roomsSold(), after.roomsSold() - before.roomsSold(),
+                    before.revenue(), after.revenue(), after.revenue().subtract(before.revenue())));
+        }
+        return report;
+    }
+
+    private void validateRange(LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new AppException("INVALID_DATE_RANGE", "toDate must not be before fromDate", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= properties.getMaxRangeDays()) {
+            throw new AppException("INVALID_DATE_RANGE",
+                    "Report range must not exceed " + properties.getMaxRangeDays() + " days", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private Map<LocalDate, OnTheBooks> load(LocalDate fromDate, LocalDate toDate, LocalDate asOf, Integer daysOut,
+            UUID propertyId) {
+        List<Object[]> rows = bookingPaceRepository.sumOnTheBooks(fromDate, toDate, asOf, daysOut, propertyId);
+        Map<LocalDate, OnTheBooks> byDate = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            byDate.put((LocalDate) row[0], new OnTheBooks(((Number) row[1]).longValue(), (BigDecimal) row[2]));
+        }
+        return byDate;
+    }
+
+    private record OnTheBooks(long roomsSold, BigDecimal revenue) {
+        static final OnTheBooks EMPTY = new OnTheBooks(0, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,25 @@
+package com.blockcode.hotel.report.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Records what is on the books at the start of each day. Only stay dates touched since the previous run are
+ * recomputed, so the nightly cost follows booking activity rather than the size of reservation_nights.
+ */
+@Component
+public class BookingPaceSnapshotJob {
+
+    private final BookingPaceService bookingPaceService;
+
+    public BookingPaceSnapshotJob(BookingPaceService bookingPaceService) {
+        this.bookingPaceService = bookingPaceService;
+    }
+
+    @Scheduled(cron = "${app.reports.pace.snapshot-cron:0 5 0 * * *}")
+    public int snapshot() {
+        return bookingPaceService.snapshot(LocalDate.now());
+    }
+}
@@ -0,0 +1,34 @@
+package com.blockcode.hotel.report.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.reports.dashboard")
+public class DashboardProperties {
+    /** Deadline for the whole dashboard; sections still running after it are returned as TIMEOUT. */
+    private Duration timeout = Duration.ofSeconds(2);
+    /**
+     * Sections computed at once across all dashboard requests. Each running section holds a pooled connection,
+     * so this keeps a burst of page loads from draining the pool.
+     */
+    private int maxConcurrentSections = 4;
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getMaxConcurrentSections() {
+        return maxConcurrentSections;
+    }
+
+    public void setMaxConcurrentSections(int maxConcurrentSections) {
+        this.maxConcurrentSections = maxConcurrentSections;
+    }
+}
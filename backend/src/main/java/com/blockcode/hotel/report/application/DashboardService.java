@@ -0,0 +1,183 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.report.api.dto.DashboardResponse;
+import com.blockcode.hotel.report.api.dto.DashboardSectionResponse;
+import com.blockcode.hotel.report.api.dto.DashboardSectionResponse.Status;
+import com.blockcode.hotel.report.api.dto.GuestInHouseResponse;
+import com.blockcode.hotel.report.api.dto.HousekeepingBoardResponse;
+import com.blockcode.hotel.report.api.dto.OccupancyReportResponse;
+import com.blockcode.hotel.report.application.ReportCache.Report;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Builds the admin dashboard by computing its sections concurrently on virtual threads. The response is returned
+ * at the deadline at the latest; sections still running are reported as TIMEOUT and finish in the background,
+ * where their results land in the {@link ReportCache} for the next page load.
+ */
+@Service
+public class DashboardService {
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final ReportService reportService;
+    private final ReportCache reportCache;
+    private final DashboardProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public DashboardService(ReportService reportService,
+            ReportCache reportCache,
+            DashboardProperties properties,
+            MeterRegistry meterRegistry) {
+        this.reportService = reportService;
+        this.reportCache = reportCache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(properties.getMaxConcurrentSections());
+    }
+
+    public DashboardResponse getDashboard(LocalDate date, UUID propertyId) {
+        long started = System.nanoTime();
+        long deadline = started + properties.getTimeout().toNanos();
+
+        Section<List<GuestInHouseResponse>> arrivals = start("arrivals", deadline,
+                () -> reportCache.get(Report.ARRIVALS, propertyId, date, date,
+                        () -> reportService.getArrivalsReport(date, propertyId)));
+        Section<List<GuestInHouseResponse>> departures = start("departures", deadline,
+                () -> reportCache.get(Report.DEPARTURES, propertyId, date, date,
+                        () -> reportService.getDeparturesReport(date, propertyId)));
+        Section<List<GuestInHouseResponse>> inHouse = start("inHouse", deadline,
+                () -> reportCache.get(Report.IN_HOUSE, propertyId, date, date,
+                        () -> reportService.getGuestInHouseReport(date, propertyId)));
+        Section<OccupancyReportResponse> occupancy = start("occupancy", deadline, () -> {
+            List<OccupancyReportResponse> days = reportCache.get(Report.OCCUPANCY, propertyId, date, date,
+                    () -> reportService.getOccupancyReport(date, date, propertyId));
+            return days.isEmpty() ? null : days.get(0);
+        });
+        Section<Long> newBookings = start("newBookings", deadline,
+                () -> reportService.getNewBookingsCount(date, propertyId));
+        Section<HousekeepingBoardResponse> housekeeping = start("housekeeping", deadline,
+                () -> reportCache.get(Report.HOUSEKEEPING, propertyId, null, null,
+                        () -> reportService.getHousekeepingBoard(propertyId)));
+
+        DashboardSectionResponse<List<GuestInHouseResponse>> arrivalsResult = arrivals.await(deadline);
+        DashboardSectionResponse<List<GuestInHouseResponse>> departuresResult = departures.await(deadline);
+        DashboardSectionResponse<List<GuestInHouseResponse>> inHouseResult = inHouse.await(deadline);
+        DashboardSectionResponse<OccupancyReportResponse> occupancyResult = occupancy.await(deadline);
+        DashboardSectionResponse<Long> newBookingsResult = newBookings.await(deadline);
+        DashboardSectionResponse<HousekeepingBoardResponse> housekeepingResult = housekeeping.await(deadline);
+
+        boolean complete = List.of(arrivalsResult, departuresResult, inHouseResult, occupancyResult,
+                newBookingsResult, housekeepingResult).stream().allMatch(s -> s.status() == Status.OK);
+        return new DashboardResponse(date, propertyId, complete, millisSince(started),
+                arrivalsResult, departuresResult, inHouseResult, occupancyResult, newBookingsResult,
+                housekeepingResult);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Section<T> start(String name, long deadline, Supplier<T> loader) {
+        long submitted = System.nanoTime();
+        CompletableFuture<Timed<T>> future = CompletableFuture.supplyAsync(() -> {
+            // Waiting for a permit counts against the deadline; a section that never got one does no work.
+            if (!acquire(deadline)) {
+                throw new SectionSkippedException();
+            }
+            try {
+                long sectionStarted = System.nanoTime();
+                T value = loader.get();
+                return new Timed<>(value, System.nanoTime() - sectionStarted);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+        return new Section<>(name, submitted, future);
+    }
+
+    private boolean acquire(long deadline) {
+        try {
+            return permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long millisSince(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    private record Timed<T>(T value, long elapsedNanos) {
+    }
+
+    private static class SectionSkippedException extends RuntimeException {
+        SectionSkippedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final class Section<T> {
+        private final String name;
+        private final long submitted;
+        private final CompletableFuture<Timed<T>> future;
+
+        private Section(String name, long submitted, CompletableFuture<Timed<T>> future) {
+            this.name = name;
+            this.submitted = submitted;
+            this.future = future;
+        }
+
+        DashboardSectionResponse<T> await(long deadline) {
+            DashboardSectionResponse<T> result;
+            try {
+                Timed<T> timed = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                result = new DashboardSectionResponse<>(Status.OK,
+                        TimeUnit.NANOSECONDS.toMillis(timed.elapsedNanos()), timed.value(), null);
+            } catch (TimeoutException ex) {
+                result = new DashboardSectionResponse<>(Status.TIMEOUT, millisSince(submitted), null,
+                        "Section did not finish before the dashboard deadline");
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof SectionSkippedException) {
+                    result = new DashboardSectionResponse<>(Status.TIMEOUT, millisSince(submitted), null,
+                            "Section did not start before the dashboard deadline");
+                } else {
+                    log.warn("Dashboard section {} failed", name, cause);
+                    String error = cause instanceof AppException ? cause.getMessage() : "Section failed";
+                    result = new DashboardSectionResponse<>(Status.FAILED, millisSince(submitted), null, error);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                result = new DashboardSectionResponse<>(Status.TIMEOUT, millisSince(submitted), null,
+                        "Dashboard request was interrupted");
+            }
+            Timer.builder("reports.dashboard.section")
+                    .tag("section", name)
+                    .tag("status", result.status().name())
+                    .register(meterRegistry)
+                    .record(result.elapsedMs(), TimeUnit.MILLISECONDS);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.blockcode.hotel.report.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Component
+@ConfigurationProperties(prefix = "app.payroll.overtime")
+public class PayrollOvertimeProperties {
+    /** Minutes per work day after which time is paid as overtime. Zero disables the daily rule. */
+    private int dailyThresholdMinutes = 480;
+
+    /** Regular minutes per ISO week after which time is paid as overtime. Zero disables the weekly rule. */
+    private int weeklyThresholdMinutes = 2400;
+
+    private BigDecimal multiplier = new BigDecimal("1.5");
+
+    public int getDailyThresholdMinutes() {
+        return dailyThresholdMinutes;
+    }
+
+    public void setDailyThresholdMinutes(int dailyThresholdMinutes) {
+        this.dailyThresholdMinutes = dailyThresholdMinutes;
+    }
+
+    public int getWeeklyThresholdMinutes() {
+        return weeklyThresholdMinutes;
+    }
+
+    public void setWeeklyThresholdMinutes(int weeklyThresholdMinutes) {
+        this.weeklyThresholdMinutes = weeklyThresholdMinutes;
+    }
+
+    public BigDecimal getMultiplier() {
+        return multiplier;
+    }
+
+    public void setMultiplier(BigDecimal multiplier) {
+        this.multiplier = multiplier;
+    }
+}
@@ -0,0 +1,132 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.common.event.DataChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches report results per (report, property, date range). Entries expire after the configured TTL and are
+ * evicted early when a {@link DataChangedEvent} for an overlapping property and date range is committed.
+ */
+@Component
+public class ReportCache {
+
+    public enum Report {
+        REVENUE(DataChangedEvent.Domain.PAYMENTS),
+        OCCUPANCY(DataChangedEvent.Domain.RESERVATIONS),
+        ROOM_TYPE_OCCUPANCY(DataChangedEvent.Domain.RESERVATIONS),
+        IN_HOUSE(DataChangedEvent.Domain.RESERVATIONS),
+        ARRIVALS(DataChangedEvent.Domain.RESERVATIONS),
+        DEPARTURES(DataChangedEvent.Domain.RESERVATIONS),
+        HOUSEKEEPING(DataChangedEvent.Domain.HOUSEKEEPING);
+
+        private final DataChangedEvent.Domain source;
+
+        Report(DataChangedEvent.Domain source) {
+            this.source = source;
+        }
+    }
+
+    private final ReportCacheProperties properties;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a result computed before a committed write is not stored afterwards.
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Report, Counter> hits = new EnumMap<>(Report.class);
+    private final Map<Report, Counter> misses = new EnumMap<>(Report.class);
+    private final Counter invalidations;
+    private final Counter capacityEvictions;
+
+    public ReportCache(ReportCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (Report report : Report.values()) {
+            hits.put(report, Counter.builder("reports.cache.requests")
+                    .tag("report", report.name()).tag("result", "hit").register(meterRegistry));
+            misses.put(report, Counter.builder("reports.cache.requests")
+                    .tag("report", report.name()).tag("result", "miss").register(meterRegistry));
+        }
+        this.invalidations = Counter.builder("reports.cache.evictions")
+                .tag("cause", "invalidated").register(meterRegistry);
+        this.capacityEvictions = Counter.builder("reports.cache.evictions")
+                .tag("cause", "capacity").register(meterRegistry);
+        Gauge.builder("reports.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Report report, UUID propertyId, LocalDate fromDate, LocalDate toDate, Supplier<T> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+
+        Key key = new Key(report, propertyId, fromDate, toDate);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - now > 0) {
+            hits.get(report).increment();
+            return (T) entry.value;
+        }
+
+        misses.get(report).increment();
+        long observedGeneration = generation.get();
+        T value = loader.get();
+        if (generation.get() == observedGeneration) {
+            if (entries.size() >= properties.getMaxEntries()) {
+                makeRoom(now);
+            }
+            entries.put(key, new Entry(value, now + properties.getTtl().toNanos()));
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChanged(DataChangedEvent event) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> {
+            boolean affected = key.report.source == event.domain()
+                    && (key.propertyId == null || event.propertyId() == null || key.propertyId.equals(event.propertyId()))
+                    && overlaps(key.fromDate, key.toDate, event.fromDate(), event.toDate());
+            if (affected) {
+                invalidations.increment();
+            }
+            return affected;
+        });
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private void makeRoom(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (entries.size() >= properties.getMaxEntries() && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            capacityEvictions.increment();
+        }
+    }
+
+    private static boolean overlaps(LocalDate fromA, LocalDate toA, LocalDate fromB, LocalDate toB) {
+        boolean startsBeforeEnd = fromA == null || toB == null || !fromA.isAfter(toB);
+        boolean endsAfterStart = toA == null || fromB == null || !toA.isBefore(fromB);
+        return startsBeforeEnd && endsAfterStart;
+    }
+
+    private record Key(Report report, UUID propertyId, LocalDate fromDate, LocalDate toDate) {
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.blockcode.hotel.report.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.reports.jobs")
+public class ReportJobProperties {
+    /**
+     * Jobs executed at once. Each running job holds one pooled database connection, so this is the share of
+     * the pool that background reports may take away from interactive requests.
+     */
+    private int concurrency = 2;
+    private int queueCapacity = 100;
+    private Duration retention = Duration.ofDays(7);
+    /**
+     * Running jobs whose worker has not refreshed the lease for this long are assumed lost (e.g. node restart)
+     * and queued again. Keep it a few multiples of {@code app.reports.jobs.heartbeat-delay}.
+     */
+    private Duration staleAfter = Duration.ofMinutes(3);
+    private int maxRangeDays = 731;
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getStaleAfter() {
+        return staleAfter;
+    }
+
+    public void setStaleAfter(Duration staleAfter) {
+        this.staleAfter = staleAfter;
+    }
+
+    public int getMaxRangeDays() {
+        return maxRangeDays;
+    }
+
+    public void setMaxRangeDays(int maxRangeDays) {
+        this.maxRangeDays = maxRangeDays;
+    }
+}
@@ -0,0 +1,312 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import com.blockcode.hotel.report.api.dto.ReportJobRequest;
+import com.blockcode.hotel.report.api.dto.ReportJobResponse;
+import com.blockcode.hotel.report.domain.ReportFormat;
+import com.blockcode.hotel.report.domain.ReportJobEntity;
+import com.blockcode.hotel.report.domain.ReportType;
+import com.blockcode.hotel.report.infra.ReportJobRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs long report exports in the background. Identical requests share a job only while it is queued or running,
+ * so a finished report is never served for data that has changed since. Results are stored gzipped and expire
+ * after the configured retention. Execution is bounded by {@code reportJobExecutor}, so at most
+ * {@code app.reports.jobs.concurrency} connections are ever used for exports.
+ */
+@Service
+public class ReportJobService {
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportService reportService;
+    private final ReportJobProperties properties;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor executor;
+    // Jobs handed to the executor by this node, so recover() does not queue them a second time.
+    private final Set<UUID> dispatched = ConcurrentHashMap.newKeySet();
+    // Lease tokens of the jobs this node is building right now, refreshed by heartbeat().
+    private final Map<UUID, UUID> leases = new ConcurrentHashMap<>();
+
+    public ReportJobService(ReportJobRepository reportJobRepository,
+            ReportService reportService,
+            ReportJobProperties properties,
+            CurrentUserProvider currentUserProvider,
+            ObjectMapper objectMapper,
+            @Qualifier("reportJobExecutor") TaskExecutor executor) {
+        this.reportJobRepository = reportJobRepository;
+        this.reportService = reportService;
+        this.properties = properties;
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    @Transactional
+    public ReportJobResponse submit(ReportJobRequest request) {
+        if (request.toDate().isBefore(request.fromDate())) {
+            throw new AppException("INVALID_DATE_RANGE", "toDate must not be before fromDate", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(request.fromDate(), request.toDate()) >= properties.getMaxRangeDays()) {
+            throw new AppException("INVALID_DATE_RANGE",
+                    "Report range must not exceed " + properties.getMaxRangeDays() + " days", HttpStatus.BAD_REQUEST);
+        }
+
+        ReportFormat format = request.format() != null ? request.format() : ReportFormat.JSON;
+        // Field order is fixed so equal requests always produce the same hash.
+        ObjectNode params = objectMapper.createObjectNode();
+        params.put("reportType", request.reportType().name());
+        params.put("format", format.name());
+        params.put("fromDate", request.fromDate().toString());
+        params.put("toDate", request.toDate().toString());
+        params.put("propertyId", request.propertyId() != null ? request.propertyId().toString() : null);
+        String json = params.toString();
+        String hash = sha256(json);
+
+        int inserted = reportJobRepository.insertIfAbsent(UUID.randomUUID(), request.reportType().name(),
+                format.name(), json, hash, currentUserProvider.getCurrentUserId().orElse(null));
+        ReportJobEntity job = reportJobRepository.findLiveIdByParamsHash(hash)
+                .flatMap(reportJobRepository::findByIdAndDeletedAtIsNull)
+                .orElseThrow(() -> new AppException("REPORT_JOB_CONFLICT",
+                        "Report job could not be queued, please retry", HttpStatus.CONFLICT));
+        if (inserted == 1) {
+            UUID jobId = job.getId();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(jobId);
+                }
+            });
+        }
+        return toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public ReportJobResponse get(UUID id) {
+        return toResponse(findJob(id));
+    }
+
+    @Transactional(readOnly = true)
+    public ReportJobResult getResult(UUID id) {
+        ReportJobEntity job = findJob(id);
+        byte[] content = reportJobRepository.findResult(id)
+                .orElseThrow(() -> new AppException("REPORT_NOT_READY",
+                        "Report job is " + job.getStatus(), HttpStatus.CONFLICT));
+        return new ReportJobResult(job.getReportType(), job.getFormat(), content);
+    }
+
+    /** Picks up jobs that were rejected by a full queue or lost when a node stopped. */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.recovery-delay:60000}")
+    public void recover() {
+        Instant now = Instant.now();
+        int requeued = reportJobRepository.requeueStale(now.minus(properties.getStaleAfter()));
+        if (requeued > 0) {
+            log.warn("Requeued {} stale report jobs", requeued);
+        }
+        for (UUID id : reportJobRepository.findQueuedBefore(now.minusSeconds(30))) {
+            if (!dispatch(id)) {
+                break;
+            }
+        }
+    }
+
+    /** Keeps the leases of this node's running jobs alive so recover() on any node leaves them alone. */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.heartbeat-delay:30000}")
+    public void heartbeat() {
+        leases.forEach((id, token) -> {
+            if (reportJobRepository.heartbeat(id, token) == 0) {
+                leases.remove(id, token);
+                log.warn("Report job {} lost its lease; its result will be discarded", id);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.reports.jobs.purge-cron:0 15 * * * *}")
+    public int purgeExpired() {
+        return reportJobRepository.purgeExpired();
+    }
+
+    private boolean dispatch(UUID id) {
+        if (!dispatched.add(id)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(id);
+                } finally {
+                    dispatched.remove(id);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException ex) {
+            dispatched.remove(id);
+            // Left QUEUED; recover() retries once the executor has room.
+            log.info("Report job {} deferred, executor queue is full", id);
+            return false;
+        }
+    }
+
+    void run(UUID id) {
+        UUID token = UUID.randomUUID();
+        if (reportJobRepository.claim(id, token) == 0) {
+            return;
+        }
+        leases.put(id, token);
+        try {
+            ReportJobEntity job = reportJobRepository.findById(id).orElseThrow();
+            List<?> rows = load(job);
+            byte[] content = gzip(job.getFormat(), rows);
+            if (reportJobRepository.complete(id, token, content, rows.size(),
+                    Instant.now().plus(properties.getRetention())) == 0) {
+                log.warn("Report job {} was requeued while running; result discarded", id);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Report job {} failed", id, ex);
+            String message = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+            reportJobRepository.fail(id, token, message.length() > MAX_ERROR_LENGTH
+                    ? message.substring(0, MAX_ERROR_LENGTH) : message, Instant.now().plus(properties.getRetention()));
+        } finally {
+            leases.remove(id, token);
+        }
+    }
+
+    private List<?> load(ReportJobEntity job) {
+        JsonNode params = job.getParams();
+        LocalDate fromDate = LocalDate.parse(params.path("fromDate").asText());
+        LocalDate toDate = LocalDate.parse(params.path("toDate").asText());
+        UUID propertyId = params.path("propertyId").isTextual()
+                ? UUID.fromString(params.path("propertyId").asText()) : null;
+        return switch (job.getReportType()) {
+            case REVENUE -> reportService.getRevenueReport(fromDate, toDate, propertyId);
+            case OCCUPANCY -> reportService.getOccupancyReport(fromDate, toDate, propertyId);
+            case ROOM_TYPE_OCCUPANCY -> reportService.getRoomTypeOccupancyReport(fromDate, toDate, propertyId);
+            case PAYROLL -> reportService.getPayrollReport(fromDate, toDate, propertyId);
+        };
+    }
+
+    private byte[] gzip(ReportFormat format, List<?> rows) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            if (format == ReportFormat.CSV) {
+                writeCsv(out, rows);
+            } else {
+                objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, rows);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeCsv(OutputStream out, List<?> rows) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        RecordComponent[] columns = null;
+        for (Object row : rows) {
+            if (columns == null) {
+                columns = row.getClass().getRecordComponents();
+                for (int i = 0; i < columns.length; i++) {
+                    writer.write(i == 0 ? "" : ",");
+                    writer.write(columns[i].getName());
+                }
+                writer.write("\r\n");
+            }
+            for (int i = 0; i < columns.length; i++) {
+                writer.write(i == 0 ? "" : ",");
+                writer.write(csvValue(readComponent(columns[i], row)));
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+
+    private static Object readComponent(RecordComponent component, Object row) {
+        try {
+            return component.getAccessor().invoke(row);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot read report column " + component.getName(), ex);
+        }
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private ReportJobEntity findJob(UUID id) {
+        return reportJobRepository.findByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() -> new AppException("NOT_FOUND", "Report job not found", HttpStatus.NOT_FOUND));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static ReportJobResponse toResponse(ReportJobEntity job) {
+        return new ReportJobResponse(
+                job.getId(),
+                job.getReportType(),
+                job.getFormat(),
+                job.getParams(),
+                job.getStatus(),
+                job.getRowCount(),
+                job.getError(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getExpiresAt());
+    }
+
+    public record ReportJobResult(ReportType reportType, ReportFormat format, byte[] content) {
+    }
+}
@@ -1,260 +1,375 @@
 package com.blockcode.hotel.report.application;
-import com.blockcode.hotel.employee.infra.EmployeeRepository;
-import com.blockcode.hotel.employee.domain.EmployeeEntity;
 import com.blockcode.hotel.report.api.dto.PayrollReportResponse;
-import com.blockcode.hotel.timesheet.domain.EmployeeTimesheetEntity;
 import com.blockcode.hotel.timesheet.infra.EmployeeTimesheetRepository;
 
-import com.blockcode.hotel.finance.infra.PaymentRepository;
-import com.blockcode.hotel.guest.domain.GuestEntity;
-import com.blockcode.hotel.guest.domain.PersonEntity;
-import com.blockcode.hotel.guest.infra.GuestRepository;
-import com.blockcode.hotel.guest.infra.PersonRepository;
+import com.blockcode.hotel.common.event.DataChangedEvent;
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.finance.infra.DailyRevenueRepository;
 import com.blockcode.hotel.housekeeping.infra.HousekeepingTaskRepository;
 import com.blockcode.hotel.report.api.dto.GuestInHouseResponse;
+import com.blockcode.hotel.report.api.dto.HousekeepingBoardResponse;
 import com.blockcode.hotel.report.api.dto.HousekeepingStatusResponse;
+import com.blockcode.hotel.report.api.dto.HousekeepingZoneSummaryResponse;
 import com.blockcode.hotel.report.api.dto.OccupancyReportResponse;
 import com.blockcode.hotel.report.api.dto.RevenueReportResponse;
-import com.blockcode.hotel.reservation.domain.ReservationEntity;
-import com.blockcode.hotel.reservation.domain.ReservationStatus;
+import com.blockcode.hotel.report.api.dto.RoomTypeOccupancyResponse;
 import com.blockcode.hotel.reservation.infra.ReservationNightRepository;
 import com.blockcode.hotel.reservation.infra.ReservationRepository;
-import com.blockcode.hotel.room.domain.RoomEntity;
 import com.blockcode.hotel.room.infra.RoomRepository;
 import com.blockcode.hotel.room.infra.RoomTypeRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class ReportService {
 
-    private final PaymentRepository paymentRepository;
+    private final DailyRevenueRepository dailyRevenueRepository;
     private final RoomRepository roomRepository;
     private final ReservationNightRepository reservationNightRepository;
     private final ReservationRepository reservationRepository;
-    private final GuestRepository guestRepository;
-    private final PersonRepository personRepository;
     private final HousekeepingTaskRepository housekeepingTaskRepository;
     private final RoomTypeRepository roomTypeRepository;
-    private final com.blockcode.hotel.reservation.infra.ReservationRoomRepository reservationRoomRepository;
     private final EmployeeTimesheetRepository timesheetRepository;
-    private final EmployeeRepository employeeRepository;
+    private final PayrollOvertimeProperties overtimeProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ReportService(PaymentRepository paymentRepository,
+    public ReportService(DailyRevenueRepository dailyRevenueRepository,
             RoomRepository roomRepository,
             ReservationNightRepository reservationNightRepository,
             ReservationRepository reservationRepository,
-            GuestRepository guestRepository,
-            PersonRepository personRepository,
             HousekeepingTaskRepository housekeepingTaskRepository,
             RoomTypeRepository roomTypeRepository,
-            com.blockcode.hotel.reservation.infra.ReservationRoomRepository reservationRoomRepository,
             EmployeeTimesheetRepository timesheetRepository,
-            EmployeeRepository employeeRepository) {
-        this.paymentRepository = paymentRepository;
+            PayrollOvertimeProperties overtimeProperties,
+            ApplicationEventPublisher eventPublisher) {
+        this.dailyRevenueRepository = dailyRevenueRepository;
         this.roomRepository = roomRepository;
         this.reservationNightRepository = reservationNightRepository;
         this.reservationRepository = reservationRepository;
-        this.guestRepository = guestRepository;
-        this.personRepository = personRepository;
         this.housekeepingTaskRepository = housekeepingTaskRepository;
         this.roomTypeRepository = roomTypeRepository;
-        this.reservationRoomRepository = reservationRoomRepository;
         this.timesheetRepository = timesheetRepository;
-        this.employeeRepository = employeeRepository;
+        this.overtimeProperties = overtimeProperties;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<RevenueReportResponse> getRevenueReport(LocalDate fromDate, LocalDate toDate) {
-        return paymentRepository.getRevenueReport(
-                fromDate.atStartOfDay(ZoneId.systemDefault()).toInstant(),
-                toDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    public List<RevenueReportResponse> getRevenueReport(LocalDate fromDate, LocalDate toDate, UUID propertyId) {
+        return dailyRevenueRepository.getRevenueReport(fromDate, toDate, propertyId);
     }
 
-    public List<OccupancyReportResponse> getOccupancyReport(LocalDate fromDate, LocalDate toDate) {
-        long totalRooms = roomRepository.countActiveRooms();
-        List<OccupancyReportResponse> report = new ArrayList<>();
+    @Transactional
+    public int rebuildRevenueRollup(LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new AppException("INVALID_DATE_RANGE", "toDate must not be before fromDate", HttpStatus.BAD_REQUEST);
+        }
+        int rows = dailyRevenueRepository.rebuild(fromDate, toDate);
+        eventPublisher.publishEvent(DataChangedEvent.payments(null, fromDate, toDate));
+        return rows;
+    }
+
+    public List<OccupancyReportResponse> getOccupancyReport(LocalDate fromDate, LocalDate toDate, UUID propertyId) {
+        OccupancyGrid grid = loadOccupancy(fromDate, toDate, propertyId);
+        long totalRooms = grid.capacity.values().stream().mapToLong(Long::longValue).sum();
+
+        long[] occupied = new long[grid.days];
+        BigDecimal[] revenue = zeroes(grid.days);
+        for (OccupancyCell cell : grid.cells.values()) {
+            for (int d = 0; d < grid.days; d++) {
+                occupied[d] += cell.occupied[d];
+                revenue[d] = revenue[d].add(cell.revenue[d]);
+            }
+        }
+
+        List<OccupancyReportResponse> report = new ArrayList<>(grid.days);
+        for (int d = 0; d < grid.days; d++) {
+            report.add(new OccupancyReportResponse(
+                    fromDate.plusDays(d),
+                    totalRooms,
+                    occupied[d],
+                    percentage(occupied[d], totalRooms),
+                    revenue[d],
+                    ratio(revenue[d], occupied[d]),
+                    ratio(revenue[d], totalRooms)));
+        }
+        return report;
+    }
+
+    public List<RoomTypeOccupancyResponse> getRoomTypeOccupancyReport(LocalDate fromDate, LocalDate toDate, UUID propertyId) {
+        OccupancyGrid grid = loadOccupancy(fromDate, toDate, propertyId);
+        Map<UUID, String> roomTypeNames = new HashMap<>();
+        roomTypeRepository.findAllById(grid.cells.keySet().stream().map(OccupancyKey::roomTypeId).toList())
+                .forEach(rt -> roomTypeNames.put(rt.getId(), rt.getName()));
+
+        List<OccupancyKey> keys = new ArrayList<>(grid.cells.keySet());
+        keys.sort(Comparator.comparing(OccupancyKey::propertyId)
+                .thenComparing(key -> roomTypeNames.getOrDefault(key.roomTypeId(), "")));
 
-        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
-            long occupied = reservationRepository.countActiveReservationsByDate(date);
-            double percentage = totalRooms > 0 ? (double) occupied / totalRooms * 100 : 0;
-            report.add(new OccupancyReportResponse(date, totalRooms, occupied, percentage));
+        List<RoomTypeOccupancyResponse> report = new ArrayList<>(grid.days * keys.size());
+        for (int d = 0; d < grid.days; d++) {
+            LocalDate date = fromDate.plusDays(d);
+            for (OccupancyKey key : keys) {
+                OccupancyCell cell = grid.cells.get(key);
+                long totalRooms = grid.capacity.getOrDefault(key, 0L);
+                report.add(new RoomTypeOccupancyResponse(
+                        date,
+                        key.propertyId(),
+                        key.roomTypeId(),
+                        roomTypeNames.getOrDefault(key.roomTypeId(), "Unknown"),
+                        totalRooms,
+                        cell.occupied[d],
+                        percentage(cell.occupied[d], totalRooms),
+                        cell.revenue[d],
+                        ratio(cell.revenue[d], cell.occupied[d]),
+                        ratio(cell.revenue[d], totalRooms)));
+            }
         }
         return report;
     }
 
-    public List<GuestInHouseResponse> getGuestInHouseReport(LocalDate date) {
-        List<ReservationEntity> reservations = reservationRepository
-                .findAllByStatusAndDeletedAtIsNull(ReservationStatus.CHECKED_IN);
-        // Filter by date overlap if needed, but "In-House" usually means
-        // status=CHECKED_IN implies they are there NOW.
-        // If 'date' is in the past, we might need historic data which is harder.
-        // We will assume 'date' is ignored for "current in-house" or we filter.
-        // Let's filter if date is provided.
-        if (date != null) {
-            reservations = reservations.stream()
-                    .filter(r -> !date.isBefore(r.getCheckInDate()) && date.isBefore(r.getCheckOutDate()))
-                    .collect(Collectors.toList());
+    /**
+     * Loads room capacity and sold room-nights for the whole range in two queries and lays them out as
+     * per-day arrays for each (property, room type).
+     */
+    private OccupancyGrid loadOccupancy(LocalDate fromDate, LocalDate toDate, UUID propertyId) {
+        if (toDate.isBefore(fromDate)) {
+            throw new AppException("INVALID_DATE_RANGE", "toDate must not be before fromDate", HttpStatus.BAD_REQUEST);
+        }
+        int days = (int) ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        OccupancyGrid grid = new OccupancyGrid(days);
+
+        for (Object[] row : roomRepository.countRoomsByPropertyAndRoomType(propertyId)) {
+            OccupancyKey key = new OccupancyKey((UUID) row[0], (UUID) row[1]);
+            grid.capacity.put(key, ((Number) row[2]).longValue());
+            grid.cell(key);
+        }
+
+        for (Object[] row : reservationNightRepository.sumSoldNightsByDateAndRoomType(fromDate, toDate, propertyId)) {
+            int d = (int) ChronoUnit.DAYS.between(fromDate, (LocalDate) row[0]);
+            OccupancyCell cell = grid.cell(new OccupancyKey((UUID) row[1], (UUID) row[2]));
+            cell.occupied[d] += ((Number) row[3]).longValue();
+            cell.revenue[d] = cell.revenue[d].add((BigDecimal) row[4]);
         }
+        return grid;
+    }
 
-        return reservations.stream().map(this::mapToGuestResponse).collect(Collectors.toList());
+    private static double percentage(long occupied, long totalRooms) {
+        return totalRooms > 0 ? (double) occupied / totalRooms * 100 : 0;
     }
 
-    public List<GuestInHouseResponse> getArrivalsReport(LocalDate date) {
-        List<ReservationEntity> reservations = reservationRepository.findAllByCheckInDateAndDeletedAtIsNull(date)
-                .stream().filter(r -> r.getStatus() == ReservationStatus.CONFIRMED).collect(Collectors.toList());
-        return reservations.stream().map(this::mapToGuestResponse).collect(Collectors.toList());
+    private static BigDecimal ratio(BigDecimal amount, long divisor) {
+        if (divisor <= 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return amount.divide(BigDecimal.valueOf(divisor), 2, RoundingMode.HALF_UP);
     }
 
-    public List<GuestInHouseResponse> getDeparturesReport(LocalDate date) {
-        List<ReservationEntity> reservations = reservationRepository.findAllByCheckOutDateAndDeletedAtIsNull(date)
-                .stream().filter(r -> r.getStatus() == ReservationStatus.CHECKED_IN).collect(Collectors.toList());
-        return reservations.stream().map(this::mapToGuestResponse).collect(Collectors.toList());
+    private static BigDecimal[] zeroes(int size) {
+        BigDecimal[] values = new BigDecimal[size];
+        Arrays.fill(values, BigDecimal.ZERO);
+        return values;
     }
 
-    private GuestInHouseResponse mapToGuestResponse(ReservationEntity r) {
-        String guestName = "Unknown";
-        try {
-            UUID primaryGuestId = r.getPrimaryGuestId();
-            if (primaryGuestId != null) {
-                GuestEntity guest = guestRepository.findById(primaryGuestId).orElse(null);
-                if (guest != null) {
-                    UUID personId = guest.getPersonId();
-                    if (personId != null) {
-                        PersonEntity person = personRepository.findById(personId).orElse(null);
-                        if (person != null) {
-                            guestName = person.getFirstName() + " " + person.getLastName();
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // ignore
+    private record OccupancyKey(UUID propertyId, UUID roomTypeId) {
+    }
+
+    private static final class OccupancyCell {
+        private final long[] occupied;
+        private final BigDecimal[] revenue;
+
+        private OccupancyCell(int days) {
+            this.occupied = new long[days];
+            this.revenue = zeroes(days);
         }
+    }
 
-        String roomNumber = "TBD";
-        try {
-            List<com.blockcode.hotel.reservation.domain.ReservationRoomEntity> reservationRooms = reservationRoomRepository
-                    .findByReservationId(r.getId());
-            if (!reservationRooms.isEmpty()) {
-                // Assuming one room for now or taking the first one
-                UUID roomId = reservationRooms.get(0).getRoomId();
-                if (roomId != null) {
-                    RoomEntity room = roomRepository.findById(roomId).orElse(null);
-                    if (room != null) {
-                        roomNumber = room.getRoomNumber();
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // ignore
+    private static final class OccupancyGrid {
+        private final int days;
+        private final Map<OccupancyKey, Long> capacity = new HashMap<>();
+        private final Map<OccupancyKey, OccupancyCell> cells = new HashMap<>();
+
+        private OccupancyGrid(int days) {
+            this.days = days;
         }
 
-        return new GuestInHouseResponse(
-                r.getId(),
-                guestName,
-                roomNumber,
-                r.getCheckInDate(),
-                r.getCheckOutDate(),
-                r.getStatus().name());
+        private OccupancyCell cell(OccupancyKey key) {
+            return cells.computeIfAbsent(key, k -> new OccupancyCell(days));
+        }
     }
 
-    public List<HousekeepingStatusResponse> getHousekeepingReport() {
-        List<RoomEntity> rooms = roomRepository.findAllByDeletedAtIsNullOrderByRoomNumberAsc();
-        var roomTypes = roomTypeRepository.findAll().stream()
-                .collect(Collectors.toMap(rt -> rt.getId(), rt -> rt.getName()));
-
-        return rooms.stream().map(room -> {
-            String roomTypeName = roomTypes.getOrDefault(room.getRoomTypeId(), "Unknown");
-            String status = "UNKNOWN";
-            String assignedTo = "Unassigned";
-
-            var task = housekeepingTaskRepository.findTopByRoomIdOrderByTaskDateDesc(room.getId());
-            if (task.isPresent()) {
-                status = task.get().getStatus().name();
-                if (task.get().getAssignedToEmployeeId() != null) {
-                    assignedTo = "Assigned";
-                }
-            } else {
-                status = "CLEAN";
-            }
+    public List<GuestInHouseResponse> getGuestInHouseReport(LocalDate date, UUID propertyId) {
+        return toGuestList(reservationRepository.findInHouseGuestList(date, propertyId));
+    }
+
+    public List<GuestInHouseResponse> getArrivalsReport(LocalDate date, UUID propertyId) {
+        return toGuestList(reservationRepository.findArrivalGuestList(date, propertyId));
+    }
+
+    public List<GuestInHouseResponse> getDeparturesReport(LocalDate date, UUID propertyId) {
+        return toGuestList(reservationRepository.findDepartureGuestList(date, propertyId));
+    }
+
+    private List<GuestInHouseResponse> toGuestList(List<Object[]> rows) {
+        List<GuestInHouseResponse> guests = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            guests.add(new GuestInHouseResponse(
+                    (UUID) row[0],
+                    (String) row[1],
+                    (String) row[2],
+                    (LocalDate) row[3],
+                    (LocalDate) row[4],
+                    (String) row[5]));
+        }
+        return guests;
+    }
+
+    public HousekeepingBoardResponse getHousekeepingBoard(UUID propertyId) {
+        List<Object[]> rows = housekeepingTaskRepository.findRoomsWithLatestTask(propertyId);
+        List<HousekeepingStatusResponse> rooms = new ArrayList<>(rows.size());
+        Map<ZoneKey, Map<String, Long>> zoneCounts = new TreeMap<>(
+                Comparator.comparing(ZoneKey::floor, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                        .thenComparing(ZoneKey::zone, Comparator.nullsLast(Comparator.<String>naturalOrder())));
 
-            return new HousekeepingStatusResponse(
-                    room.getId(),
-                    room.getRoomNumber(),
-                    roomTypeName,
+        for (Object[] row : rows) {
+            // Rooms that have never had a task are treated as clean, matching the room board.
+            String status = row[5] != null ? (String) row[5] : "CLEAN";
+            rooms.add(new HousekeepingStatusResponse(
+                    (UUID) row[0],
+                    (String) row[1],
+                    (String) row[2],
                     status,
-                    assignedTo);
-        }).collect(Collectors.toList());
+                    row[6] != null ? "Assigned" : "Unassigned"));
+            zoneCounts.computeIfAbsent(new ZoneKey((String) row[3], (String) row[4]), key -> new TreeMap<>())
+                    .merge(status, 1L, Long::sum);
+        }
+
+        List<HousekeepingZoneSummaryResponse> zones = new ArrayList<>(zoneCounts.size());
+        zoneCounts.forEach((key, counts) -> zones.add(new HousekeepingZoneSummaryResponse(
+                key.floor(),
+                key.zone(),
+                counts.values().stream().mapToLong(Long::longValue).sum(),
+                counts)));
+        return new HousekeepingBoardResponse(rooms, zones);
     }
 
-    public long getNewBookingsCount(LocalDate date) {
-        return reservationRepository.countReservationsCreatedBetween(
-                date.atStartOfDay(ZoneId.systemDefault()).toInstant(),
-                date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    private record ZoneKey(String floor, String zone) {
     }
 
-    public List<PayrollReportResponse> getPayrollReport(LocalDate fromDate, LocalDate toDate) {
-        List<EmployeeTimesheetEntity> timesheets = timesheetRepository.findAllByWorkDateBetweenAndDeletedAtIsNull(fromDate, toDate);
-        
-        // Group by employee
-        var timesheetsByEmployee = timesheets.stream()
-                .collect(Collectors.groupingBy(EmployeeTimesheetEntity::getEmployeeId));
+    public long getNewBookingsCount(LocalDate date, UUID propertyId) {
+        return reservationRepository.countReservationsCreatedOn(date, propertyId);
+    }
 
+    public List<PayrollReportResponse> getPayrollReport(LocalDate fromDate, LocalDate toDate, UUID propertyId) {
         List<PayrollReportResponse> report = new ArrayList<>();
-        
-        // Fetch all employees (could optimize to fetchByIds but findAll is fine for now)
-        var employees = employeeRepository.findAll().stream()
-                .collect(Collectors.toMap(EmployeeEntity::getId, e -> e));
-
-        for (var entry : timesheetsByEmployee.entrySet()) {
-            UUID employeeId = entry.getKey();
-            List<EmployeeTimesheetEntity> employeeTimesheets = entry.getValue();
-            EmployeeEntity employee = employees.get(employeeId);
-            
-            if (employee == null) continue;
-
-            // Calculate total minutes
-            int totalMinutes = employeeTimesheets.stream()
-                    .mapToInt(EmployeeTimesheetEntity::getTotalMinutes)
-                    .sum();
-            
-            // Calculate total pay
-            java.math.BigDecimal hourlyRate = employee.getHourlyRate() != null ? employee.getHourlyRate() : java.math.BigDecimal.ZERO;
-            java.math.BigDecimal hours = new java.math.BigDecimal(totalMinutes).divide(new java.math.BigDecimal(60), 2, java.math.RoundingMode.HALF_UP);
-            java.math.BigDecimal totalPay = hours.multiply(hourlyRate).setScale(2, java.math.RoundingMode.HALF_UP);
-
-            String name = "";
-            try {
-               // Need to fetch Person to get name. Employee has personId.
-               // Since we are iterating, N+1 query here. 
-               // Optimally we should join, but adapting existing pattern:
-               var person = personRepository.findById(employee.getPersonId()).orElse(null);
-               if (person != null) {
-                   name = person.getFirstName() + " " + person.getLastName();
-               }
-            } catch (Exception e) {
-               name = "Unknown";
+        try (Stream<Object[]> rows = timesheetRepository.streamDailyMinutes(fromDate, toDate, propertyId)) {
+            PayrollAccumulator current = null;
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                UUID employeeId = (UUID) row[0];
+                if (current == null || !current.employeeId.equals(employeeId)) {
+                    if (current != null) {
+                        report.add(current.toResponse(overtimeProperties.getMultiplier()));
+                    }
+                    current = new PayrollAccumulator(row);
+                }
+                current.addDay((LocalDate) row[6], ((Number) row[7]).intValue(), overtimeProperties);
+            }
+            if (current != null) {
+                report.add(current.toResponse(overtimeProperties.getMultiplier()));
             }
+        }
+        return report;
+    }
+
+    /**
+     * Running totals for one employee while rows arrive in work-date order. Daily overtime is taken first;
+     * the remaining regular minutes count towards the ISO-week threshold.
+     */
+    private static final class PayrollAccumulator {
+        private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
 
-            report.add(new PayrollReportResponse(
-                employee.getId(),
-                name,
-                employee.getJobTitle(),
-                employee.getDepartment(),
-                hourlyRate,
-                totalMinutes,
-                totalPay
-            ));
+        private final UUID employeeId;
+        private final String name;
+        private final String jobTitle;
+        private final String department;
+        private final BigDecimal hourlyRate;
+        private int regularMinutes;
+        private int overtimeMinutes;
+        private LocalDate weekStart;
+        private int weekRegularMinutes;
+
+        private PayrollAccumulator(Object[] row) {
+            this.employeeId = (UUID) row[0];
+            String firstName = (String) row[1];
+            String lastName = (String) row[2];
+            this.name = firstName == null && lastName == null
+                    ? "Unknown"
+                    : ((firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName)).trim();
+            this.jobTitle = (String) row[3];
+            this.department = (String) row[4];
+            this.hourlyRate = row[5] != null ? (BigDecimal) row[5] : BigDecimal.ZERO;
         }
 
-        return report;
+        private void addDay(LocalDate workDate, int minutes, PayrollOvertimeProperties rules) {
+            LocalDate dayWeekStart = workDate.with(DayOfWeek.MONDAY);
+            if (!dayWeekStart.equals(weekStart)) {
+                weekStart = dayWeekStart;
+                weekRegularMinutes = 0;
+            }
+
+            int dailyOvertime = rules.getDailyThresholdMinutes() > 0
+                    ? Math.max(0, minutes - rules.getDailyThresholdMinutes())
+                    : 0;
+            int regular = minutes - dailyOvertime;
+            int weeklyOvertime = 0;
+            if (rules.getWeeklyThresholdMinutes() > 0) {
+                int available = Math.max(0, rules.getWeeklyThresholdMinutes() - weekRegularMinutes);
+                weeklyOvertime = Math.max(0, regular - available);
+                regular -= weeklyOvertime;
+            }
+
+            weekRegularMinutes += regular;
+            regularMinutes += regular;
+            overtimeMinutes += dailyOvertime + weeklyOvertime;
+        }
+
+        private PayrollReportResponse toResponse(BigDecimal multiplier) {
+            BigDecimal regularPay = pay(regularMinutes, hourlyRate);
+            BigDecimal overtimePay = pay(overtimeMinutes, hourlyRate.multiply(multiplier));
+            return new PayrollReportResponse(
+                    employeeId,
+                    name,
+                    jobTitle,
+                    department,
+                    hourlyRate,
+                    regularMinutes + overtimeMinutes,
+                    regularPay.add(overtimePay),
+                    regularMinutes,
+                    overtimeMinutes,
+                    regularPay,
+                    overtimePay);
+        }
+
+        private static BigDecimal pay(int minutes, BigDecimal rate) {
+            return BigDecimal.valueOf(minutes)
+                    .multiply(rate)
+                    .divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+        }
     }
 }
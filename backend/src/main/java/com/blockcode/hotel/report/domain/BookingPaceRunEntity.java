@@ -0,0 +1,53 @@
+package com.blockcode.hotel.report.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One booking pace snapshot run. Rows are written by the {@code snapshot_booking_pace} database function through
+ * {@link com.blockcode.hotel.report.infra.BookingPaceRepository}.
+ */
+@Entity
+@Table(name = "booking_pace_runs")
+public class BookingPaceRunEntity {
+    @Id
+    @Column(name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(name = "watermark", nullable = false)
+    private Instant watermark;
+
+    @Column(name = "dirty_dates", nullable = false)
+    private int dirtyDates;
+
+    @Column(name = "changed_rows", nullable = false)
+    private int changedRows;
+
+    @Column(name = "finished_at", nullable = false)
+    private Instant finishedAt;
+
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public Instant getWatermark() {
+        return watermark;
+    }
+
+    public int getDirtyDates() {
+        return dirtyDates;
+    }
+
+    public int getChangedRows() {
+        return changedRows;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.blockcode.hotel.report.domain;
+
+public enum ReportFormat {
+    JSON,
+    CSV
+}
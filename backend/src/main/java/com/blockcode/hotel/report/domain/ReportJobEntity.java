@@ -0,0 +1,113 @@
+package com.blockcode.hotel.report.domain;
+
+import com.blockcode.hotel.common.domain.AuditableEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Report job metadata. The compressed result lives in the same row but is deliberately not mapped, so status
+ * polling never loads it; it is written and read through {@link com.blockcode.hotel.report.infra.ReportJobRepository}.
+ */
+@Entity
+@Table(name = "report_jobs")
+public class ReportJobEntity extends AuditableEntity {
+    @Id
+    @Column(name = "id", columnDefinition = "uuid")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type", nullable = false)
+    private ReportType reportType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false)
+    private ReportFormat format;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "params", columnDefinition = "jsonb", nullable = false)
+    private JsonNode params;
+
+    @Column(name = "params_hash", nullable = false)
+    private String paramsHash;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "status", nullable = false)
+    private ReportJobStatus status = ReportJobStatus.QUEUED;
+
+    @Column(name = "row_count")
+    private Integer rowCount;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "requested_by")
+    private UUID requestedBy;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public ReportType getReportType() {
+        return reportType;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public JsonNode getParams() {
+        return params;
+    }
+
+    public String getParamsHash() {
+        return paramsHash;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+
+    public Integer getRowCount() {
+        return rowCount;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public UUID getRequestedBy() {
+        return requestedBy;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
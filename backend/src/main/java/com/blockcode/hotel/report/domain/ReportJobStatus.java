@@ -0,0 +1,8 @@
+package com.blockcode.hotel.report.domain;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.blockcode.hotel.report.domain;
+
+public enum ReportType {
+    REVENUE,
+    OCCUPANCY,
+    ROOM_TYPE_OCCUPANCY,
+    PAYROLL
+}
@@ -0,0 +1,46 @@
+package com.blockcode.hotel.report.infra;
+
+import com.blockcode.hotel.report.domain.BookingPaceRunEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface BookingPaceRepository extends JpaRepository<BookingPaceRunEntity, LocalDate> {
+
+    /** Snapshots stay dates touched since the previous run; returns the number of snapshot rows written. */
+    @Query(
+            value = "select snapshot_booking_pace(:snapshotDate, make_interval(secs => cast(:overlapSeconds as double precision)))",
+            nativeQuery = true
+    )
+    int snapshot(@Param("snapshotDate") LocalDate snapshotDate, @Param("overlapSeconds") long overlapSeconds);
+
+    /**
+     * Rooms sold and revenue on the books per stay date, as of {@code asOf} and, when {@code daysOut} is set, no
+     * later than that many days before each stay date. Rows are [stay date, rooms sold, revenue].
+     */
+    @Query(
+            value = "select t.stay_date, coalesce(sum(t.rooms_sold), 0), coalesce(sum(t.revenue), 0) " +
+                    "from (" +
+                    "  select distinct on (s.property_id, s.stay_date, s.room_type_id) " +
+                    "    s.stay_date, s.rooms_sold, s.revenue " +
+                    "  from booking_pace_snapshots s " +
+                    "  where s.stay_date >= :fromDate and s.stay_date <= :toDate " +
+                    "  and (cast(:propertyId as uuid) is null or s.property_id = :propertyId) " +
+                    "  and s.snapshot_date <= :asOf " +
+                    "  and (cast(:daysOut as integer) is null " +
+                    "    or s.snapshot_date <= s.stay_date - cast(:daysOut as integer)) " +
+                    "  order by s.property_id, s.stay_date, s.room_type_id, s.snapshot_date desc" +
+                    ") t " +
+                    "group by t.stay_date",
+            nativeQuery = true
+    )
+    List<Object[]> sumOnTheBooks(@Param("fromDate") LocalDate fromDate,
+                                 @Param("toDate") LocalDate toDate,
+                                 @Param("asOf") LocalDate asOf,
+                                 @Param("daysOut") Integer daysOut,
+                                 @Param("propertyId") UUID propertyId);
+}
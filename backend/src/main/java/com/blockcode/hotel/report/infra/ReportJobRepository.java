@@ -0,0 +1,120 @@
+package com.blockcode.hotel.report.infra;
+
+import com.blockcode.hotel.report.domain.ReportJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReportJobRepository extends JpaRepository<ReportJobEntity, UUID> {
+    Optional<ReportJobEntity> findByIdAndDeletedAtIsNull(UUID id);
+
+    /** Id of the queued or running job for these parameters; reads the index only, never the result column. */
+    @Query(
+            value = "select id from report_jobs where params_hash = :paramsHash and deleted_at is null " +
+                    "and status in ('QUEUED', 'RUNNING')",
+            nativeQuery = true
+    )
+    Optional<UUID> findLiveIdByParamsHash(@Param("paramsHash") String paramsHash);
+
+    /** Inserts a queued job unless one with the same parameters is queued or running; returns 1 when inserted. */
+    @Modifying
+    @Query(
+            value = "insert into report_jobs (id, report_type, format, params, params_hash, status, requested_by) " +
+                    "values (:id, :reportType, :format, cast(:params as jsonb), :paramsHash, 'QUEUED', :requestedBy) " +
+                    "on conflict (params_hash) " +
+                    "where deleted_at is null and status in ('QUEUED', 'RUNNING') do nothing",
+            nativeQuery = true
+    )
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("reportType") String reportType,
+                       @Param("format") String format,
+                       @Param("params") String params,
+                       @Param("paramsHash") String paramsHash,
+                       @Param("requestedBy") UUID requestedBy);
+
+    /** Moves a queued job to RUNNING under the caller's lease token; returns 1 when this caller won the job. */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update report_jobs set status = 'RUNNING', started_at = now(), lease_token = :token, " +
+                    "heartbeat_at = now() where id = :id and status = 'QUEUED' and deleted_at is null",
+            nativeQuery = true
+    )
+    int claim(@Param("id") UUID id, @Param("token") UUID token);
+
+    /** Extends the lease of a running job; returns 0 once the job has been requeued or taken over. */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update report_jobs set heartbeat_at = now() " +
+                    "where id = :id and status = 'RUNNING' and lease_token = :token",
+            nativeQuery = true
+    )
+    int heartbeat(@Param("id") UUID id, @Param("token") UUID token);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update report_jobs set status = 'SUCCEEDED', result = :result, row_count = :rowCount, " +
+                    "finished_at = now(), expires_at = :expiresAt, lease_token = null " +
+                    "where id = :id and status = 'RUNNING' and lease_token = :token",
+            nativeQuery = true
+    )
+    int complete(@Param("id") UUID id,
+                 @Param("token") UUID token,
+                 @Param("result") byte[] result,
+                 @Param("rowCount") int rowCount,
+                 @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update report_jobs set status = 'FAILED', error = :error, finished_at = now(), " +
+                    "expires_at = :expiresAt, lease_token = null " +
+                    "where id = :id and status = 'RUNNING' and lease_token = :token",
+            nativeQuery = true
+    )
+    int fail(@Param("id") UUID id,
+             @Param("token") UUID token,
+             @Param("error") String error,
+             @Param("expiresAt") Instant expiresAt);
+
+    @Query(
+            value = "select result from report_jobs where id = :id and status = 'SUCCEEDED' and deleted_at is null",
+            nativeQuery = true
+    )
+    Optional<byte[]> findResult(@Param("id") UUID id);
+
+    @Query(
+            value = "select id from report_jobs where deleted_at is null and status = 'QUEUED' and created_at < :before " +
+                    "order by created_at",
+            nativeQuery = true
+    )
+    List<UUID> findQueuedBefore(@Param("before") Instant before);
+
+    /** Queues running jobs again whose lease was last refreshed before {@code before}. */
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update report_jobs set status = 'QUEUED', started_at = null, lease_token = null, " +
+                    "heartbeat_at = null where deleted_at is null and status = 'RUNNING' and heartbeat_at < :before",
+            nativeQuery = true
+    )
+    int requeueStale(@Param("before") Instant before);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update report_jobs set deleted_at = now(), result = null " +
+                    "where deleted_at is null and expires_at < now()",
+            nativeQuery = true
+    )
+    int purgeExpired();
+}
@@ -3,7 +3,9 @@ package com.blockcode.hotel.reservation.application;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.blockcode.hotel.audit.application.AuditService;
+import com.blockcode.hotel.common.event.DataChangedEvent;
 import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.common.partition.PartitionMaintenanceService;
 import com.blockcode.hotel.reservation.api.dto.NightlyRateRequest;
 import com.blockcode.hotel.reservation.api.dto.ReservationCreateRequest;
 import com.blockcode.hotel.reservation.api.dto.ReservationNightResponse;
@@ -22,6 +24,10 @@ import com.blockcode.hotel.reservation.infra.ReservationTypeNightRepository;
 import com.blockcode.hotel.pricing.domain.RatePlanPriceEntity;
 import com.blockcode.hotel.pricing.infra.RatePlanRepository;
 import com.blockcode.hotel.pricing.application.RatePlanPriceService;
+import com.blockcode.hotel.pricing.application.CancellationPolicyEngine;
+import com.blockcode.hotel.pricing.application.CancellationPolicyEvaluator;
+import com.blockcode.hotel.property.domain.PropertyEntity;
+import com.blockcode.hotel.property.infra.PropertyRepository;
 import com.blockcode.hotel.guest.infra.GuestRepository;
 import com.blockcode.hotel.finance.application.FolioService;
 import com.blockcode.hotel.finance.domain.FolioEntity;
@@ -32,6 +38,7 @@ import com.blockcode.hotel.room.infra.RoomTypeRepository;
 import com.blockcode.hotel.room.domain.RoomTypeEntity;
 import com.blockcode.hotel.pricing.domain.RatePlanEntity;
 import com.blockcode.hotel.room.domain.RoomEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +46,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -59,8 +68,12 @@ public class ReservationService {
   private final RatePlanPriceService ratePlanPriceService;
   private final RoomRepository roomRepository;
   private final RoomTypeRepository roomTypeRepository;
+  private final PropertyRepository propertyRepository;
+  private final CancellationPolicyEngine cancellationPolicyEngine;
   private final ObjectMapper objectMapper;
   private final AuditService auditService;
+  private final PartitionMaintenanceService partitionMaintenanceService;
+  private final ApplicationEventPublisher eventPublisher;
 
   public ReservationService(
       ReservationRepository reservationRepository,
@@ -74,9 +87,12 @@ public class ReservationService {
       RatePlanPriceService ratePlanPriceService,
       RoomRepository roomRepository,
       RoomTypeRepository roomTypeRepository,
+      PropertyRepository propertyRepository,
+      CancellationPolicyEngine cancellationPolicyEngine,
       ObjectMapper objectMapper,
-      AuditService auditService
-  ) {
+      AuditService auditService,
+      PartitionMaintenanceService partitionMaintenanceService,
+      ApplicationEventPublisher eventPublisher) {
     this.reservationRepository = reservationRepository;
     this.reservationRoomRepository = reservationRoomRepository;
     this.reservationNightRepository = reservationNightRepository;
@@ -88,14 +104,22 @@ public class ReservationService {
     this.ratePlanPriceService = ratePlanPriceService;
     this.roomRepository = roomRepository;
     this.roomTypeRepository = roomTypeRepository;
+    this.propertyRepository = propertyRepository;
+    this.cancellationPolicyEngine = cancellationPolicyEngine;
     this.objectMapper = objectMapper;
     this.auditService = auditService;
+    this.partitionMaintenanceService = partitionMaintenanceService;
+    this.eventPublisher = eventPublisher;
   }
 
   public ReservationResponse create(ReservationCreateRequest request) {
     if (!request.checkOutDate().isAfter(request.checkInDate())) {
       throw new AppException("INVALID_DATES", "Check-out must be after check-in", HttpStatus.BAD_REQUEST);
     }
+    LocalDate horizon = partitionMaintenanceService.reservationNightsHorizon();
+    if (request.checkOutDate().isAfter(horizon)) {
+      throw new AppException("DATES_BEYOND_HORIZON", "Stays must end by " + horizon, HttpStatus.BAD_REQUEST);
+    }
 
     if (guestRepository.findByIdAndDeletedAtIsNull(request.primaryGuestId()).isEmpty()) {
       throw new AppException("GUEST_NOT_FOUND", "Primary guest not found", HttpStatus.BAD_REQUEST);
@@ -119,6 +143,7 @@ public class ReservationService {
 
     reservationRepository.save(reservation);
     auditService.log("reservation", reservation.getId(), "CREATE", null, reservation, reservation.getPropertyId());
+    publishChanged(reservation);
 
     List<ReservationRoomEntity> rooms = new ArrayList<>();
     List<ReservationNightEntity> nights = new ArrayList<>();
@@ -154,10 +179,7 @@ public class ReservationService {
 
     for (ReservationEntity reservation : reservations) {
       List<ReservationRoomEntity> rooms = reservationRoomRepository.findByReservationId(reservation.getId());
-      List<ReservationNightEntity> nights = new ArrayList<>();
-      for (ReservationRoomEntity room : rooms) {
-        nights.addAll(reservationNightRepository.findByReservationRoomId(room.getId()));
-      }
+      List<ReservationNightEntity> nights = findNights(reservation, rooms);
       result.add(mapToResponse(reservation, rooms, nights));
     }
 
@@ -172,10 +194,7 @@ public class ReservationService {
 
     for (ReservationEntity reservation : reservations) {
       List<ReservationRoomEntity> rooms = reservationRoomRepository.findByReservationId(reservation.getId());
-      List<ReservationNightEntity> nights = new ArrayList<>();
-      for (ReservationRoomEntity room : rooms) {
-        nights.addAll(reservationNightRepository.findByReservationRoomId(room.getId()));
-      }
+      List<ReservationNightEntity> nights = findNights(reservation, rooms);
       result.add(mapToResponse(reservation, rooms, nights));
     }
 
@@ -188,10 +207,7 @@ public class ReservationService {
         .orElseThrow(() -> new AppException("NOT_FOUND", "Reservation not found", HttpStatus.NOT_FOUND));
 
     List<ReservationRoomEntity> rooms = reservationRoomRepository.findByReservationId(reservation.getId());
-    List<ReservationNightEntity> nights = new ArrayList<>();
-    for (ReservationRoomEntity room : rooms) {
-      nights.addAll(reservationNightRepository.findByReservationRoomId(room.getId()));
-    }
+    List<ReservationNightEntity> nights = findNights(reservation, rooms);
 
     return mapToResponse(reservation, rooms, nights);
   }
@@ -203,6 +219,7 @@ public class ReservationService {
     reservation.setStatus(ReservationStatus.CHECKED_IN);
     reservationRepository.save(reservation);
     auditService.log("reservation", reservation.getId(), "CHECKIN", before, reservation, reservation.getPropertyId());
+    publishChanged(reservation);
     return get(id);
   }
 
@@ -213,25 +230,39 @@ public class ReservationService {
     reservation.setStatus(ReservationStatus.CHECKED_OUT);
     reservationRepository.save(reservation);
     auditService.log("reservation", reservation.getId(), "CHECKOUT", before, reservation, reservation.getPropertyId());
+    publishChanged(reservation);
     return get(id);
   }
 
   public ReservationResponse cancel(UUID id) {
     ReservationEntity reservation = reservationRepository.findByIdAndDeletedAtIsNull(id)
         .orElseThrow(() -> new AppException("NOT_FOUND", "Reservation not found", HttpStatus.NOT_FOUND));
+    // Only stays that have not started can be cancelled; anything else would void nights already used or
+    // settle the folio a second time.
+    ReservationStatus status = reservation.getStatus();
+    if (status != ReservationStatus.HOLD && status != ReservationStatus.CONFIRMED) {
+      throw new AppException("RESERVATION_NOT_CANCELLABLE",
+          "Reservation is " + status + " and cannot be cancelled", HttpStatus.CONFLICT);
+    }
     Object before = objectMapper.convertValue(reservation, Map.class);
+    boolean chargeable = status == ReservationStatus.CONFIRMED;
     reservation.setStatus(ReservationStatus.CANCELLED);
     reservationRepository.save(reservation);
 
+    Instant now = Instant.now();
     List<ReservationRoomEntity> rooms = reservationRoomRepository.findByReservationId(reservation.getId());
+    BigDecimal penalty = chargeable ? cancellationPenalty(reservation, rooms, now) : BigDecimal.ZERO;
+    folioService.settleCancellation(reservation.getId(), penalty, "Cancellation penalty");
+
     List<UUID> roomIds = rooms.stream().map(ReservationRoomEntity::getId).toList();
     if (!roomIds.isEmpty()) {
-      Instant now = Instant.now();
-      reservationNightRepository.softDeleteByReservationRoomIds(roomIds, now);
+      reservationNightRepository.softDeleteByReservationRoomIds(roomIds, reservation.getCheckInDate(),
+          reservation.getCheckOutDate(), now);
       reservationTypeNightRepository.softDeleteByReservationRoomIds(roomIds, now);
     }
 
     auditService.log("reservation", reservation.getId(), "CANCEL", before, reservation, reservation.getPropertyId());
+    publishChanged(reservation);
 
     return get(id);
   }
@@ -262,14 +293,51 @@ public class ReservationService {
 
     reservationRepository.save(reservation);
     auditService.log("reservation", reservation.getId(), "UPDATE", before, reservation, reservation.getPropertyId());
+    publishChanged(reservation);
 
     List<ReservationRoomEntity> rooms = reservationRoomRepository.findByReservationId(reservation.getId());
-    List<ReservationNightEntity> nights = new ArrayList<>();
+    List<ReservationNightEntity> nights = findNights(reservation, rooms);
+
+    return mapToResponse(reservation, rooms, nights);
+  }
+
+  private void publishChanged(ReservationEntity reservation) {
+    eventPublisher.publishEvent(DataChangedEvent.reservations(
+        reservation.getPropertyId(), reservation.getCheckInDate(), reservation.getCheckOutDate()));
+  }
+
+  private BigDecimal cancellationPenalty(ReservationEntity reservation, List<ReservationRoomEntity> rooms, Instant cancelledAt) {
+    if (rooms.isEmpty()) {
+      return BigDecimal.ZERO;
+    }
+
+    ZoneId zone = propertyRepository.findById(reservation.getPropertyId())
+        .map(PropertyEntity::getTimezone)
+        .map(ZoneId::of)
+        .orElse(ZoneOffset.UTC);
+
+    BigDecimal penalty = BigDecimal.ZERO;
     for (ReservationRoomEntity room : rooms) {
-      nights.addAll(reservationNightRepository.findByReservationRoomId(room.getId()));
+      CancellationPolicyEvaluator evaluator = ratePlanRepository.findById(room.getRatePlanId())
+          .map(cancellationPolicyEngine::forRatePlan)
+          .orElse(CancellationPolicyEvaluator.FREE);
+      Instant arrival = cancellationPolicyEngine.arrivalInstant(evaluator, reservation.getCheckInDate(), zone);
+      penalty = penalty.add(evaluator.penalty(cancelledAt, arrival, snapshotPrices(room)));
     }
 
-    return mapToResponse(reservation, rooms, nights);
+    return penalty;
+  }
+
+  private List<BigDecimal> snapshotPrices(ReservationRoomEntity room) {
+    JsonNode snapshot = room.getNightlyRateSnapshot();
+    if (snapshot == null || !snapshot.isArray()) {
+      return List.of();
+    }
+    List<BigDecimal> prices = new ArrayList<>(snapshot.size());
+    for (JsonNode night : snapshot) {
+      prices.add(night.path("price").decimalValue());
+    }
+    return prices;
   }
 
   private ReservationRoomEntity createReservationRoom(ReservationEntity reservation, ReservationRoomRequest request) {
@@ -444,6 +512,17 @@ public class ReservationService {
     }
   }
 
+  // Nights always fall inside the stay, so the date bounds let Postgres skip the other monthly partitions.
+  private List<ReservationNightEntity> findNights(ReservationEntity reservation, List<ReservationRoomEntity> rooms) {
+    if (rooms.isEmpty()) {
+      return List.of();
+    }
+    return reservationNightRepository.findByReservationRoomIds(
+        rooms.stream().map(ReservationRoomEntity::getId).toList(),
+        reservation.getCheckInDate(),
+        reservation.getCheckOutDate());
+  }
+
   private ReservationResponse mapToResponse(
       ReservationEntity reservation,
       List<ReservationRoomEntity> rooms,
@@ -13,7 +13,17 @@ import java.util.List;
 import java.util.UUID;
 
 public interface ReservationNightRepository extends JpaRepository<ReservationNightEntity, UUID> {
-  List<ReservationNightEntity> findByReservationRoomId(UUID reservationRoomId);
+  /**
+   * reservation_nights is partitioned by month of {@code date}. Every query here bounds {@code date} so that
+   * only the partitions of the requested stay dates are read.
+   */
+  @Query("select n from ReservationNightEntity n " +
+      "where n.reservationRoomId in :reservationRoomIds " +
+      "and n.date >= :fromDate and n.date < :toDate " +
+      "order by n.date")
+  List<ReservationNightEntity> findByReservationRoomIds(@Param("reservationRoomIds") Collection<UUID> reservationRoomIds,
+                                                        @Param("fromDate") LocalDate fromDate,
+                                                        @Param("toDate") LocalDate toDate);
 
   long countByRoomIdAndDateInAndDeletedAtIsNull(UUID roomId, Collection<LocalDate> dates);
 
@@ -66,9 +76,39 @@ public interface ReservationNightRepository extends JpaRepository<ReservationNig
   long countAssignedByRoomTypeAndDate(@Param("roomTypeId") UUID roomTypeId,
                                       @Param("date") LocalDate date);
 
+  /**
+   * Sold room-nights and room revenue per date, property and room type, covering both assigned nights and
+   * nights still held against a room type. Rows are [date, property id, room type id, nights, revenue].
+   */
+  @Query(
+      value = "select n.date, r.property_id, n.room_type_id, count(*), coalesce(sum(n.price), 0) " +
+          "from (" +
+          "  select rn.date, rm.room_type_id, rn.price, rn.reservation_room_id " +
+          "  from reservation_nights rn " +
+          "  join rooms rm on rm.id = rn.room_id " +
+          "  where rn.deleted_at is null and rn.date >= :fromDate and rn.date <= :toDate " +
+          "  union all " +
+          "  select tn.date, tn.room_type_id, tn.price, tn.reservation_room_id " +
+          "  from reservation_type_nights tn " +
+          "  where tn.deleted_at is null and tn.date >= :fromDate and tn.date <= :toDate" +
+          ") n " +
+          "join reservation_rooms rr on rr.id = n.reservation_room_id and rr.deleted_at is null " +
+          "join reservations r on r.id = rr.reservation_id and r.deleted_at is null " +
+          "where r.status in ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT') " +
+          "and (cast(:propertyId as uuid) is null or r.property_id = :propertyId) " +
+          "group by n.date, r.property_id, n.room_type_id",
+      nativeQuery = true
+  )
+  List<Object[]> sumSoldNightsByDateAndRoomType(@Param("fromDate") LocalDate fromDate,
+                                                @Param("toDate") LocalDate toDate,
+                                                @Param("propertyId") UUID propertyId);
+
   @Modifying
   @Query("update ReservationNightEntity n set n.deletedAt = :deletedAt " +
-      "where n.reservationRoomId in :reservationRoomIds and n.deletedAt is null")
+      "where n.reservationRoomId in :reservationRoomIds and n.deletedAt is null " +
+      "and n.date >= :fromDate and n.date < :toDate")
   int softDeleteByReservationRoomIds(@Param("reservationRoomIds") Collection<UUID> reservationRoomIds,
+                                     @Param("fromDate") LocalDate fromDate,
+                                     @Param("toDate") LocalDate toDate,
                                      @Param("deletedAt") Instant deletedAt);
 }
@@ -2,12 +2,33 @@ package com.blockcode.hotel.reservation.infra;
 
 import com.blockcode.hotel.reservation.domain.ReservationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ReservationRepository extends JpaRepository<ReservationEntity, UUID> {
+  /**
+   * Guest list projection shared by the front-desk reports. Rows are [reservation id, guest name,
+   * room numbers, check-in date, check-out date, status].
+   */
+  String GUEST_LIST_SELECT = "select r.id, " +
+      "coalesce(p.first_name || ' ' || p.last_name, 'Unknown'), " +
+      "coalesce(string_agg(distinct rm.room_number, ', '), 'TBD'), " +
+      "r.check_in_date, r.check_out_date, cast(r.status as text) " +
+      "from reservations r " +
+      "left join guests g on g.id = r.primary_guest_id " +
+      "left join people p on p.id = g.person_id " +
+      "left join reservation_rooms rr on rr.reservation_id = r.id and rr.deleted_at is null " +
+      "left join rooms rm on rm.id = rr.room_id " +
+      "where r.deleted_at is null " +
+      "and (cast(:propertyId as uuid) is null or r.property_id = :propertyId) ";
+
+  String GUEST_LIST_GROUP = "group by r.id, p.first_name, p.last_name " +
+      "order by p.last_name, p.first_name, r.id";
+
   Optional<ReservationEntity> findByIdAndDeletedAtIsNull(UUID id);
 
   List<ReservationEntity> findAllByDeletedAtIsNullOrderByCreatedAtDesc();
@@ -16,23 +37,39 @@ public interface ReservationRepository extends JpaRepository<ReservationEntity,
 
   List<ReservationEntity> findAllByPrimaryGuestIdAndDeletedAtIsNullOrderByCreatedAtDesc(UUID primaryGuestId);
 
-  List<ReservationEntity> findAllByStatusAndDeletedAtIsNull(
-      com.blockcode.hotel.reservation.domain.ReservationStatus status);
-
-  List<ReservationEntity> findAllByCheckInDateAndDeletedAtIsNull(java.time.LocalDate date);
+  @Query(
+      value = GUEST_LIST_SELECT +
+          "and r.status = 'CHECKED_IN' and r.check_in_date <= :date and r.check_out_date > :date " +
+          GUEST_LIST_GROUP,
+      nativeQuery = true
+  )
+  List<Object[]> findInHouseGuestList(@Param("date") java.time.LocalDate date, @Param("propertyId") UUID propertyId);
 
-  List<ReservationEntity> findAllByCheckOutDateAndDeletedAtIsNull(java.time.LocalDate date);
+  @Query(
+      value = GUEST_LIST_SELECT +
+          "and r.status = 'CONFIRMED' and r.check_in_date = :date " +
+          GUEST_LIST_GROUP,
+      nativeQuery = true
+  )
+  List<Object[]> findArrivalGuestList(@Param("date") java.time.LocalDate date, @Param("propertyId") UUID propertyId);
 
-  @org.springframework.data.jpa.repository.Query("select count(r) from ReservationEntity r " +
-      "where r.deletedAt is null " +
-      "and r.status in ('CONFIRMED', 'CHECKED_IN') " +
-      "and :date >= r.checkInDate and :date < r.checkOutDate")
-  long countActiveReservationsByDate(@org.springframework.data.repository.query.Param("date") java.time.LocalDate date);
+  @Query(
+      value = GUEST_LIST_SELECT +
+          "and r.status = 'CHECKED_IN' and r.check_out_date = :date " +
+          GUEST_LIST_GROUP,
+      nativeQuery = true
+  )
+  List<Object[]> findDepartureGuestList(@Param("date") java.time.LocalDate date, @Param("propertyId") UUID propertyId);
 
-  @org.springframework.data.jpa.repository.Query("select count(r) from ReservationEntity r " +
-      "where r.deletedAt is null " +
-      "and :startDate <= r.createdAt and :endDate > r.createdAt")
-  long countReservationsCreatedBetween(
-      @org.springframework.data.repository.query.Param("startDate") java.time.Instant startDate,
-      @org.springframework.data.repository.query.Param("endDate") java.time.Instant endDate);
+  /** Reservations created on {@code date} in each property's own time zone. */
+  @Query(
+      value = "select count(*) from reservations r " +
+          "join properties pr on pr.id = r.property_id " +
+          "where r.deleted_at is null " +
+          "and (cast(:propertyId as uuid) is null or r.property_id = :propertyId) " +
+          "and r.created_at >= cast(cast(:date as date) as timestamp) at time zone pr.timezone " +
+          "and r.created_at < cast(cast(:date as date) + 1 as timestamp) at time zone pr.timezone",
+      nativeQuery = true
+  )
+  long countReservationsCreatedOn(@Param("date") java.time.LocalDate date, @Param("propertyId") UUID propertyId);
 }
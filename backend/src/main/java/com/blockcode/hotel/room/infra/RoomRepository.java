@@ -26,8 +26,11 @@ public interface RoomRepository extends JpaRepository<RoomEntity, UUID> {
       "group by r.roomTypeId")
   List<Object[]> countRoomsByRoomType(@Param("propertyId") UUID propertyId);
 
-  long countByRoomTypeIdAndDeletedAtIsNullAndIsActiveTrue(UUID roomTypeId);
+  @Query("select r.propertyId, r.roomTypeId, count(r) from RoomEntity r " +
+      "where r.deletedAt is null and r.isActive = true " +
+      "and (:propertyId is null or r.propertyId = :propertyId) " +
+      "group by r.propertyId, r.roomTypeId")
+  List<Object[]> countRoomsByPropertyAndRoomType(@Param("propertyId") UUID propertyId);
 
-  @Query("select count(r) from RoomEntity r where r.deletedAt is null")
-  long countActiveRooms();
+  long countByRoomTypeIdAndDeletedAtIsNullAndIsActiveTrue(UUID roomTypeId);
 }
@@ -1,12 +1,18 @@
 package com.blockcode.hotel.timesheet.infra;
 
 import com.blockcode.hotel.timesheet.domain.EmployeeTimesheetEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import com.blockcode.hotel.housekeeping.domain.WorkShift;
 
 public interface EmployeeTimesheetRepository extends JpaRepository<EmployeeTimesheetEntity, UUID> {
@@ -16,5 +22,25 @@ public interface EmployeeTimesheetRepository extends JpaRepository<EmployeeTimes
 
   boolean existsByEmployeeIdAndWorkDateAndShiftAndDeletedAtIsNull(UUID employeeId, LocalDate workDate, WorkShift shift);
 
-  List<EmployeeTimesheetEntity> findAllByWorkDateBetweenAndDeletedAtIsNull(LocalDate fromDate, LocalDate toDate);
+  /**
+   * Worked minutes per employee and day, ordered so payroll can be computed in a single pass. Rows are
+   * [employee id, first name, last name, job title, department, hourly rate, work date, minutes].
+   */
+  @Query(
+      value = "select e.id, p.first_name, p.last_name, e.job_title, e.department, e.hourly_rate, " +
+          "t.work_date, sum(t.total_minutes) " +
+          "from employee_timesheets t " +
+          "join employees e on e.id = t.employee_id " +
+          "left join people p on p.id = e.person_id " +
+          "where t.deleted_at is null " +
+          "and t.work_date between :fromDate and :toDate " +
+          "and (cast(:propertyId as uuid) is null or t.property_id = :propertyId) " +
+          "group by e.id, p.first_name, p.last_name, e.job_title, e.department, e.hourly_rate, t.work_date " +
+          "order by p.last_name, p.first_name, e.id, t.work_date",
+      nativeQuery = true
+  )
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<Object[]> streamDailyMinutes(@Param("fromDate") LocalDate fromDate,
+                                      @Param("toDate") LocalDate toDate,
+                                      @Param("propertyId") UUID propertyId);
 }
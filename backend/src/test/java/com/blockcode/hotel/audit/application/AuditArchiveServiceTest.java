@@ -0,0 +1,57 @@
+package com.blockcode.hotel.audit.application;
+
+import com.blockcode.hotel.audit.infra.AuditLogQueryRepository;
+import com.blockcode.hotel.common.exception.AppException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class AuditArchiveServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final AuditLogQueryRepository auditLogQueryRepository = mock(AuditLogQueryRepository.class);
+    private final AuditArchiveProperties properties = new AuditArchiveProperties();
+    private final AuditArchiveService archiveService =
+            new AuditArchiveService(auditLogQueryRepository, properties, new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    public void disabledArchival_ShouldRejectManualRunWithConflict() {
+        properties.setEnabled(false);
+
+        AppException ex = assertThrows(AppException.class, archiveService::archive);
+
+        assertEquals("ARCHIVE_DISABLED", ex.getCode());
+        verifyNoInteractions(auditLogQueryRepository);
+    }
+
+    @Test
+    public void disabledArchival_ShouldSkipScheduledRun() {
+        properties.setEnabled(false);
+
+        archiveService.scheduledArchive();
+
+        verifyNoInteractions(auditLogQueryRepository);
+    }
+
+    @Test
+    public void enabledArchival_ShouldRunWhenNothingIsDue() {
+        properties.setEnabled(true);
+        properties.setDir(dir.toString());
+        when(auditLogQueryRepository.findArchivable(any(), anyInt())).thenReturn(List.of());
+
+        assertEquals(0, archiveService.archive());
+    }
+}
@@ -0,0 +1,127 @@
+package com.blockcode.hotel.audit.application;
+
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import com.blockcode.hotel.audit.infra.AuditLogBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class AuditLogWriterTest {
+
+    @TempDir
+    Path spillDir;
+
+    private final AuditLogBatchRepository repository = mock(AuditLogBatchRepository.class);
+
+    @Test
+    public void queuedEvents_ShouldBeWrittenInBatches() {
+        AuditLogWriter writer = writer(10, 3);
+        List<List<AuditEvent>> batches = recordBatches();
+        for (int i = 0; i < 5; i++) {
+            writer.submit(event());
+        }
+
+        assertEquals(3, writer.flushOnce(System.nanoTime()));
+        assertEquals(2, writer.flushOnce(System.nanoTime()));
+        assertEquals(List.of(3, 2), batches.stream().map(List::size).toList());
+    }
+
+    @Test
+    public void fullQueue_ShouldSpillOnProducerThread() throws Exception {
+        AuditLogWriter writer = writer(2, 2);
+        writer.submit(event());
+        writer.submit(event());
+        writer.submit(event());
+
+        AuditSpillStore store = spillStore();
+        assertEquals(1, store.pending().size());
+        assertEquals(1, store.read(store.pending().get(0)).size());
+    }
+
+    @Test
+    public void failedBatch_ShouldBeSpilledAndReplayedAfterRetryDelay() throws Exception {
+        AuditLogWriter writer = writer(10, 10);
+        AuditEvent event = event();
+        writer.submit(event);
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).insertAll(anyList());
+
+        long now = System.nanoTime();
+        writer.flushOnce(now);
+        assertEquals(1, spillStore().pending().size());
+
+        List<List<AuditEvent>> batches = recordBatches();
+        // Still inside the retry delay: nothing is replayed.
+        writer.flushOnce(now + Duration.ofSeconds(1).toNanos());
+        assertTrue(batches.isEmpty());
+
+        writer.flushOnce(now + Duration.ofSeconds(31).toNanos());
+        assertEquals(List.of(List.of(event)), batches);
+        assertTrue(spillStore().pending().isEmpty());
+    }
+
+    @Test
+    public void stop_ShouldSpillEventsStillQueued() throws Exception {
+        AuditLogWriter writer = writer(10, 10);
+        writer.submit(event());
+        writer.stop();
+
+        verify(repository, never()).insertAll(anyList());
+        assertEquals(1, spillStore().pending().size());
+    }
+
+    private List<List<AuditEvent>> recordBatches() {
+        List<List<AuditEvent>> batches = new ArrayList<>();
+        doAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.<List<AuditEvent>>getArgument(0)));
+            return null;
+        }).when(repository).insertAll(anyList());
+        return batches;
+    }
+
+    private AuditLogWriter writer(int capacity, int batchSize) {
+        AuditProperties properties = properties();
+        properties.setQueueCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setOfferTimeout(Duration.ofMillis(5));
+        return new AuditLogWriter(repository, new AuditSpillStore(properties, objectMapper()), properties,
+                new SimpleMeterRegistry());
+    }
+
+    private AuditSpillStore spillStore() {
+        return new AuditSpillStore(properties(), objectMapper());
+    }
+
+    private AuditProperties properties() {
+        AuditProperties properties = new AuditProperties();
+        properties.setSpillDir(spillDir.toString());
+        return properties;
+    }
+
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper().findAndRegisterModules();
+    }
+
+    private static AuditEvent event() {
+        return new AuditEvent(UUID.randomUUID(), null, null, "reservation", UUID.randomUUID(), "UPDATE",
+                "{\"status\":\"HOLD\"}", "{\"status\":\"CONFIRMED\"}", null, "127.0.0.1", null,
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
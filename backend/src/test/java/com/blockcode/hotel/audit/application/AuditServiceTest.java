@@ -0,0 +1,74 @@
+package com.blockcode.hotel.audit.application;
+
+import com.blockcode.hotel.audit.api.dto.AuditLogPageResponse;
+import com.blockcode.hotel.audit.api.dto.AuditLogSummaryResponse;
+import com.blockcode.hotel.audit.domain.AuditLogFilter;
+import com.blockcode.hotel.audit.domain.AuditLogSummary;
+import com.blockcode.hotel.audit.infra.AuditLogQueryRepository;
+import com.blockcode.hotel.audit.infra.AuditLogRepository;
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AuditServiceTest {
+
+    private static final AuditLogFilter NO_FILTER = new AuditLogFilter(null, null, null, null, null, null, null);
+
+    private final AuditLogQueryRepository queryRepository = mock(AuditLogQueryRepository.class);
+    private final AuditService auditService = new AuditService(mock(AuditLogRepository.class), queryRepository,
+            mock(AuditLogWriter.class), mock(CurrentUserProvider.class), new ObjectMapper());
+
+    @Test
+    public void fullPage_ShouldReturnCursorOfLastRow() {
+        List<AuditLogSummary> rows = rows(3);
+        when(queryRepository.findPage(NO_FILTER, null, null, 3)).thenReturn(rows);
+
+        AuditLogPageResponse first = auditService.list(NO_FILTER, null, 2);
+        assertEquals(List.of(rows.get(0).id(), rows.get(1).id()),
+                first.items().stream().map(AuditLogSummaryResponse::id).toList());
+        assertNotNull(first.nextCursor());
+
+        AuditLogSummary last = rows.get(1);
+        when(queryRepository.findPage(eq(NO_FILTER), eq(last.createdAt()), eq(last.id()), eq(3)))
+                .thenReturn(rows.subList(2, 3));
+        AuditLogPageResponse second = auditService.list(NO_FILTER, first.nextCursor(), 2);
+        assertEquals(List.of(rows.get(2).id()), second.items().stream().map(AuditLogSummaryResponse::id).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    public void malformedCursor_ShouldBeRejected() {
+        AppException ex = assertThrows(AppException.class, () -> auditService.list(NO_FILTER, "not-a-cursor", 10));
+        assertEquals("INVALID_CURSOR", ex.getCode());
+    }
+
+    @Test
+    public void entityIdWithoutType_ShouldBeRejected() {
+        AuditLogFilter filter = new AuditLogFilter(null, null, UUID.randomUUID(), null, null, null, null);
+        assertThrows(AppException.class, () -> auditService.list(filter, null, 10));
+    }
+
+    private static List<AuditLogSummary> rows(int count) {
+        List<AuditLogSummary> rows = new ArrayList<>();
+        Instant createdAt = Instant.parse("2026-03-01T10:15:30.123456Z");
+        for (int i = 0; i < count; i++) {
+            rows.add(new AuditLogSummary(UUID.randomUUID(), null, null, "reservation", UUID.randomUUID(),
+                    "UPDATE", null, null, createdAt.minusSeconds(i)));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,86 @@
+package com.blockcode.hotel.audit.infra;
+
+import com.blockcode.hotel.audit.domain.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AuditSegmentTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00.000001Z");
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    public void entityLookup_ShouldReturnEveryRowOfThatEntity() throws Exception {
+        List<UUID> entities = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            entities.add(UUID.randomUUID());
+        }
+        List<AuditEvent> events = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            events.add(event(entities.get(i % entities.size()), START.plusSeconds(i)));
+        }
+        AuditSegment segment = write(events);
+
+        UUID entityId = entities.get(7);
+        List<AuditEvent> found = segment.find(entityId, null, null, e -> entityId.equals(e.entityId()), objectMapper);
+
+        Set<UUID> expected = events.stream().filter(e -> entityId.equals(e.entityId()))
+                .map(AuditEvent::id).collect(Collectors.toSet());
+        assertEquals(expected, found.stream().map(AuditEvent::id).collect(Collectors.toSet()));
+        assertEquals(events.get(7), found.get(0));
+        assertEquals(1000, segment.rowCount());
+        assertEquals(START, segment.minCreatedAt());
+    }
+
+    @Test
+    public void unknownEntity_ShouldFindNothing() throws Exception {
+        AuditSegment segment = write(List.of(event(UUID.randomUUID(), START)));
+
+        assertTrue(segment.find(UUID.randomUUID(), null, null, e -> true, objectMapper).isEmpty());
+    }
+
+    @Test
+    public void timeRange_ShouldOnlyReturnRowsInsideRange() throws Exception {
+        List<AuditEvent> events = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            events.add(event(null, START.plusSeconds(i)));
+        }
+        AuditSegment segment = write(events);
+        Instant from = START.plusSeconds(100);
+        Instant to = START.plusSeconds(150);
+
+        List<AuditEvent> found = segment.find(null, from, to,
+                e -> !e.createdAt().isBefore(from) && e.createdAt().isBefore(to), objectMapper);
+
+        assertEquals(events.subList(100, 150), found);
+        assertTrue(segment.overlaps(from, to));
+        assertTrue(!segment.overlaps(START.plusSeconds(400), null));
+    }
+
+    private AuditSegment write(List<AuditEvent> events) throws Exception {
+        Path target = dir.resolve("segment" + AuditSegment.SUFFIX);
+        AuditSegment.write(target, events, 64, objectMapper);
+        return AuditSegment.open(target);
+    }
+
+    private static AuditEvent event(UUID entityId, Instant createdAt) {
+        return new AuditEvent(UUID.randomUUID(), null, null, "reservation", entityId, "UPDATE",
+                "{\"status\":\"HOLD\"}", "{\"status\":\"CONFIRMED\"}", null, "10.0.0.1", "test", createdAt);
+    }
+}
@@ -0,0 +1,70 @@
+package com.blockcode.hotel.auth.application;
+
+import com.blockcode.hotel.auth.api.dto.ApiKeyCreateRequest;
+import com.blockcode.hotel.auth.domain.UserEntity;
+import com.blockcode.hotel.auth.infra.ApiKeyRepository;
+import com.blockcode.hotel.auth.infra.AuthorizationRepository;
+import com.blockcode.hotel.auth.infra.UserRepository;
+import com.blockcode.hotel.auth.security.ApiKeyAuthenticator;
+import com.blockcode.hotel.auth.security.PermissionRegistry;
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ApiKeyServiceTest {
+
+    private static final UUID OWNER_ID = UUID.randomUUID();
+
+    private final ApiKeyRepository apiKeyRepository = mock(ApiKeyRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthorizationRepository authorizationRepository = mock(AuthorizationRepository.class);
+    private final ApiKeyAuthenticator apiKeyAuthenticator = mock(ApiKeyAuthenticator.class);
+    private final PermissionRegistry permissionRegistry = mock(PermissionRegistry.class);
+    private final CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+    private final ApiKeyService apiKeyService = new ApiKeyService(
+            apiKeyRepository, userRepository, authorizationRepository, apiKeyAuthenticator, permissionRegistry,
+            currentUserProvider);
+
+    @BeforeEach
+    public void setUp() {
+        when(permissionRegistry.encode(anyList())).thenReturn(new PermissionRegistry.Encoded("", List.of()));
+        when(currentUserProvider.getRequiredUserId()).thenReturn(OWNER_ID);
+        when(apiKeyAuthenticator.hash(any())).thenReturn("hash");
+        UserEntity owner = new UserEntity();
+        owner.setId(OWNER_ID);
+        when(userRepository.findByIdAndDeletedAtIsNull(OWNER_ID)).thenReturn(Optional.of(owner));
+        when(authorizationRepository.findPermissionCodesByUserId(OWNER_ID)).thenReturn(List.of("reservation.READ"));
+    }
+
+    @Test
+    public void permissionsHeldByOwner_ShouldCreateKey() {
+        apiKeyService.create(new ApiKeyCreateRequest("channel-manager", List.of("reservation.READ"), null, null));
+
+        verify(apiKeyRepository).save(any());
+    }
+
+    @Test
+    public void permissionsBeyondOwner_ShouldBeRejected() {
+        ApiKeyCreateRequest request = new ApiKeyCreateRequest(
+                "channel-manager", List.of("reservation.READ", "user.WRITE"), null, null);
+
+        AppException ex = assertThrows(AppException.class, () -> apiKeyService.create(request));
+
+        assertEquals("PERMISSION_NOT_HELD", ex.getCode());
+        verify(apiKeyRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,170 @@
+package com.blockcode.hotel.auth.application;
+
+import com.blockcode.hotel.auth.api.dto.NavigationMenuResponse;
+import com.blockcode.hotel.auth.api.dto.NavigationSubmenuResponse;
+import com.blockcode.hotel.auth.domain.MenuEntity;
+import com.blockcode.hotel.auth.domain.RoleEntity;
+import com.blockcode.hotel.auth.domain.RoleSubmenuEntity;
+import com.blockcode.hotel.auth.domain.RoleSubmenuId;
+import com.blockcode.hotel.auth.domain.SubmenuEntity;
+import com.blockcode.hotel.auth.infra.MenuRepository;
+import com.blockcode.hotel.auth.infra.RoleRepository;
+import com.blockcode.hotel.auth.infra.RoleSubmenuRepository;
+import com.blockcode.hotel.auth.infra.SubmenuRepository;
+import com.blockcode.hotel.auth.infra.UserRoleRepository;
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NavigationServiceTest {
+
+    private static final UUID CLERK = UUID.randomUUID();
+    private static final UUID ACCOUNTANT = UUID.randomUUID();
+    private static final UUID SYSTEM_ADMIN = UUID.randomUUID();
+
+    private final UserRoleRepository userRoleRepository = mock(UserRoleRepository.class);
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final RoleSubmenuRepository roleSubmenuRepository = mock(RoleSubmenuRepository.class);
+    private final SubmenuRepository submenuRepository = mock(SubmenuRepository.class);
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final NavigationService navigationService = new NavigationService(mock(CurrentUserProvider.class),
+            userRoleRepository, roleRepository, roleSubmenuRepository, submenuRepository, menuRepository);
+
+    private final MenuEntity frontDesk = menu("front-desk", 1);
+    private final MenuEntity finance = menu("finance", 2);
+    private final MenuEntity settings = menu("settings", 3);
+    private final SubmenuEntity arrivals = submenu(frontDesk, "arrivals", 1);
+    private final SubmenuEntity departures = submenu(frontDesk, "departures", 2);
+    private final SubmenuEntity folios = submenu(finance, "folios", 1);
+    private final List<RoleSubmenuEntity> grants = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        when(menuRepository.findAllByDeletedAtIsNullOrderBySortOrderAscLabelAsc())
+                .thenReturn(List.of(frontDesk, finance, settings));
+        when(submenuRepository.findAllByDeletedAtIsNullOrderByMenuIdAscSortOrderAsc())
+                .thenReturn(List.of(arrivals, departures, folios));
+        when(roleSubmenuRepository.findAll()).thenAnswer(invocation -> List.copyOf(grants));
+        RoleEntity systemAdmin = new RoleEntity();
+        systemAdmin.setId(SYSTEM_ADMIN);
+        systemAdmin.setName(NavigationService.SYSTEM_ADMIN_ROLE);
+        when(roleRepository.findByPropertyIdAndNameAndDeletedAtIsNull(null, NavigationService.SYSTEM_ADMIN_ROLE))
+                .thenReturn(Optional.of(systemAdmin));
+
+        grant(CLERK, arrivals);
+        grant(ACCOUNTANT, folios);
+    }
+
+    @Test
+    public void usersWithTheSameRoleSet_ShouldShareOneCachedTree() {
+        UUID first = user(CLERK, ACCOUNTANT);
+        UUID second = user(ACCOUNTANT, CLERK);
+
+        List<NavigationMenuResponse> firstTree = navigationService.getNavigationForUser(first);
+        List<NavigationMenuResponse> secondTree = navigationService.getNavigationForUser(second);
+
+        assertSame(firstTree, secondTree);
+        assertEquals(List.of("front-desk", "finance"), keys(firstTree));
+        assertEquals(List.of("arrivals"), submenuKeys(firstTree.get(0)));
+        verify(menuRepository, times(1)).findAllByDeletedAtIsNullOrderBySortOrderAscLabelAsc();
+    }
+
+    @Test
+    public void systemAdmin_ShouldSeeEveryMenuAndSubmenu() {
+        List<NavigationMenuResponse> tree = navigationService.getNavigationForUser(user(SYSTEM_ADMIN));
+
+        assertEquals(List.of("front-desk", "finance", "settings"), keys(tree));
+        assertEquals(List.of("arrivals", "departures"), submenuKeys(tree.get(0)));
+        assertTrue(tree.get(2).submenus().isEmpty());
+    }
+
+    @Test
+    public void userWithoutRoles_ShouldSeeNothing() {
+        assertTrue(navigationService.getNavigationForUser(user()).isEmpty());
+    }
+
+    @Test
+    public void menuChange_ShouldRebuildTrees() {
+        UUID clerk = user(CLERK);
+        assertEquals(List.of("front-desk"), keys(navigationService.getNavigationForUser(clerk)));
+
+        grant(CLERK, folios);
+        navigationService.onAuthorizationChanged(AuthorizationChangedEvent.menus());
+
+        assertEquals(List.of("front-desk", "finance"), keys(navigationService.getNavigationForUser(clerk)));
+    }
+
+    @Test
+    public void roleChange_ShouldReloadTheUsersRoles() {
+        UUID userId = user(CLERK);
+        assertEquals(List.of("front-desk"), keys(navigationService.getNavigationForUser(userId)));
+
+        when(userRoleRepository.findRoleIdsByUserId(userId)).thenReturn(List.of(ACCOUNTANT));
+        navigationService.onAuthorizationChanged(AuthorizationChangedEvent.roles());
+
+        assertEquals(List.of("finance"), keys(navigationService.getNavigationForUser(userId)));
+    }
+
+    @Test
+    public void permissionChange_ShouldKeepTheCatalog() {
+        UUID userId = user(CLERK);
+        navigationService.getNavigationForUser(userId);
+
+        navigationService.onAuthorizationChanged(AuthorizationChangedEvent.permissions());
+        navigationService.getNavigationForUser(userId);
+
+        verify(menuRepository, times(1)).findAllByDeletedAtIsNullOrderBySortOrderAscLabelAsc();
+        verify(userRoleRepository, times(1)).findRoleIdsByUserId(userId);
+    }
+
+    private UUID user(UUID... roleIds) {
+        UUID userId = UUID.randomUUID();
+        when(userRoleRepository.findRoleIdsByUserId(userId)).thenReturn(List.of(roleIds));
+        return userId;
+    }
+
+    private void grant(UUID roleId, SubmenuEntity submenu) {
+        grants.add(new RoleSubmenuEntity(new RoleSubmenuId(roleId, submenu.getId())));
+    }
+
+    private static List<String> keys(List<NavigationMenuResponse> tree) {
+        return tree.stream().map(NavigationMenuResponse::key).toList();
+    }
+
+    private static List<String> submenuKeys(NavigationMenuResponse menu) {
+        return menu.submenus().stream().map(NavigationSubmenuResponse::key).toList();
+    }
+
+    private static MenuEntity menu(String key, int sortOrder) {
+        MenuEntity menu = new MenuEntity();
+        menu.setId(UUID.randomUUID());
+        menu.setKey(key);
+        menu.setLabel(key);
+        menu.setSortOrder(sortOrder);
+        return menu;
+    }
+
+    private static SubmenuEntity submenu(MenuEntity menu, String key, int sortOrder) {
+        SubmenuEntity submenu = new SubmenuEntity();
+        submenu.setId(UUID.randomUUID());
+        submenu.setMenuId(menu.getId());
+        submenu.setKey(key);
+        submenu.setLabel(key);
+        submenu.setRoute("/" + key);
+        submenu.setSortOrder(sortOrder);
+        return submenu;
+    }
+}
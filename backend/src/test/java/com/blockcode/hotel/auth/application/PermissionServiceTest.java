@@ -0,0 +1,68 @@
+package com.blockcode.hotel.auth.application;
+
+import com.blockcode.hotel.auth.api.dto.PermissionUpdateRequest;
+import com.blockcode.hotel.auth.api.mapper.PermissionMapper;
+import com.blockcode.hotel.auth.domain.PermissionEntity;
+import com.blockcode.hotel.auth.infra.PermissionRepository;
+import com.blockcode.hotel.common.exception.AppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PermissionServiceTest {
+
+    private final PermissionRepository permissionRepository = mock(PermissionRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PermissionService permissionService =
+            new PermissionService(permissionRepository, mock(PermissionMapper.class), eventPublisher);
+
+    private final PermissionEntity permission = new PermissionEntity();
+
+    @BeforeEach
+    public void setUp() {
+        permission.setId(UUID.randomUUID());
+        permission.setResource("reservation");
+        permission.setAction("READ");
+        when(permissionRepository.findByIdAndDeletedAtIsNull(permission.getId())).thenReturn(Optional.of(permission));
+    }
+
+    @Test
+    public void renamingAction_ShouldBeRejectedSoTheBitKeepsItsMeaning() {
+        PermissionUpdateRequest request = new PermissionUpdateRequest("reservation", "WRITE", null);
+
+        AppException ex = assertThrows(AppException.class, () -> permissionService.update(permission.getId(), request));
+
+        assertEquals("PERMISSION_RENAME_NOT_ALLOWED", ex.getCode());
+        assertEquals("READ", permission.getAction());
+        verify(permissionRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    public void renamingResource_ShouldBeRejected() {
+        PermissionUpdateRequest request = new PermissionUpdateRequest("folio", "READ", null);
+
+        AppException ex = assertThrows(AppException.class, () -> permissionService.update(permission.getId(), request));
+
+        assertEquals("PERMISSION_RENAME_NOT_ALLOWED", ex.getCode());
+    }
+
+    @Test
+    public void changingScope_ShouldBeSaved() {
+        permissionService.update(permission.getId(), new PermissionUpdateRequest("reservation", "READ", "PROPERTY"));
+
+        assertEquals("PROPERTY", permission.getScope());
+        verify(permissionRepository).save(permission);
+    }
+}
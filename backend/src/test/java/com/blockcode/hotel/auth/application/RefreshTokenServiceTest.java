@@ -0,0 +1,74 @@
+package com.blockcode.hotel.auth.application;
+
+import com.blockcode.hotel.auth.domain.RefreshTokenEntity;
+import com.blockcode.hotel.auth.domain.TokenSubjectType;
+import com.blockcode.hotel.auth.infra.RefreshTokenRepository;
+import com.blockcode.hotel.auth.security.JwtProperties;
+import com.blockcode.hotel.common.exception.AppException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RefreshTokenServiceTest {
+
+    private final RefreshTokenRepository repository = mock(RefreshTokenRepository.class);
+    private final RefreshTokenService service = new RefreshTokenService(repository, new JwtProperties());
+
+    @Test
+    public void rotate_ShouldIssueSuccessorInSameFamily() {
+        UUID subjectId = UUID.randomUUID();
+        service.issue(subjectId, TokenSubjectType.USER);
+        RefreshTokenEntity issued = lastSaved(1);
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.of(issued));
+        when(repository.markUsed(eq(issued.getId()), any())).thenReturn(1);
+
+        RefreshTokenService.Rotation rotation = service.rotate("presented", TokenSubjectType.USER);
+
+        RefreshTokenEntity successor = lastSaved(2);
+        assertEquals(subjectId, rotation.subjectId());
+        assertEquals(issued.getFamilyId(), successor.getFamilyId());
+        assertNotEquals(issued.getTokenHash(), successor.getTokenHash());
+        verify(repository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    public void reusedToken_ShouldRevokeFamily() {
+        service.issue(UUID.randomUUID(), TokenSubjectType.CUSTOMER);
+        RefreshTokenEntity issued = lastSaved(1);
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.of(issued));
+        when(repository.markUsed(eq(issued.getId()), any())).thenReturn(0);
+
+        assertThrows(AppException.class, () -> service.rotate("reused", TokenSubjectType.CUSTOMER));
+        verify(repository).revokeFamily(eq(issued.getFamilyId()), any());
+    }
+
+    @Test
+    public void tokenOfOtherSubjectType_ShouldBeRejected() {
+        service.issue(UUID.randomUUID(), TokenSubjectType.CUSTOMER);
+        RefreshTokenEntity issued = lastSaved(1);
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.of(issued));
+
+        assertThrows(AppException.class, () -> service.rotate("customer-token", TokenSubjectType.USER));
+        verify(repository, never()).markUsed(any(), any());
+    }
+
+    private RefreshTokenEntity lastSaved(int times) {
+        ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(repository, times(times)).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,122 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.auth.domain.ApiKeyEntity;
+import com.blockcode.hotel.auth.domain.UserEntity;
+import com.blockcode.hotel.auth.domain.UserStatus;
+import com.blockcode.hotel.auth.infra.ApiKeyRepository;
+import com.blockcode.hotel.auth.infra.AuthorizationRepository;
+import com.blockcode.hotel.auth.infra.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ApiKeyAuthenticatorTest {
+
+    private static final String RAW_KEY = "hk_test-key";
+
+    private final ApiKeyRepository apiKeyRepository = mock(ApiKeyRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthorizationRepository authorizationRepository = mock(AuthorizationRepository.class);
+    private final ApiKeyAuthenticator authenticator = new ApiKeyAuthenticator(
+            apiKeyRepository, userRepository, authorizationRepository, new ApiKeyProperties());
+
+    @Test
+    public void validKey_ShouldActForOwnerWithKeyPermissionsOnly() {
+        ApiKeyEntity apiKey = apiKey(null);
+        stubOwner(apiKey.getOwnerUserId(), UserStatus.ACTIVE);
+
+        Authentication auth = authenticator.authenticate(RAW_KEY);
+
+        assertNotNull(auth);
+        assertEquals(apiKey.getOwnerUserId().toString(), auth.getPrincipal());
+        assertEquals(List.of("reservation.READ"),
+                auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertInstanceOf(ApiKeyDetails.class, auth.getDetails());
+    }
+
+    @Test
+    public void repeatedLookups_ShouldBeServedFromCacheUntilInvalidated() {
+        ApiKeyEntity apiKey = apiKey(null);
+        stubOwner(apiKey.getOwnerUserId(), UserStatus.ACTIVE);
+
+        authenticator.authenticate(RAW_KEY);
+        authenticator.authenticate(RAW_KEY);
+        verify(apiKeyRepository, times(1)).findByKeyHashAndRevokedAtIsNullAndDeletedAtIsNull(any());
+
+        authenticator.invalidate();
+        authenticator.authenticate(RAW_KEY);
+        verify(apiKeyRepository, times(2)).findByKeyHashAndRevokedAtIsNullAndDeletedAtIsNull(any());
+    }
+
+    @Test
+    public void expiredKey_ShouldBeRejected() {
+        ApiKeyEntity apiKey = apiKey(Instant.now().minusSeconds(1));
+        stubOwner(apiKey.getOwnerUserId(), UserStatus.ACTIVE);
+
+        assertNull(authenticator.authenticate(RAW_KEY));
+    }
+
+    @Test
+    public void suspendedOwner_ShouldBeRejected() {
+        ApiKeyEntity apiKey = apiKey(null);
+        stubOwner(apiKey.getOwnerUserId(), UserStatus.SUSPENDED);
+
+        assertNull(authenticator.authenticate(RAW_KEY));
+    }
+
+    @Test
+    public void permissionsTheOwnerLost_ShouldNotBeGranted() {
+        ApiKeyEntity apiKey = apiKey(null);
+        apiKey.setPermissions(List.of("reservation.READ", "folio.WRITE"));
+        stubOwner(apiKey.getOwnerUserId(), UserStatus.ACTIVE);
+
+        Authentication auth = authenticator.authenticate(RAW_KEY);
+
+        assertNotNull(auth);
+        assertEquals(List.of("reservation.READ"),
+                auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    public void unknownKey_ShouldBeRejected() {
+        when(apiKeyRepository.findByKeyHashAndRevokedAtIsNullAndDeletedAtIsNull(any())).thenReturn(Optional.empty());
+
+        assertNull(authenticator.authenticate("hk_unknown"));
+    }
+
+    private ApiKeyEntity apiKey(Instant expiresAt) {
+        ApiKeyEntity apiKey = new ApiKeyEntity();
+        apiKey.setName("channel-manager");
+        apiKey.setKeyHash(authenticator.hash(RAW_KEY));
+        apiKey.setPermissions(List.of("reservation.READ"));
+        apiKey.setOwnerUserId(UUID.randomUUID());
+        apiKey.setExpiresAt(expiresAt);
+        when(apiKeyRepository.findByKeyHashAndRevokedAtIsNullAndDeletedAtIsNull(authenticator.hash(RAW_KEY)))
+                .thenReturn(Optional.of(apiKey));
+        return apiKey;
+    }
+
+    private void stubOwner(UUID userId, UserStatus status) {
+        UserEntity user = new UserEntity();
+        user.setId(userId);
+        user.setStatus(status);
+        when(userRepository.findByIdAndDeletedAtIsNull(userId)).thenReturn(Optional.of(user));
+        when(authorizationRepository.findPermissionCodesByUserId(userId))
+                .thenReturn(List.of("reservation.READ", "reservation.WRITE"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.blockcode.hotel.auth.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class JwtAuthenticationCacheTest {
+
+    private static final Authentication AUTH = new UsernamePasswordAuthenticationToken("user", null, List.of());
+
+    @Test
+    public void expiredToken_ShouldNotBeServed() {
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(new JwtProperties());
+        cache.put("live", AUTH, System.currentTimeMillis() + 60_000);
+        cache.put("expired", AUTH, System.currentTimeMillis() - 1);
+
+        assertSame(AUTH, cache.get("live"));
+        assertNull(cache.get("expired"));
+    }
+
+    @Test
+    public void fullCache_ShouldEvictLeastRecentlyUsed() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAuthCacheMaxEntries(2);
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(properties);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        cache.put("a", AUTH, expiresAt);
+        cache.put("b", AUTH, expiresAt);
+        cache.get("a");
+        cache.put("c", AUTH, expiresAt);
+
+        assertSame(AUTH, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertSame(AUTH, cache.get("c"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoginThrottleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LoginThrottle throttle = new LoginThrottle(properties());
+
+    @Test
+    public void accountBurst_ShouldBeRejectedWithRetryAfter() {
+        throttle.check("10.0.0.1", "guest@example.com", 0);
+        throttle.check("10.0.0.2", "Guest@Example.com", 0);
+        throttle.check("10.0.0.3", "guest@example.com", 0);
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> throttle.check("10.0.0.4", "guest@example.com", 0));
+        assertEquals(30, ex.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> throttle.check("10.0.0.4", "guest@example.com", 30 * SECOND));
+    }
+
+    @Test
+    public void ipBurst_ShouldBeRejectedAcrossAccounts() {
+        for (int i = 0; i < 10; i++) {
+            throttle.check("10.0.0.1", "user" + i + "@example.com", 0);
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.check("10.0.0.1", "other@example.com", 0));
+    }
+
+    @Test
+    public void successfulLogin_ShouldRefillAccountAndIdleBucketsShouldBeSwept() {
+        throttle.check("10.0.0.1", "staff@example.com", 0);
+        throttle.check("10.0.0.1", "staff@example.com", 0);
+        throttle.onSuccess("staff@example.com");
+        throttle.check("10.0.0.1", "staff@example.com", 0);
+        throttle.check("10.0.0.1", "staff@example.com", 0);
+        throttle.check("10.0.0.1", "staff@example.com", 0);
+
+        throttle.sweep(60 * SECOND);
+        assertEquals(1, throttle.size());
+        throttle.sweep(90 * SECOND);
+        assertEquals(0, throttle.size());
+    }
+
+    private static LoginThrottleProperties properties() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.setIpCapacity(10);
+        properties.setIpRefillPeriod(Duration.ofSeconds(1));
+        properties.setAccountCapacity(3);
+        properties.setAccountRefillPeriod(Duration.ofSeconds(30));
+        return properties;
+    }
+}
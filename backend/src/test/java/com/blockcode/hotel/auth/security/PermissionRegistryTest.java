@@ -0,0 +1,61 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.auth.application.AuthorizationChangedEvent;
+import com.blockcode.hotel.auth.infra.PermissionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PermissionRegistryTest {
+
+    private final PermissionRepository permissionRepository = mock(PermissionRepository.class);
+    private final PermissionRegistry registry = new PermissionRegistry(permissionRepository);
+
+    @Test
+    public void encodedPermissions_ShouldDecodeToSameCodes() {
+        when(permissionRepository.findActiveBitIndexes()).thenReturn(rows(
+                new Object[] {0, "report.READ"},
+                new Object[] {1, "reservation.WRITE"},
+                new Object[] {70, "rbac.ADMIN"}));
+
+        PermissionRegistry.Encoded encoded = registry.encode(List.of("report.READ", "rbac.ADMIN", "customer.BOOK"));
+        List<GrantedAuthority> authorities = registry.decode(encoded.value());
+
+        assertEquals(List.of("report.READ", "rbac.ADMIN"),
+                authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        assertEquals(List.of("customer.BOOK"), encoded.unencoded());
+        assertSame(authorities, registry.decode(encoded.value()));
+    }
+
+    @Test
+    public void deletedPermission_ShouldBeDroppedOnDecode() {
+        when(permissionRepository.findActiveBitIndexes())
+                .thenReturn(rows(new Object[] {0, "report.READ"}, new Object[] {1, "reservation.WRITE"}))
+                .thenReturn(rows(new Object[] {0, "report.READ"}));
+
+        String value = registry.encode(List.of("report.READ", "reservation.WRITE")).value();
+        registry.onAuthorizationChanged(AuthorizationChangedEvent.permissions());
+
+        assertEquals(List.of("report.READ"),
+                registry.decode(value).stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    public void noKnownPermissions_ShouldProduceNoBitset() {
+        when(permissionRepository.findActiveBitIndexes()).thenReturn(rows(new Object[] {0, "report.READ"}));
+
+        assertNull(registry.encode(List.of("customer.BOOK")).value());
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,80 @@
+package com.blockcode.hotel.auth.security;
+
+import com.blockcode.hotel.auth.domain.TokenRevocationEntity;
+import com.blockcode.hotel.auth.domain.TokenRevocationScope;
+import com.blockcode.hotel.auth.infra.TokenRevocationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenRevocationListTest {
+
+    private final TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+    private final TokenRevocationList revocationList = new TokenRevocationList(repository, new JwtProperties());
+
+    @Test
+    public void tokenNotInFilter_ShouldNotHitDatabase() {
+        when(repository.findActiveTargets(any())).thenReturn(new ArrayList<>());
+
+        assertFalse(revocationList.isRevoked(authentication(UUID.randomUUID(), UUID.randomUUID(), Instant.now())));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    public void revokedToken_ShouldBeRejected() {
+        UUID tokenId = UUID.randomUUID();
+        when(repository.findActiveTargets(any())).thenReturn(new ArrayList<>());
+        when(repository.findById(tokenId)).thenReturn(Optional.of(
+                revocation(tokenId, TokenRevocationScope.TOKEN, Instant.now())));
+
+        revocationList.revokeToken(tokenId, Instant.now().plusSeconds(600), "LOGOUT");
+
+        assertTrue(revocationList.isRevoked(authentication(UUID.randomUUID(), tokenId, Instant.now())));
+    }
+
+    @Test
+    public void revokedSubject_ShouldOnlyRejectTokensIssuedBeforeRevocation() {
+        UUID subjectId = UUID.randomUUID();
+        Instant revokedAt = Instant.now();
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {subjectId, "SUBJECT"});
+        when(repository.findActiveTargets(any())).thenReturn(rows);
+        when(repository.findById(subjectId)).thenReturn(Optional.of(
+                revocation(subjectId, TokenRevocationScope.SUBJECT, revokedAt)));
+
+        assertTrue(revocationList.isRevoked(
+                authentication(subjectId, UUID.randomUUID(), revokedAt.minusSeconds(60))));
+        assertFalse(revocationList.isRevoked(
+                authentication(subjectId, UUID.randomUUID(), revokedAt.plusSeconds(5))));
+    }
+
+    private static Authentication authentication(UUID subjectId, UUID tokenId, Instant issuedAt) {
+        UsernamePasswordAuthenticationToken auth =
+                new UsernamePasswordAuthenticationToken(subjectId.toString(), null, List.of());
+        auth.setDetails(new JwtTokenDetails(subjectId, tokenId, issuedAt, issuedAt.plusSeconds(1800)));
+        return auth;
+    }
+
+    private static TokenRevocationEntity revocation(UUID targetId, TokenRevocationScope scope, Instant revokedAt) {
+        TokenRevocationEntity entity = new TokenRevocationEntity();
+        entity.setTargetId(targetId);
+        entity.setScope(scope);
+        entity.setRevokedAt(revokedAt);
+        entity.setExpiresAt(revokedAt.plusSeconds(1800));
+        return entity;
+    }
+}
@@ -0,0 +1,86 @@
+package com.blockcode.hotel.common.partition;
+
+import com.blockcode.hotel.common.exception.AppException;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PartitionMaintenanceServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PartitionProperties properties = new PartitionProperties();
+    private final PartitionMaintenanceService service = new PartitionMaintenanceService(jdbcTemplate, properties);
+
+    @Test
+    public void ensurePartitions_ShouldCreateEachTableUpToItsHorizon() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any(), any())).thenReturn(1);
+
+        assertEquals(2, service.ensurePartitions());
+
+        verify(jdbcTemplate).queryForObject("select ensure_monthly_partitions(?, ?, ?)", Integer.class,
+                "audit_logs", today, today.plusMonths(3));
+        verify(jdbcTemplate).queryForObject("select ensure_monthly_partitions(?, ?, ?)", Integer.class,
+                "reservation_nights", today, today.plusMonths(36));
+    }
+
+    @Test
+    public void reservationNightsHorizon_ShouldExcludeTheMonthTheNextRunMayCreate() {
+        properties.setReservationNightsMonthsAhead(12);
+
+        assertEquals(YearMonth.now(ZoneOffset.UTC).plusMonths(12).atDay(1), service.reservationNightsHorizon());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void detachPastAuditMonth_ShouldDetachConcurrently() {
+        YearMonth month = YearMonth.now(ZoneOffset.UTC).minusMonths(13);
+        String partition = "audit_logs_p" + month.getYear() + "_" + String.format("%02d", month.getMonthValue());
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("audit_logs")))
+                .thenReturn(List.of(new PartitionResponse("audit_logs", partition, "")));
+
+        service.detach("audit_logs", month);
+
+        verify(jdbcTemplate).execute("alter table audit_logs detach partition " + partition + " concurrently");
+    }
+
+    @Test
+    public void detachReservationNights_ShouldBeRejected() {
+        AppException ex = assertThrows(AppException.class,
+                () -> service.detach("reservation_nights", YearMonth.now(ZoneOffset.UTC).minusYears(2)));
+
+        assertEquals("PARTITION_NOT_DETACHABLE", ex.getCode());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void detachCurrentMonth_ShouldBeRejected() {
+        AppException ex = assertThrows(AppException.class,
+                () -> service.detach("audit_logs", YearMonth.now(ZoneOffset.UTC)));
+
+        assertEquals("PARTITION_IN_USE", ex.getCode());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void unknownTable_ShouldBeNotFound() {
+        AppException ex = assertThrows(AppException.class, () -> service.list("reservations"));
+
+        assertEquals("NOT_FOUND", ex.getCode());
+    }
+}
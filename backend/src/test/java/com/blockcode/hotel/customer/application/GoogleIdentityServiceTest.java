@@ -0,0 +1,83 @@
+package com.blockcode.hotel.customer.application;
+
+import com.blockcode.hotel.common.exception.AppException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GoogleIdentityServiceTest {
+
+    private static final String CLIENT_ID = "client-123.apps.googleusercontent.com";
+
+    private final KeyPair currentKey = Jwts.SIG.RS256.keyPair().build();
+    private final Map<String, PublicKey> publishedKeys = new HashMap<>(Map.of("k1", currentKey.getPublic()));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final GoogleIdentityService service = new GoogleIdentityService(
+            new GoogleSigningKeyCache(() -> {
+                loads.incrementAndGet();
+                return new GoogleSigningKeys(Map.copyOf(publishedKeys), Duration.ofHours(6));
+            }),
+            properties());
+
+    @Test
+    public void validToken_ShouldVerifyLocallyWithCachedKeys() {
+        GoogleIdentityPayload first = service.verify(token("k1", currentKey, CLIENT_ID, Instant.now().plusSeconds(300)));
+        service.verify(token("k1", currentKey, CLIENT_ID, Instant.now().plusSeconds(300)));
+
+        assertEquals("google-sub-1", first.subject());
+        assertEquals("guest@example.com", first.email());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void wrongAudienceOrExpiredToken_ShouldBeRejected() {
+        AppException audience = assertThrows(AppException.class,
+                () -> service.verify(token("k1", currentKey, "other-client", Instant.now().plusSeconds(300))));
+        AppException expired = assertThrows(AppException.class,
+                () -> service.verify(token("k1", currentKey, CLIENT_ID, Instant.now().minusSeconds(10))));
+
+        assertEquals("INVALID_GOOGLE_TOKEN", audience.getCode());
+        assertEquals("GOOGLE_TOKEN_EXPIRED", expired.getCode());
+    }
+
+    @Test
+    public void tokenSignedByUnpublishedKey_ShouldBeRejected() {
+        KeyPair forged = Jwts.SIG.RS256.keyPair().build();
+
+        AppException ex = assertThrows(AppException.class,
+                () -> service.verify(token("k1", forged, CLIENT_ID, Instant.now().plusSeconds(300))));
+        assertEquals("INVALID_GOOGLE_TOKEN", ex.getCode());
+    }
+
+    private static String token(String kid, KeyPair key, String audience, Instant expiresAt) {
+        return Jwts.builder()
+                .header().keyId(kid).and()
+                .issuer("https://accounts.google.com")
+                .audience().add(audience).and()
+                .subject("google-sub-1")
+                .issuedAt(Date.from(expiresAt.minusSeconds(3600)))
+                .expiration(Date.from(expiresAt))
+                .claim("email", "guest@example.com")
+                .claim("email_verified", true)
+                .claim("given_name", "Ada")
+                .signWith(key.getPrivate())
+                .compact();
+    }
+
+    private static GoogleOAuthProperties properties() {
+        GoogleOAuthProperties properties = new GoogleOAuthProperties();
+        properties.setClientId(CLIENT_ID);
+        return properties;
+    }
+}
@@ -0,0 +1,267 @@
+package com.blockcode.hotel.finance.application;
+
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import com.blockcode.hotel.finance.api.dto.PosChargeBatchRequest;
+import com.blockcode.hotel.finance.api.dto.PosChargeBatchResponse;
+import com.blockcode.hotel.finance.api.dto.PosChargeGroupRequest;
+import com.blockcode.hotel.finance.api.dto.PosChargeLineRequest;
+import com.blockcode.hotel.finance.api.dto.RefundCreateRequest;
+import com.blockcode.hotel.finance.domain.FolioEntity;
+import com.blockcode.hotel.finance.domain.FolioItemEntity;
+import com.blockcode.hotel.finance.domain.FolioItemSource;
+import com.blockcode.hotel.finance.domain.FolioItemType;
+import com.blockcode.hotel.finance.domain.FolioStatus;
+import com.blockcode.hotel.finance.domain.PaymentEntity;
+import com.blockcode.hotel.finance.domain.PaymentStatus;
+import com.blockcode.hotel.finance.infra.DailyRevenueRepository;
+import com.blockcode.hotel.finance.infra.FolioItemRepository;
+import com.blockcode.hotel.finance.infra.FolioRepository;
+import com.blockcode.hotel.finance.infra.PaymentRepository;
+import com.blockcode.hotel.finance.infra.RefundRepository;
+import com.blockcode.hotel.pricing.domain.TaxFeeEntity;
+import com.blockcode.hotel.pricing.domain.TaxFeeType;
+import com.blockcode.hotel.pricing.infra.TaxFeeRepository;
+import com.blockcode.hotel.reservation.application.NightlyCharge;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FolioServiceTest {
+
+    private static final UUID RESERVATION_ID = UUID.randomUUID();
+    private static final UUID PROPERTY_ID = UUID.randomUUID();
+
+    private final FolioRepository folioRepository = mock(FolioRepository.class);
+    private final FolioItemRepository folioItemRepository = mock(FolioItemRepository.class);
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final RefundRepository refundRepository = mock(RefundRepository.class);
+    private final TaxFeeRepository taxFeeRepository = mock(TaxFeeRepository.class);
+    private final CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+    private final FolioService folioService = new FolioService(
+            folioRepository,
+            folioItemRepository,
+            paymentRepository,
+            refundRepository,
+            mock(DailyRevenueRepository.class),
+            taxFeeRepository,
+            currentUserProvider,
+            new FolioPostingProperties(),
+            mock(ApplicationEventPublisher.class));
+
+    private final FolioEntity folio = new FolioEntity();
+    private final List<FolioItemEntity> items = new ArrayList<>();
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        folio.setId(UUID.randomUUID());
+        folio.setReservationId(RESERVATION_ID);
+        when(folioRepository.findByReservationIdAndDeletedAtIsNull(RESERVATION_ID)).thenReturn(Optional.of(folio));
+        when(folioRepository.applyDelta(any(), any(), any())).thenAnswer(invocation -> {
+            balance = balance.add(invocation.getArgument(1)).subtract(invocation.getArgument(2));
+            return 1;
+        });
+        when(folioItemRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            for (FolioItemEntity item : (Iterable<FolioItemEntity>) invocation.getArgument(0)) {
+                if (!items.contains(item)) {
+                    items.add(item);
+                }
+            }
+            return List.of();
+        });
+        when(folioItemRepository.save(any())).thenAnswer(invocation -> {
+            items.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(folioItemRepository.findAllByFolioIdAndDeletedAtIsNullOrderByPostedAtDesc(any())).thenAnswer(
+                invocation -> items.stream().filter(item -> item.getDeletedAt() == null).toList());
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(UUID.randomUUID()));
+
+        TaxFeeEntity vat = new TaxFeeEntity();
+        vat.setName("VAT");
+        vat.setType(TaxFeeType.PERCENT);
+        vat.setValue(new BigDecimal("10"));
+        vat.setAppliesTo("ALL");
+        when(taxFeeRepository.findAllByPropertyIdAndActiveTrueAndDeletedAtIsNull(PROPERTY_ID)).thenReturn(List.of(vat));
+    }
+
+    @Test
+    public void cancellation_ShouldLeaveOnlyThePenaltyOnTheFolio() {
+        LocalDate checkIn = LocalDate.of(2026, 11, 2);
+        folioService.postReservationCharges(RESERVATION_ID, PROPERTY_ID, List.of(
+                new NightlyCharge(checkIn, new BigDecimal("100"), "USD"),
+                new NightlyCharge(checkIn.plusDays(1), new BigDecimal("120"), "USD")));
+        assertEquals(new BigDecimal("242.00"), balance);
+
+        folioService.settleCancellation(RESERVATION_ID, new BigDecimal("100"), "Cancellation penalty");
+
+        assertEquals(new BigDecimal("100.00"), balance);
+        List<FolioItemEntity> remaining = items.stream().filter(item -> item.getDeletedAt() == null).toList();
+        assertEquals(1, remaining.size());
+        assertEquals(FolioItemType.FEE, remaining.get(0).getType());
+        assertEquals(new BigDecimal("100.00"), remaining.get(0).getAmount());
+    }
+
+    @Test
+    public void repeatedSettlement_ShouldNeverVoidThePenalty() {
+        folioService.postReservationCharges(RESERVATION_ID, PROPERTY_ID, List.of(
+                new NightlyCharge(LocalDate.of(2026, 11, 2), new BigDecimal("100"), "USD")));
+
+        folioService.settleCancellation(RESERVATION_ID, new BigDecimal("100"), "Cancellation penalty");
+        folioService.settleCancellation(RESERVATION_ID, BigDecimal.ZERO, "Cancellation penalty");
+
+        assertEquals(new BigDecimal("100.00"), balance);
+        List<FolioItemEntity> remaining = items.stream().filter(item -> item.getDeletedAt() == null).toList();
+        assertEquals(1, remaining.size());
+        assertEquals(FolioItemSource.CANCELLATION_PENALTY, remaining.get(0).getSource());
+    }
+
+    @Test
+    public void freeCancellation_ShouldClearTheFolioButKeepStaffPostings() {
+        folioService.postReservationCharges(RESERVATION_ID, PROPERTY_ID, List.of(
+                new NightlyCharge(LocalDate.of(2026, 11, 2), new BigDecimal("100"), "USD")));
+        FolioItemEntity minibar = new FolioItemEntity();
+        minibar.setType(FolioItemType.SERVICE);
+        minibar.setAmount(new BigDecimal("15.00"));
+        minibar.setPostedBy(UUID.randomUUID());
+        items.add(minibar);
+        balance = balance.add(minibar.getAmount());
+
+        folioService.settleCancellation(RESERVATION_ID, BigDecimal.ZERO, "Cancellation penalty");
+
+        assertEquals(new BigDecimal("15.00"), balance);
+    }
+
+    @Test
+    public void closedFolio_ShouldBeLeftUntouchedWithoutFailingTheCancel() {
+        folio.setStatus(FolioStatus.CLOSED);
+
+        folioService.settleCancellation(RESERVATION_ID, new BigDecimal("100"), "Cancellation penalty");
+
+        verify(folioRepository, never()).applyDelta(any(), any(), any());
+        verify(folioItemRepository, never()).save(any());
+    }
+
+    @Test
+    public void posChargeForReservationNotCheckedIn_ShouldBeRejected() {
+        stubPosTarget("CONFIRMED");
+
+        PosChargeBatchResponse response = folioService.ingestPosCharges(posBatch(BigDecimal.ONE));
+
+        assertEquals(0, response.posted());
+        assertEquals("RESERVATION_NOT_CHECKED_IN", response.results().get(0).errorCode());
+        verify(folioRepository, never()).applyDelta(any(), any(), any());
+    }
+
+    @Test
+    public void posChargeWithZeroQuantity_ShouldBeRejected() {
+        stubPosTarget("CHECKED_IN");
+
+        PosChargeBatchResponse response = folioService.ingestPosCharges(posBatch(BigDecimal.ZERO));
+
+        assertEquals(0, response.posted());
+        assertEquals("INVALID_AMOUNT", response.results().get(0).errorCode());
+    }
+
+    @Test
+    public void posChargeForCheckedInReservation_ShouldPost() {
+        stubPosTarget("CHECKED_IN");
+
+        PosChargeBatchResponse response = folioService.ingestPosCharges(posBatch(new BigDecimal("2")));
+
+        assertEquals(1, response.posted());
+        assertEquals(new BigDecimal("9.00"), response.postedAmount());
+        assertEquals(new BigDecimal("9.00"), balance);
+    }
+
+    @Test
+    public void posBatchOverTheLineLimit_ShouldBeRejectedWithBadRequest() {
+        PosChargeLineRequest line =
+                new PosChargeLineRequest(FolioItemType.SERVICE, "Minibar", BigDecimal.ONE, new BigDecimal("4.50"));
+        List<PosChargeGroupRequest> groups = new ArrayList<>();
+        for (int i = 0; i <= FolioService.MAX_POS_LINES / 100; i++) {
+            groups.add(new PosChargeGroupRequest("RSV-" + i, null, Collections.nCopies(100, line)));
+        }
+        PosChargeBatchRequest request = new PosChargeBatchRequest(PROPERTY_ID, groups);
+
+        AppException ex = assertThrows(AppException.class, () -> folioService.ingestPosCharges(request));
+
+        assertEquals("TOO_MANY_LINES", ex.getCode());
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+        verify(folioRepository, never()).resolvePosTargets(any(), anyCollection(), anyCollection());
+    }
+
+    @Test
+    public void refund_ShouldLockTheFolioBeforeReadingEarlierRefunds() {
+        PaymentEntity payment = stubPayment();
+        when(refundRepository.sumRefundedByPaymentId(payment.getId())).thenReturn(new BigDecimal("30.00"));
+
+        folioService.refundPayment(folio.getId(), payment.getId(), new RefundCreateRequest(new BigDecimal("20"), null));
+
+        InOrder order = inOrder(folioRepository, refundRepository);
+        order.verify(folioRepository).findByIdForUpdate(folio.getId());
+        order.verify(refundRepository).sumRefundedByPaymentId(payment.getId());
+        order.verify(folioRepository).applyDelta(folio.getId(), BigDecimal.ZERO, new BigDecimal("-20.00"));
+    }
+
+    @Test
+    public void refundBeyondPayment_ShouldBeRejected() {
+        PaymentEntity payment = stubPayment();
+        when(refundRepository.sumRefundedByPaymentId(payment.getId())).thenReturn(new BigDecimal("40.00"));
+        RefundCreateRequest request = new RefundCreateRequest(new BigDecimal("20"), null);
+
+        AppException ex = assertThrows(AppException.class,
+                () -> folioService.refundPayment(folio.getId(), payment.getId(), request));
+
+        assertEquals("REFUND_EXCEEDS_PAYMENT", ex.getCode());
+        verify(refundRepository, never()).saveAndFlush(any());
+    }
+
+    private PaymentEntity stubPayment() {
+        PaymentEntity payment = new PaymentEntity();
+        payment.setId(UUID.randomUUID());
+        payment.setFolioId(folio.getId());
+        payment.setAmount(new BigDecimal("50.00"));
+        payment.setStatus(PaymentStatus.CAPTURED);
+        when(folioRepository.findByIdForUpdate(folio.getId())).thenReturn(Optional.of(folio));
+        when(paymentRepository.findByIdAndDeletedAtIsNull(payment.getId())).thenReturn(Optional.of(payment));
+        return payment;
+    }
+
+    private void stubPosTarget(String reservationStatus) {
+        List<Object[]> rows = List.<Object[]>of(
+                new Object[] {"CODE", "RSV-1", folio.getId(), "OPEN", reservationStatus});
+        when(folioRepository.resolvePosTargets(eq(PROPERTY_ID), anyCollection(), anyCollection())).thenReturn(rows);
+    }
+
+    private PosChargeBatchRequest posBatch(BigDecimal qty) {
+        PosChargeLineRequest line =
+                new PosChargeLineRequest(FolioItemType.SERVICE, "Minibar", qty, new BigDecimal("4.50"));
+        return new PosChargeBatchRequest(PROPERTY_ID,
+                List.of(new PosChargeGroupRequest("RSV-1", null, List.of(line))));
+    }
+}
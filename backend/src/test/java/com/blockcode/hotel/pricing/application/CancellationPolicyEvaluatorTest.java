@@ -0,0 +1,59 @@
+package com.blockcode.hotel.pricing.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CancellationPolicyEvaluatorTest {
+
+    private static final Instant ARRIVAL = Instant.parse("2026-12-31T07:00:00Z");
+    private static final List<BigDecimal> NIGHTS = List.of(new BigDecimal("100.00"), new BigDecimal("120.00"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void flexiblePolicy_ShouldChargeOneNightInsideWindow() throws Exception {
+        CancellationPolicyEvaluator evaluator = compile("{\"type\":\"FLEXIBLE\",\"hours\":24,\"penalty\":\"one_night\"}");
+
+        assertEquals(BigDecimal.ZERO, evaluator.penalty(ARRIVAL.minus(Duration.ofHours(25)), ARRIVAL, NIGHTS));
+        assertEquals(new BigDecimal("100.00"), evaluator.penalty(ARRIVAL.minus(Duration.ofHours(2)), ARRIVAL, NIGHTS));
+        assertEquals(ARRIVAL.minus(Duration.ofHours(24)), evaluator.freeCancellationUntil(ARRIVAL));
+    }
+
+    @Test
+    public void tieredPolicy_ShouldApplyTightestWindow() throws Exception {
+        CancellationPolicyEvaluator evaluator = compile("{\"tiers\":["
+            + "{\"hoursBefore\":72,\"penaltyType\":\"PERCENT\",\"penaltyValue\":50},"
+            + "{\"hoursBefore\":24,\"penalty\":\"full_stay\"}]}");
+
+        assertEquals(new BigDecimal("110.00"), evaluator.penalty(ARRIVAL.minus(Duration.ofHours(48)), ARRIVAL, NIGHTS));
+        assertEquals(new BigDecimal("220.00"), evaluator.penalty(ARRIVAL.minus(Duration.ofHours(1)), ARRIVAL, NIGHTS));
+        assertEquals(ARRIVAL.minus(Duration.ofHours(72)), evaluator.freeCancellationUntil(ARRIVAL));
+    }
+
+    @Test
+    public void nonRefundablePolicy_ShouldHaveNoFreeWindow() throws Exception {
+        CancellationPolicyEvaluator evaluator = compile("{\"type\":\"NON_REFUNDABLE\"}");
+
+        assertNull(evaluator.freeCancellationUntil(ARRIVAL));
+        assertEquals(new BigDecimal("220.00"), evaluator.penalty(ARRIVAL.minus(Duration.ofDays(90)), ARRIVAL, NIGHTS));
+    }
+
+    @Test
+    public void unknownPenalty_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> compile("{\"type\":\"FLEXIBLE\",\"hours\":24,\"penalty\":\"two_goats\"}"));
+    }
+
+    private CancellationPolicyEvaluator compile(String rules) throws Exception {
+        return CancellationPolicyEvaluator.compile(objectMapper.readTree(rules));
+    }
+}
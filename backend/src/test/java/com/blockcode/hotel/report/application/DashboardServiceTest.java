@@ -0,0 +1,87 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.report.api.dto.DashboardResponse;
+import com.blockcode.hotel.report.api.dto.DashboardSectionResponse.Status;
+import com.blockcode.hotel.report.api.dto.HousekeepingBoardResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DashboardServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 12, 31);
+    private static final UUID PROPERTY_ID = UUID.randomUUID();
+
+    private final ReportService reportService = mock(ReportService.class);
+    private final DashboardProperties properties = new DashboardProperties();
+    private DashboardService dashboardService;
+
+    @AfterEach
+    public void tearDown() {
+        if (dashboardService != null) {
+            dashboardService.shutdown();
+        }
+    }
+
+    @Test
+    public void allSections_ShouldCompleteWithinDeadline() {
+        when(reportService.getNewBookingsCount(DATE, PROPERTY_ID)).thenReturn(7L);
+
+        DashboardResponse response = dashboard().getDashboard(DATE, PROPERTY_ID);
+
+        assertTrue(response.complete());
+        assertEquals(Status.OK, response.newBookings().status());
+        assertEquals(7L, response.newBookings().data());
+        assertEquals(Status.OK, response.arrivals().status());
+    }
+
+    @Test
+    public void slowSection_ShouldTimeOutWithoutBlockingOthers() {
+        properties.setTimeout(Duration.ofMillis(200));
+        when(reportService.getHousekeepingBoard(any())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return new HousekeepingBoardResponse(List.of(), List.of());
+        });
+
+        DashboardResponse response = dashboard().getDashboard(DATE, null);
+
+        assertFalse(response.complete());
+        assertEquals(Status.TIMEOUT, response.housekeeping().status());
+        assertNull(response.housekeeping().data());
+        assertEquals(Status.OK, response.departures().status());
+        assertTrue(response.elapsedMs() < 2000);
+    }
+
+    @Test
+    public void failingSection_ShouldBeReportedSeparately() {
+        when(reportService.getOccupancyReport(DATE, DATE, null)).thenThrow(new IllegalStateException("boom"));
+
+        DashboardResponse response = dashboard().getDashboard(DATE, null);
+
+        assertFalse(response.complete());
+        assertEquals(Status.FAILED, response.occupancy().status());
+        assertEquals(Status.OK, response.inHouse().status());
+    }
+
+    private DashboardService dashboard() {
+        ReportCacheProperties cacheProperties = new ReportCacheProperties();
+        cacheProperties.setEnabled(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dashboardService = new DashboardService(reportService, new ReportCache(cacheProperties, meterRegistry),
+                properties, meterRegistry);
+        return dashboardService;
+    }
+}
@@ -0,0 +1,57 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.common.event.DataChangedEvent;
+import com.blockcode.hotel.report.application.ReportCache.Report;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReportCacheTest {
+
+    private static final UUID PROPERTY = UUID.randomUUID();
+    private static final LocalDate FROM = LocalDate.of(2026, 12, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 12, 31);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReportCache cache = new ReportCache(new ReportCacheProperties(), meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void repeatedRequest_ShouldBeServedFromCache() {
+        load(Report.OCCUPANCY);
+        load(Report.OCCUPANCY);
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("reports.cache.requests")
+                .tag("report", "OCCUPANCY").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    public void overlappingChange_ShouldEvictEntry() {
+        load(Report.OCCUPANCY);
+        cache.onDataChanged(DataChangedEvent.reservations(PROPERTY, TO, TO.plusDays(3)));
+        load(Report.OCCUPANCY);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void unrelatedChange_ShouldKeepEntry() {
+        load(Report.OCCUPANCY);
+        cache.onDataChanged(DataChangedEvent.reservations(PROPERTY, TO.plusDays(1), TO.plusDays(3)));
+        cache.onDataChanged(DataChangedEvent.reservations(UUID.randomUUID(), FROM, TO));
+        cache.onDataChanged(DataChangedEvent.payments(PROPERTY, FROM, TO));
+        load(Report.OCCUPANCY);
+
+        assertEquals(1, loads.get());
+    }
+
+    private void load(Report report) {
+        cache.get(report, PROPERTY, FROM, TO, loads::incrementAndGet);
+    }
+}
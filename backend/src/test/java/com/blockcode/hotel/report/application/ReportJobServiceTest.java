@@ -0,0 +1,102 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import com.blockcode.hotel.report.domain.ReportFormat;
+import com.blockcode.hotel.report.domain.ReportJobEntity;
+import com.blockcode.hotel.report.domain.ReportType;
+import com.blockcode.hotel.report.infra.ReportJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReportJobServiceTest {
+
+    private static final UUID JOB_ID = UUID.randomUUID();
+
+    private final ReportJobRepository reportJobRepository = mock(ReportJobRepository.class);
+    private final ReportService reportService = mock(ReportService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReportJobService reportJobService = new ReportJobService(reportJobRepository, reportService,
+            new ReportJobProperties(), mock(CurrentUserProvider.class), objectMapper, mock(TaskExecutor.class));
+
+    @BeforeEach
+    public void setUp() {
+        ObjectNode params = objectMapper.createObjectNode();
+        params.put("fromDate", "2026-11-01");
+        params.put("toDate", "2026-11-30");
+        ReportJobEntity job = mock(ReportJobEntity.class);
+        when(job.getReportType()).thenReturn(ReportType.REVENUE);
+        when(job.getFormat()).thenReturn(ReportFormat.JSON);
+        when(job.getParams()).thenReturn(params);
+        when(reportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(reportJobRepository.claim(eq(JOB_ID), any())).thenReturn(1);
+        when(reportJobRepository.heartbeat(eq(JOB_ID), any())).thenReturn(1);
+        when(reportJobRepository.complete(eq(JOB_ID), any(), any(), anyInt(), any())).thenReturn(1);
+    }
+
+    @Test
+    public void runningJob_ShouldRefreshAndFinishUnderItsOwnLease() {
+        when(reportService.getRevenueReport(any(), any(), any())).thenAnswer(invocation -> {
+            reportJobService.heartbeat();
+            return List.of();
+        });
+
+        reportJobService.run(JOB_ID);
+
+        ArgumentCaptor<UUID> token = ArgumentCaptor.forClass(UUID.class);
+        verify(reportJobRepository).claim(eq(JOB_ID), token.capture());
+        verify(reportJobRepository).heartbeat(JOB_ID, token.getValue());
+        verify(reportJobRepository).complete(eq(JOB_ID), eq(token.getValue()), any(), eq(0), any());
+    }
+
+    @Test
+    public void finishedJob_ShouldNoLongerBeHeartbeated() {
+        when(reportService.getRevenueReport(any(), any(), any())).thenReturn(List.of());
+
+        reportJobService.run(JOB_ID);
+        reportJobService.heartbeat();
+
+        verify(reportJobRepository, never()).heartbeat(any(), any());
+    }
+
+    @Test
+    public void lostLease_ShouldStopHeartbeating() {
+        when(reportJobRepository.heartbeat(eq(JOB_ID), any())).thenReturn(0);
+        when(reportService.getRevenueReport(any(), any(), any())).thenAnswer(invocation -> {
+            reportJobService.heartbeat();
+            reportJobService.heartbeat();
+            return List.of();
+        });
+
+        reportJobService.run(JOB_ID);
+
+        verify(reportJobRepository, times(1)).heartbeat(eq(JOB_ID), any());
+    }
+
+    @Test
+    public void failedJob_ShouldBeFailedUnderItsOwnLease() {
+        when(reportService.getRevenueReport(any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        reportJobService.run(JOB_ID);
+
+        ArgumentCaptor<UUID> token = ArgumentCaptor.forClass(UUID.class);
+        verify(reportJobRepository).claim(eq(JOB_ID), token.capture());
+        verify(reportJobRepository).fail(eq(JOB_ID), eq(token.getValue()), eq("boom"), any());
+    }
+}
@@ -0,0 +1,116 @@
+package com.blockcode.hotel.report.application;
+
+import com.blockcode.hotel.finance.infra.DailyRevenueRepository;
+import com.blockcode.hotel.housekeeping.infra.HousekeepingTaskRepository;
+import com.blockcode.hotel.report.api.dto.PayrollReportResponse;
+import com.blockcode.hotel.reservation.infra.ReservationNightRepository;
+import com.blockcode.hotel.reservation.infra.ReservationRepository;
+import com.blockcode.hotel.room.infra.RoomRepository;
+import com.blockcode.hotel.room.infra.RoomTypeRepository;
+import com.blockcode.hotel.timesheet.infra.EmployeeTimesheetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReportServiceTest {
+
+    // Monday; the defaults are 480 minutes a day, 2400 regular minutes an ISO week and 1.5x overtime.
+    private static final LocalDate MONDAY = LocalDate.of(2026, 11, 2);
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+
+    private final EmployeeTimesheetRepository timesheetRepository = mock(EmployeeTimesheetRepository.class);
+    private final ReportService reportService = new ReportService(
+            mock(DailyRevenueRepository.class),
+            mock(RoomRepository.class),
+            mock(ReservationNightRepository.class),
+            mock(ReservationRepository.class),
+            mock(HousekeepingTaskRepository.class),
+            mock(RoomTypeRepository.class),
+            timesheetRepository,
+            new PayrollOvertimeProperties(),
+            mock(ApplicationEventPublisher.class));
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @Test
+    public void dayOverDailyThreshold_ShouldPayTheExcessAsOvertime() {
+        day(ALICE, MONDAY, 600);
+
+        PayrollReportResponse alice = payroll(MONDAY, MONDAY).get(0);
+
+        assertEquals(480, alice.regularMinutes());
+        assertEquals(120, alice.overtimeMinutes());
+        assertEquals(new BigDecimal("160.00"), alice.regularPay());
+        assertEquals(new BigDecimal("60.00"), alice.overtimePay());
+        assertEquals(new BigDecimal("220.00"), alice.totalPay());
+    }
+
+    @Test
+    public void weekOverWeeklyThreshold_ShouldCountOnlyRegularMinutesTowardsIt() {
+        // 540 minutes Monday to Friday: 60 daily overtime each, 480 regular each, so the week is exactly full.
+        for (int i = 0; i < 5; i++) {
+            day(ALICE, MONDAY.plusDays(i), 540);
+        }
+        day(ALICE, MONDAY.plusDays(5), 300);
+
+        PayrollReportResponse alice = payroll(MONDAY, MONDAY.plusDays(6)).get(0);
+
+        assertEquals(2400, alice.regularMinutes());
+        assertEquals(5 * 60 + 300, alice.overtimeMinutes());
+        assertEquals(3000, alice.totalMinutes());
+    }
+
+    @Test
+    public void newIsoWeek_ShouldResetTheWeeklyTotal() {
+        // The range starts on a Thursday, so only the part of that week inside the range counts.
+        LocalDate thursday = MONDAY.plusDays(3);
+        for (int i = 0; i < 6; i++) {
+            day(ALICE, thursday.plusDays(i), 480);
+        }
+
+        PayrollReportResponse alice = payroll(thursday, thursday.plusDays(6)).get(0);
+
+        assertEquals(6 * 480, alice.regularMinutes());
+        assertEquals(0, alice.overtimeMinutes());
+    }
+
+    @Test
+    public void severalEmployees_ShouldBeTotalledSeparately() {
+        for (int i = 0; i < 5; i++) {
+            day(ALICE, MONDAY.plusDays(i), 480);
+        }
+        day(ALICE, MONDAY.plusDays(5), 60);
+        day(BOB, MONDAY.plusDays(5), 480);
+
+        List<PayrollReportResponse> report = payroll(MONDAY, MONDAY.plusDays(6));
+
+        assertEquals(2, report.size());
+        assertEquals(ALICE, report.get(0).employeeId());
+        assertEquals(60, report.get(0).overtimeMinutes());
+        assertEquals(BOB, report.get(1).employeeId());
+        assertEquals("Bob Employee", report.get(1).employeeName());
+        assertEquals(480, report.get(1).regularMinutes());
+        assertEquals(0, report.get(1).overtimeMinutes());
+    }
+
+    private List<PayrollReportResponse> payroll(LocalDate fromDate, LocalDate toDate) {
+        when(timesheetRepository.streamDailyMinutes(fromDate, toDate, null)).thenReturn(rows.stream());
+        return reportService.getPayrollReport(fromDate, toDate, null);
+    }
+
+    private void day(UUID employeeId, LocalDate workDate, long minutes) {
+        String firstName = employeeId.equals(ALICE) ? "Alice" : "Bob";
+        rows.add(new Object[] {employeeId, firstName, "Employee", "Front desk", "Rooms", new BigDecimal("20.00"),
+                workDate, minutes});
+    }
+}
@@ -0,0 +1,229 @@
+package com.blockcode.hotel.reservation.application;
+
+import com.blockcode.hotel.audit.application.AuditService;
+import com.blockcode.hotel.common.exception.AppException;
+import com.blockcode.hotel.common.partition.PartitionMaintenanceService;
+import com.blockcode.hotel.common.security.CurrentUserProvider;
+import com.blockcode.hotel.finance.application.FolioPostingProperties;
+import com.blockcode.hotel.finance.application.FolioService;
+import com.blockcode.hotel.finance.domain.FolioEntity;
+import com.blockcode.hotel.finance.domain.FolioItemEntity;
+import com.blockcode.hotel.finance.domain.FolioItemSource;
+import com.blockcode.hotel.finance.domain.FolioItemType;
+import com.blockcode.hotel.finance.infra.DailyRevenueRepository;
+import com.blockcode.hotel.finance.infra.FolioItemRepository;
+import com.blockcode.hotel.finance.infra.FolioRepository;
+import com.blockcode.hotel.finance.infra.PaymentRepository;
+import com.blockcode.hotel.finance.infra.RefundRepository;
+import com.blockcode.hotel.guest.infra.GuestRepository;
+import com.blockcode.hotel.pricing.application.CancellationPolicyEngine;
+import com.blockcode.hotel.pricing.application.CancellationPolicyEvaluator;
+import com.blockcode.hotel.pricing.application.RatePlanPriceService;
+import com.blockcode.hotel.pricing.domain.RatePlanEntity;
+import com.blockcode.hotel.pricing.infra.RatePlanRepository;
+import com.blockcode.hotel.pricing.infra.TaxFeeRepository;
+import com.blockcode.hotel.property.infra.PropertyRepository;
+import com.blockcode.hotel.reservation.api.dto.ReservationCreateRequest;
+import com.blockcode.hotel.reservation.domain.ReservationEntity;
+import com.blockcode.hotel.reservation.domain.ReservationRoomEntity;
+import com.blockcode.hotel.reservation.domain.ReservationStatus;
+import com.blockcode.hotel.reservation.infra.ReservationNightRepository;
+import com.blockcode.hotel.reservation.infra.ReservationRepository;
+import com.blockcode.hotel.reservation.infra.ReservationRoomRepository;
+import com.blockcode.hotel.reservation.infra.ReservationTypeNightRepository;
+import com.blockcode.hotel.room.infra.RoomRepository;
+import com.blockcode.hotel.room.infra.RoomTypeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReservationServiceTest {
+
+    private static final LocalDate HORIZON = LocalDate.of(2029, 11, 1);
+
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final GuestRepository guestRepository = mock(GuestRepository.class);
+    private final ReservationRoomRepository reservationRoomRepository = mock(ReservationRoomRepository.class);
+    private final FolioRepository folioRepository = mock(FolioRepository.class);
+    private final FolioItemRepository folioItemRepository = mock(FolioItemRepository.class);
+    private final RatePlanRepository ratePlanRepository = mock(RatePlanRepository.class);
+    private final CancellationPolicyEngine cancellationPolicyEngine = mock(CancellationPolicyEngine.class);
+    private final PartitionMaintenanceService partitionMaintenanceService = mock(PartitionMaintenanceService.class);
+    private final FolioService folioService = new FolioService(
+            folioRepository,
+            folioItemRepository,
+            mock(PaymentRepository.class),
+            mock(RefundRepository.class),
+            mock(DailyRevenueRepository.class),
+            mock(TaxFeeRepository.class),
+            mock(CurrentUserProvider.class),
+            new FolioPostingProperties(),
+            mock(ApplicationEventPublisher.class));
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ReservationService reservationService = new ReservationService(
+            reservationRepository,
+            reservationRoomRepository,
+            mock(ReservationNightRepository.class),
+            mock(ReservationTypeNightRepository.class),
+            folioRepository,
+            folioService,
+            guestRepository,
+            ratePlanRepository,
+            mock(RatePlanPriceService.class),
+            mock(RoomRepository.class),
+            mock(RoomTypeRepository.class),
+            mock(PropertyRepository.class),
+            cancellationPolicyEngine,
+            objectMapper,
+            mock(AuditService.class),
+            partitionMaintenanceService,
+            mock(ApplicationEventPublisher.class));
+
+    private final FolioEntity folio = new FolioEntity();
+    private final List<FolioItemEntity> items = new ArrayList<>();
+    private BigDecimal balance = BigDecimal.ZERO;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(partitionMaintenanceService.reservationNightsHorizon()).thenReturn(HORIZON);
+
+        folio.setId(UUID.randomUUID());
+        when(folioRepository.applyDelta(any(), any(), any())).thenAnswer(invocation -> {
+            balance = balance.add(invocation.getArgument(1)).subtract(invocation.getArgument(2));
+            return 1;
+        });
+        when(folioItemRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            for (FolioItemEntity item : (Iterable<FolioItemEntity>) invocation.getArgument(0)) {
+                if (!items.contains(item)) {
+                    items.add(item);
+                }
+            }
+            return List.of();
+        });
+        when(folioItemRepository.save(any())).thenAnswer(invocation -> {
+            items.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(folioItemRepository.findAllByFolioIdAndDeletedAtIsNullOrderByPostedAtDesc(folio.getId())).thenAnswer(
+                invocation -> items.stream().filter(item -> item.getDeletedAt() == null).toList());
+    }
+
+    @Test
+    public void stayEndingPastHorizon_ShouldBeRejectedWithBadRequest() {
+        AppException ex = assertThrows(AppException.class,
+                () -> reservationService.create(request(HORIZON.minusDays(2), HORIZON.plusDays(1))));
+
+        assertEquals("DATES_BEYOND_HORIZON", ex.getCode());
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    public void stayEndingOnHorizon_ShouldPassTheHorizonCheck() {
+        // The last night is the day before the horizon, so validation moves on to the guest lookup.
+        AppException ex = assertThrows(AppException.class,
+                () -> reservationService.create(request(HORIZON.minusDays(2), HORIZON)));
+
+        assertEquals("GUEST_NOT_FOUND", ex.getCode());
+    }
+
+    @Test
+    public void cancellingTwice_ShouldKeepThePenaltyOnTheFolio() {
+        ReservationEntity reservation = stubNonRefundableStay(ReservationStatus.CONFIRMED, "100", "120");
+
+        reservationService.cancel(reservation.getId());
+        assertEquals(new BigDecimal("220.00"), balance);
+
+        AppException ex = assertThrows(AppException.class, () -> reservationService.cancel(reservation.getId()));
+
+        assertEquals("RESERVATION_NOT_CANCELLABLE", ex.getCode());
+        assertEquals(HttpStatus.CONFLICT, ex.getStatus());
+        assertEquals(new BigDecimal("220.00"), balance);
+        List<FolioItemEntity> remaining = items.stream().filter(item -> item.getDeletedAt() == null).toList();
+        assertEquals(1, remaining.size());
+        assertEquals(FolioItemSource.CANCELLATION_PENALTY, remaining.get(0).getSource());
+    }
+
+    @Test
+    public void checkedInStay_ShouldNotBeCancelled() {
+        ReservationEntity reservation = stubNonRefundableStay(ReservationStatus.CHECKED_IN, "100", "120");
+
+        AppException ex = assertThrows(AppException.class, () -> reservationService.cancel(reservation.getId()));
+
+        assertEquals("RESERVATION_NOT_CANCELLABLE", ex.getCode());
+        assertEquals(new BigDecimal("242.00"), balance);
+        verify(reservationRepository, never()).save(any());
+    }
+
+    private ReservationEntity stubNonRefundableStay(ReservationStatus status, String... nightlyPrices) {
+        ReservationEntity reservation = new ReservationEntity();
+        reservation.setId(UUID.randomUUID());
+        reservation.setPropertyId(UUID.randomUUID());
+        reservation.setStatus(status);
+        reservation.setCheckInDate(LocalDate.of(2026, 11, 2));
+        reservation.setCheckOutDate(reservation.getCheckInDate().plusDays(nightlyPrices.length));
+        when(reservationRepository.findByIdAndDeletedAtIsNull(reservation.getId())).thenReturn(Optional.of(reservation));
+        folio.setReservationId(reservation.getId());
+        when(folioRepository.findByReservationIdAndDeletedAtIsNull(reservation.getId())).thenReturn(Optional.of(folio));
+
+        RatePlanEntity ratePlan = new RatePlanEntity();
+        ratePlan.setId(UUID.randomUUID());
+        when(ratePlanRepository.findById(ratePlan.getId())).thenReturn(Optional.of(ratePlan));
+        when(cancellationPolicyEngine.forRatePlan(ratePlan)).thenReturn(CancellationPolicyEvaluator.NON_REFUNDABLE);
+        when(cancellationPolicyEngine.arrivalInstant(any(), any(), any())).thenReturn(Instant.now());
+
+        ReservationRoomEntity room = new ReservationRoomEntity();
+        room.setId(UUID.randomUUID());
+        room.setReservationId(reservation.getId());
+        room.setRatePlanId(ratePlan.getId());
+        ArrayNode snapshot = objectMapper.createArrayNode();
+        for (String price : nightlyPrices) {
+            snapshot.addObject().put("price", new BigDecimal(price));
+        }
+        room.setNightlyRateSnapshot(snapshot);
+        when(reservationRoomRepository.findByReservationId(reservation.getId())).thenReturn(List.of(room));
+
+        // Nights and tax as postReservationCharges would have left them on the folio.
+        for (String price : nightlyPrices) {
+            items.add(posted(FolioItemType.ROOM_CHARGE, new BigDecimal(price)));
+        }
+        items.add(posted(FolioItemType.TAX, new BigDecimal("22.00")));
+        return reservation;
+    }
+
+    private FolioItemEntity posted(FolioItemType type, BigDecimal amount) {
+        FolioItemEntity item = new FolioItemEntity();
+        item.setFolioId(folio.getId());
+        item.setType(type);
+        item.setAmount(amount.setScale(2));
+        item.setSource(FolioItemSource.RESERVATION);
+        balance = balance.add(item.getAmount());
+        return item;
+    }
+
+    private ReservationCreateRequest request(LocalDate checkIn, LocalDate checkOut) {
+        return new ReservationCreateRequest(UUID.randomUUID(), UUID.randomUUID(), null, null, null, checkIn, checkOut,
+                2, 0, null, List.of());
+    }
+}
@@ -0,0 +1,41 @@
+-- Running folio totals maintained by FolioService, verified by the reconciliation job.
+
+ALTER TABLE folios
+  ADD COLUMN IF NOT EXISTS total_charges  numeric(12,2) NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS total_payments numeric(12,2) NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS balance        numeric(12,2) NOT NULL DEFAULT 0;
+
+WITH charges AS (
+  SELECT folio_id, SUM(amount) AS total
+  FROM folio_items
+  WHERE deleted_at IS NULL
+  GROUP BY folio_id
+), applied_payments AS (
+  SELECT folio_id, SUM(amount) AS total
+  FROM payments
+  WHERE deleted_at IS NULL
+    AND status IN ('AUTHORIZED', 'CAPTURED')
+  GROUP BY folio_id
+), refunded AS (
+  SELECT p.folio_id, SUM(r.amount) AS total
+  FROM refunds r
+  JOIN payments p ON p.id = r.payment_id
+  WHERE r.deleted_at IS NULL
+    AND r.status = 'REFUNDED'
+    AND p.deleted_at IS NULL
+    AND p.status IN ('AUTHORIZED', 'CAPTURED')
+  GROUP BY p.folio_id
+)
+UPDATE folios f
+SET total_charges  = COALESCE(c.total, 0),
+    total_payments = COALESCE(ap.total, 0) - COALESCE(rf.total, 0),
+    balance        = COALESCE(c.total, 0) - (COALESCE(ap.total, 0) - COALESCE(rf.total, 0))
+FROM folios base
+LEFT JOIN charges c ON c.folio_id = base.id
+LEFT JOIN applied_payments ap ON ap.folio_id = base.id
+LEFT JOIN refunded rf ON rf.folio_id = base.id
+WHERE f.id = base.id;
+
+CREATE INDEX IF NOT EXISTS idx_folios_outstanding_balance
+ON folios(balance DESC)
+WHERE deleted_at IS NULL AND balance <> 0;
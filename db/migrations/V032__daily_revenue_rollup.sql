@@ -0,0 +1,75 @@
+-- Daily revenue per property business date, kept current by FolioService and read by the revenue report.
+
+CREATE TABLE IF NOT EXISTS daily_revenue (
+  property_id    uuid NOT NULL REFERENCES properties(id),
+  business_date  date NOT NULL,
+  method         payment_method NOT NULL,
+  currency       text NOT NULL,
+
+  payment_amount numeric(14,2) NOT NULL DEFAULT 0,
+  payment_count  int NOT NULL DEFAULT 0,
+  refund_amount  numeric(14,2) NOT NULL DEFAULT 0,
+  refund_count   int NOT NULL DEFAULT 0,
+
+  updated_at     timestamptz NOT NULL DEFAULT NOW(),
+
+  PRIMARY KEY (property_id, business_date, method, currency)
+);
+
+CREATE INDEX IF NOT EXISTS idx_daily_revenue_date
+ON daily_revenue(business_date);
+
+-- Recomputes the rollup for a business date range from payments and refunds. Business dates follow each
+-- property's timezone; the created_at window is widened by a day on each side to cover every offset.
+CREATE OR REPLACE FUNCTION rebuild_daily_revenue(p_from date, p_to date) RETURNS integer AS $$
+DECLARE
+  affected integer;
+BEGIN
+  DELETE FROM daily_revenue WHERE business_date BETWEEN p_from AND p_to;
+
+  INSERT INTO daily_revenue (
+    property_id, business_date, method, currency,
+    payment_amount, payment_count, refund_amount, refund_count
+  )
+  SELECT property_id, business_date, method, currency,
+         SUM(payment_amount), SUM(payment_count), SUM(refund_amount), SUM(refund_count)
+  FROM (
+    SELECT r.property_id,
+           (p.created_at AT TIME ZONE pr.timezone)::date AS business_date,
+           p.method, p.currency,
+           p.amount AS payment_amount, 1 AS payment_count, 0 AS refund_amount, 0 AS refund_count
+    FROM payments p
+    JOIN folios f ON f.id = p.folio_id
+    JOIN reservations r ON r.id = f.reservation_id
+    JOIN properties pr ON pr.id = r.property_id
+    WHERE p.deleted_at IS NULL
+      AND p.status IN ('AUTHORIZED', 'CAPTURED')
+      AND p.created_at >= p_from - 1
+      AND p.created_at < p_to + 2
+    UNION ALL
+    SELECT r.property_id,
+           (rf.created_at AT TIME ZONE pr.timezone)::date,
+           p.method, p.currency,
+           0, 0, rf.amount, 1
+    FROM refunds rf
+    JOIN payments p ON p.id = rf.payment_id
+    JOIN folios f ON f.id = p.folio_id
+    JOIN reservations r ON r.id = f.reservation_id
+    JOIN properties pr ON pr.id = r.property_id
+    WHERE rf.deleted_at IS NULL
+      AND rf.status = 'REFUNDED'
+      AND p.deleted_at IS NULL
+      AND p.status IN ('AUTHORIZED', 'CAPTURED')
+      AND rf.created_at >= p_from - 1
+      AND rf.created_at < p_to + 2
+  ) movements
+  WHERE business_date BETWEEN p_from AND p_to
+  GROUP BY property_id, business_date, method, currency;
+
+  GET DIAGNOSTICS affected = ROW_COUNT;
+  RETURN affected;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT rebuild_daily_revenue(COALESCE(MIN(created_at)::date - 1, CURRENT_DATE), CURRENT_DATE + 1)
+FROM payments;
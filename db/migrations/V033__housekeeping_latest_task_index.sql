@@ -0,0 +1,5 @@
+-- Supports the latest-task-per-room lookup used by the housekeeping report.
+
+CREATE INDEX IF NOT EXISTS idx_housekeeping_tasks_room_latest
+ON housekeeping_tasks(room_id, task_date DESC, shift DESC, created_at DESC)
+WHERE deleted_at IS NULL;
@@ -0,0 +1,40 @@
+-- Asynchronous report jobs with compressed, persisted results.
+
+DO $$ BEGIN
+  CREATE TYPE report_job_status AS ENUM ('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED');
+EXCEPTION WHEN duplicate_object THEN NULL; END $$;
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+  id             uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  report_type    text NOT NULL,
+  format         text NOT NULL,
+  params         jsonb NOT NULL,
+  params_hash    text NOT NULL,
+  status         report_job_status NOT NULL DEFAULT 'QUEUED',
+
+  result         bytea NULL,
+  row_count      int NULL,
+  error          text NULL,
+
+  requested_by   uuid NULL REFERENCES users(id),
+  started_at     timestamptz NULL,
+  finished_at    timestamptz NULL,
+  expires_at     timestamptz NULL,
+
+  created_at     timestamptz NOT NULL DEFAULT NOW(),
+  updated_at     timestamptz NOT NULL DEFAULT NOW(),
+  deleted_at     timestamptz NULL
+);
+
+-- One live job per parameter set; failed or purged jobs drop out so the same report can be resubmitted.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_report_jobs_params_live
+ON report_jobs(params_hash)
+WHERE deleted_at IS NULL AND status IN ('QUEUED', 'RUNNING', 'SUCCEEDED');
+
+CREATE INDEX IF NOT EXISTS idx_report_jobs_status_created
+ON report_jobs(status, created_at)
+WHERE deleted_at IS NULL;
+
+CREATE TRIGGER trg_report_jobs_updated_at
+BEFORE UPDATE ON report_jobs
+FOR EACH ROW EXECUTE FUNCTION set_updated_at();
@@ -0,0 +1,165 @@
+-- On-the-books history for pace and pickup reports.
+--
+-- booking_pace_snapshots is change-only: a row is written for (property, stay date, room type) only when the
+-- rooms sold or revenue differ from the previous snapshot, so the value as of any date is the latest row with
+-- snapshot_date <= that date. Each run only recomputes stay dates touched since the previous run.
+
+CREATE TABLE IF NOT EXISTS booking_pace_snapshots (
+  property_id    uuid NOT NULL REFERENCES properties(id),
+  stay_date      date NOT NULL,
+  room_type_id   uuid NOT NULL REFERENCES room_types(id),
+  snapshot_date  date NOT NULL,
+
+  rooms_sold     int NOT NULL,
+  revenue        numeric(14,2) NOT NULL,
+
+  PRIMARY KEY (property_id, stay_date, room_type_id, snapshot_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_booking_pace_snapshots_stay_date
+ON booking_pace_snapshots(stay_date, snapshot_date);
+
+CREATE TABLE IF NOT EXISTS booking_pace_runs (
+  snapshot_date  date PRIMARY KEY,
+  -- Changes made at or after this instant are picked up by the next run.
+  watermark      timestamptz NOT NULL,
+  dirty_dates    int NOT NULL,
+  changed_rows   int NOT NULL,
+  finished_at    timestamptz NOT NULL DEFAULT NOW()
+);
+
+-- Let each run find recently touched nights and reservations without scanning the tables.
+CREATE INDEX IF NOT EXISTS idx_reservation_nights_updated_at
+ON reservation_nights(updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_type_nights_updated_at
+ON reservation_type_nights(updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_reservations_updated_at
+ON reservations(updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_nights_reservation_room
+ON reservation_nights(reservation_room_id);
+
+-- Recomputing a dirty stay date reads every live night on that date.
+CREATE INDEX IF NOT EXISTS idx_reservation_nights_date_active
+ON reservation_nights(date)
+WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_reservation_type_nights_date_active
+ON reservation_type_nights(date)
+WHERE deleted_at IS NULL;
+
+-- Records on-the-books values as of p_snapshot_date for every (property, stay date) touched since the previous
+-- run. Re-running for the same snapshot date is safe. The watermark overlaps by p_overlap so transactions that
+-- committed late with an earlier updated_at are not missed; unchanged values are never written twice.
+CREATE OR REPLACE FUNCTION snapshot_booking_pace(p_snapshot_date date, p_overlap interval) RETURNS integer AS $$
+DECLARE
+  run_started timestamptz := clock_timestamp();
+  since       timestamptz;
+  dirty_count integer;
+  changed     integer;
+BEGIN
+  PERFORM pg_advisory_xact_lock(hashtext('snapshot_booking_pace'));
+
+  SELECT MAX(watermark) - p_overlap INTO since
+  FROM booking_pace_runs
+  WHERE snapshot_date <= p_snapshot_date;
+  since := COALESCE(since, '-infinity'::timestamptz);
+
+  CREATE TEMP TABLE IF NOT EXISTS pace_dirty (property_id uuid, stay_date date, PRIMARY KEY (property_id, stay_date))
+  ON COMMIT DROP;
+  TRUNCATE pace_dirty;
+
+  INSERT INTO pace_dirty
+  SELECT DISTINCT r.property_id, n.date
+  FROM (
+    SELECT rn.date, rn.reservation_room_id FROM reservation_nights rn WHERE rn.updated_at >= since
+    UNION ALL
+    SELECT tn.date, tn.reservation_room_id FROM reservation_type_nights tn WHERE tn.updated_at >= since
+  ) n
+  JOIN reservation_rooms rr ON rr.id = n.reservation_room_id
+  JOIN reservations r ON r.id = rr.reservation_id
+  UNION
+  -- Status changes (e.g. HOLD -> CONFIRMED, NO_SHOW) do not touch the nights themselves.
+  SELECT r.property_id, n.date
+  FROM reservations r
+  JOIN reservation_rooms rr ON rr.reservation_id = r.id
+  JOIN (
+    SELECT rn.date, rn.reservation_room_id FROM reservation_nights rn
+    UNION ALL
+    SELECT tn.date, tn.reservation_room_id FROM reservation_type_nights tn
+  ) n ON n.reservation_room_id = rr.id
+  WHERE r.updated_at >= since;
+
+  GET DIAGNOSTICS dirty_count = ROW_COUNT;
+
+  WITH current_values AS (
+    SELECT d.property_id, d.stay_date, n.room_type_id,
+           COUNT(*)::int AS rooms_sold, COALESCE(SUM(n.price), 0) AS revenue
+    FROM pace_dirty d
+    JOIN (
+      SELECT rn.date, rm.room_type_id, rn.price, rn.reservation_room_id
+      FROM reservation_nights rn
+      JOIN rooms rm ON rm.id = rn.room_id
+      WHERE rn.deleted_at IS NULL
+      UNION ALL
+      SELECT tn.date, tn.room_type_id, tn.price, tn.reservation_room_id
+      FROM reservation_type_nights tn
+      WHERE tn.deleted_at IS NULL
+    ) n ON n.date = d.stay_date
+    JOIN reservation_rooms rr ON rr.id = n.reservation_room_id AND rr.deleted_at IS NULL
+    JOIN reservations r ON r.id = rr.reservation_id AND r.deleted_at IS NULL AND r.property_id = d.property_id
+    WHERE r.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')
+    GROUP BY d.property_id, d.stay_date, n.room_type_id
+  ),
+  previous_values AS (
+    SELECT DISTINCT ON (s.property_id, s.stay_date, s.room_type_id)
+           s.property_id, s.stay_date, s.room_type_id, s.rooms_sold, s.revenue
+    FROM booking_pace_snapshots s
+    JOIN pace_dirty d ON d.property_id = s.property_id AND d.stay_date = s.stay_date
+    WHERE s.snapshot_date < p_snapshot_date
+    ORDER BY s.property_id, s.stay_date, s.room_type_id, s.snapshot_date DESC
+  ),
+  merged AS (
+    -- Room types that sold out of the books entirely are recorded as zero.
+    SELECT COALESCE(c.property_id, p.property_id) AS property_id,
+           COALESCE(c.stay_date, p.stay_date) AS stay_date,
+           COALESCE(c.room_type_id, p.room_type_id) AS room_type_id,
+           COALESCE(c.rooms_sold, 0) AS rooms_sold,
+           COALESCE(c.revenue, 0) AS revenue,
+           p.rooms_sold AS previous_rooms_sold,
+           p.revenue AS previous_revenue
+    FROM current_values c
+    FULL JOIN previous_values p
+      ON p.property_id = c.property_id AND p.stay_date = c.stay_date AND p.room_type_id = c.room_type_id
+  ),
+  removed AS (
+    -- A re-run may find today's earlier row is now identical to the previous snapshot.
+    DELETE FROM booking_pace_snapshots s
+    USING merged m
+    WHERE s.property_id = m.property_id AND s.stay_date = m.stay_date AND s.room_type_id = m.room_type_id
+      AND s.snapshot_date = p_snapshot_date
+      AND m.rooms_sold = COALESCE(m.previous_rooms_sold, 0) AND m.revenue = COALESCE(m.previous_revenue, 0)
+    RETURNING 1
+  )
+  INSERT INTO booking_pace_snapshots (property_id, stay_date, room_type_id, snapshot_date, rooms_sold, revenue)
+  SELECT m.property_id, m.stay_date, m.room_type_id, p_snapshot_date, m.rooms_sold, m.revenue
+  FROM merged m
+  WHERE m.rooms_sold <> COALESCE(m.previous_rooms_sold, 0) OR m.revenue <> COALESCE(m.previous_revenue, 0)
+  ON CONFLICT (property_id, stay_date, room_type_id, snapshot_date)
+  DO UPDATE SET rooms_sold = EXCLUDED.rooms_sold, revenue = EXCLUDED.revenue;
+
+  GET DIAGNOSTICS changed = ROW_COUNT;
+
+  INSERT INTO booking_pace_runs (snapshot_date, watermark, dirty_dates, changed_rows)
+  VALUES (p_snapshot_date, run_started, dirty_count, changed)
+  ON CONFLICT (snapshot_date)
+  DO UPDATE SET watermark = EXCLUDED.watermark,
+                dirty_dates = EXCLUDED.dirty_dates,
+                changed_rows = EXCLUDED.changed_rows,
+                finished_at = NOW();
+
+  RETURN changed;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,23 @@
+-- Stable bit positions for encoding a user's permissions as a bitset in access tokens.
+-- Positions are never reused: a deleted permission keeps its bit so tokens issued earlier cannot be reinterpreted.
+
+CREATE SEQUENCE IF NOT EXISTS permissions_bit_index_seq MINVALUE 0 START WITH 0;
+
+ALTER TABLE permissions ADD COLUMN IF NOT EXISTS bit_index int NULL;
+
+UPDATE permissions p
+SET bit_index = ordered.position
+FROM (
+  SELECT id, (ROW_NUMBER() OVER (ORDER BY created_at, id) - 1)::int AS position
+  FROM permissions
+) ordered
+WHERE ordered.id = p.id AND p.bit_index IS NULL;
+
+SELECT setval('permissions_bit_index_seq', COALESCE(MAX(bit_index) + 1, 0), false) FROM permissions;
+
+ALTER TABLE permissions ALTER COLUMN bit_index SET DEFAULT nextval('permissions_bit_index_seq');
+ALTER TABLE permissions ALTER COLUMN bit_index SET NOT NULL;
+ALTER SEQUENCE permissions_bit_index_seq OWNED BY permissions.bit_index;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_permissions_bit_index
+ON permissions(bit_index);
@@ -0,0 +1,18 @@
+-- Revoked access tokens. A TOKEN row revokes one token by its jti; a SUBJECT row revokes every token issued to
+-- a user or customer at or before revoked_at. Rows are only needed until the tokens they cover have expired.
+
+DO $$ BEGIN
+  CREATE TYPE token_revocation_scope AS ENUM ('TOKEN', 'SUBJECT');
+EXCEPTION WHEN duplicate_object THEN NULL; END $$;
+
+CREATE TABLE IF NOT EXISTS token_revocations (
+  -- jti for TOKEN rows, user or customer id for SUBJECT rows.
+  target_id   uuid PRIMARY KEY,
+  scope       token_revocation_scope NOT NULL,
+  reason      text NULL,
+  revoked_at  timestamptz NOT NULL DEFAULT NOW(),
+  expires_at  timestamptz NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_revocations_expires_at
+ON token_revocations(expires_at);
@@ -0,0 +1,33 @@
+-- Rotating refresh tokens. Only the SHA-256 of a token is stored. Each refresh marks the presented token used
+-- and issues a successor in the same family; presenting a used token again revokes the whole family.
+
+DO $$ BEGIN
+  CREATE TYPE token_subject_type AS ENUM ('USER', 'CUSTOMER');
+EXCEPTION WHEN duplicate_object THEN NULL; END $$;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+  id            uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  family_id     uuid NOT NULL,
+  subject_id    uuid NOT NULL,
+  subject_type  token_subject_type NOT NULL,
+  token_hash    text NOT NULL,
+
+  expires_at    timestamptz NOT NULL,
+  used_at       timestamptz NULL,
+  revoked_at    timestamptz NULL,
+
+  created_at    timestamptz NOT NULL DEFAULT NOW()
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_refresh_tokens_token_hash
+ON refresh_tokens(token_hash);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family
+ON refresh_tokens(family_id);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_subject_active
+ON refresh_tokens(subject_id)
+WHERE revoked_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at
+ON refresh_tokens(expires_at);
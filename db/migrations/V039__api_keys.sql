@@ -0,0 +1,28 @@
+-- API keys for scripts and integrations. Only a keyed HMAC-SHA256 of the key is stored; the key itself is shown
+-- once at creation. A key acts for its owner but only with the permissions listed on it.
+
+CREATE TABLE IF NOT EXISTS api_keys (
+  id             uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+  name           text NOT NULL,
+  key_prefix     text NOT NULL,
+  key_hash       text NOT NULL,
+  permissions    jsonb NOT NULL DEFAULT '[]'::jsonb,
+  owner_user_id  uuid NOT NULL REFERENCES users(id),
+  expires_at     timestamptz NULL,
+  revoked_at     timestamptz NULL,
+
+  created_at     timestamptz NOT NULL DEFAULT NOW(),
+  updated_at     timestamptz NOT NULL DEFAULT NOW(),
+  deleted_at     timestamptz NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_api_keys_key_hash
+ON api_keys(key_hash);
+
+CREATE INDEX IF NOT EXISTS idx_api_keys_owner
+ON api_keys(owner_user_id)
+WHERE deleted_at IS NULL;
+
+CREATE TRIGGER trg_api_keys_updated_at
+BEFORE UPDATE ON api_keys
+FOR EACH ROW EXECUTE FUNCTION set_updated_at();
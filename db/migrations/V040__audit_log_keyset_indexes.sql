@@ -0,0 +1,18 @@
+-- Keyset pagination for the audit log API orders by (created_at, id). Appending id to the existing indexes lets
+-- the (created_at, id) < (?, ?) condition and the ORDER BY be answered from the index for each filter.
+
+DROP INDEX IF EXISTS idx_audit_property_time;
+CREATE INDEX IF NOT EXISTS idx_audit_property_time
+ON audit_logs(property_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_audit_entity;
+CREATE INDEX IF NOT EXISTS idx_audit_entity
+ON audit_logs(entity_type, entity_id, created_at DESC, id DESC);
+
+-- Unfiltered listing and time-range-only queries.
+CREATE INDEX IF NOT EXISTS idx_audit_time
+ON audit_logs(created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_actor_time
+ON audit_logs(actor_user_id, created_at DESC, id DESC)
+WHERE actor_user_id IS NOT NULL;
@@ -0,0 +1,160 @@
+-- Monthly range partitioning for audit_logs (by created_at) and reservation_nights (by date).
+--
+-- Partitions are named <table>_pYYYY_MM and are created ahead of time by ensure_monthly_partitions(), which the
+-- application runs daily. There is deliberately no DEFAULT partition: Postgres refuses
+-- DETACH PARTITION ... CONCURRENTLY while one exists, and that is how old months are taken out for archival
+-- without blocking readers and writers. Rows outside every partition are rejected, so keep the horizon ahead of
+-- the furthest bookable date.
+
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(p_table text, p_from date, p_to date) RETURNS integer AS $$
+DECLARE
+  key_type       text;
+  month_start    date := date_trunc('month', p_from)::date;
+  partition_name text;
+  lower_bound    text;
+  upper_bound    text;
+  created        integer := 0;
+BEGIN
+  PERFORM pg_advisory_xact_lock(hashtext('ensure_monthly_partitions'));
+
+  SELECT format_type(a.atttypid, a.atttypmod) INTO key_type
+  FROM pg_partitioned_table pt
+  JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+  WHERE pt.partrelid = p_table::regclass;
+  IF key_type IS NULL THEN
+    RAISE EXCEPTION '% is not a partitioned table', p_table;
+  END IF;
+
+  WHILE month_start <= p_to LOOP
+    partition_name := format('%s_p%s', p_table, to_char(month_start, 'YYYY_MM'));
+    IF to_regclass(partition_name) IS NULL THEN
+      IF key_type = 'date' THEN
+        lower_bound := month_start::text;
+        upper_bound := (month_start + interval '1 month')::date::text;
+      ELSE
+        -- timestamptz months start at midnight UTC whatever the session time zone is.
+        lower_bound := (month_start::timestamp AT TIME ZONE 'UTC')::text;
+        upper_bound := ((month_start + interval '1 month')::timestamp AT TIME ZONE 'UTC')::text;
+      END IF;
+      EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                     partition_name, p_table, lower_bound, upper_bound);
+      created := created + 1;
+    END IF;
+    month_start := (month_start + interval '1 month')::date;
+  END LOOP;
+
+  RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =========================
+-- reservation_nights
+-- =========================
+-- The primary key has to include the partition key; (room_id, date) uniqueness already does.
+ALTER TABLE reservation_nights RENAME TO reservation_nights_unpartitioned;
+ALTER INDEX reservation_nights_pkey RENAME TO reservation_nights_unpartitioned_pkey;
+
+CREATE TABLE reservation_nights (
+  id                  uuid NOT NULL DEFAULT gen_random_uuid(),
+  reservation_room_id uuid NOT NULL REFERENCES reservation_rooms(id) ON DELETE CASCADE,
+
+  room_id             uuid NOT NULL REFERENCES rooms(id),
+  date                date NOT NULL,
+
+  price               numeric(12,2) NOT NULL CHECK (price >= 0),
+  currency            text NOT NULL DEFAULT 'USD',
+
+  created_at          timestamptz NOT NULL DEFAULT NOW(),
+  updated_at          timestamptz NOT NULL DEFAULT NOW(),
+  deleted_at          timestamptz NULL,
+
+  PRIMARY KEY (id, date)
+) PARTITION BY RANGE (date);
+
+SELECT ensure_monthly_partitions(
+  'reservation_nights',
+  COALESCE((SELECT MIN(date) FROM reservation_nights_unpartitioned), CURRENT_DATE),
+  GREATEST((SELECT MAX(date) FROM reservation_nights_unpartitioned), (CURRENT_DATE + interval '36 months')::date)
+);
+
+INSERT INTO reservation_nights (id, reservation_room_id, room_id, date, price, currency, created_at, updated_at,
+                                deleted_at)
+SELECT id, reservation_room_id, room_id, date, price, currency, created_at, updated_at, deleted_at
+FROM reservation_nights_unpartitioned;
+
+DROP TABLE reservation_nights_unpartitioned;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_reservation_nights_room_date_active
+ON reservation_nights(room_id, date)
+WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_reservation_nights_room_date
+ON reservation_nights(room_id, date);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_nights_updated_at
+ON reservation_nights(updated_at);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_nights_reservation_room
+ON reservation_nights(reservation_room_id, date);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_nights_date_active
+ON reservation_nights(date)
+WHERE deleted_at IS NULL;
+
+CREATE TRIGGER trg_reservation_nights_updated_at
+BEFORE UPDATE ON reservation_nights
+FOR EACH ROW EXECUTE FUNCTION set_updated_at();
+
+-- =========================
+-- audit_logs
+-- =========================
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER INDEX audit_logs_pkey RENAME TO audit_logs_unpartitioned_pkey;
+
+CREATE TABLE audit_logs (
+  id            uuid NOT NULL DEFAULT gen_random_uuid(),
+  property_id   uuid NULL REFERENCES properties(id),
+  actor_user_id uuid NULL REFERENCES users(id),
+
+  entity_type   text NOT NULL,
+  entity_id     uuid NULL,
+  action        text NOT NULL,
+
+  before        jsonb NULL,
+  after         jsonb NULL,
+
+  request_id    text NULL,
+  ip            text NULL,
+  user_agent    text NULL,
+
+  created_at    timestamptz NOT NULL DEFAULT NOW(),
+
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+SELECT ensure_monthly_partitions(
+  'audit_logs',
+  COALESCE((SELECT MIN(created_at) FROM audit_logs_unpartitioned) AT TIME ZONE 'UTC', CURRENT_DATE)::date,
+  (CURRENT_DATE + interval '3 months')::date
+);
+
+INSERT INTO audit_logs (id, property_id, actor_user_id, entity_type, entity_id, action, before, after, request_id,
+                        ip, user_agent, created_at)
+SELECT id, property_id, actor_user_id, entity_type, entity_id, action, before, after, request_id,
+       ip, user_agent, created_at
+FROM audit_logs_unpartitioned;
+
+DROP TABLE audit_logs_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_audit_property_time
+ON audit_logs(property_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_entity
+ON audit_logs(entity_type, entity_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_time
+ON audit_logs(created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_audit_actor_time
+ON audit_logs(actor_user_id, created_at DESC, id DESC)
+WHERE actor_user_id IS NOT NULL;
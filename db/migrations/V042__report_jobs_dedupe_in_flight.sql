@@ -0,0 +1,7 @@
+-- Finished jobs no longer satisfy new requests: a range that reaches today or the future changes as bookings and
+-- payments come in, so only queued or running jobs are shared between identical requests.
+
+DROP INDEX IF EXISTS uq_report_jobs_params_live;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_report_jobs_params_live
+ON report_jobs(params_hash)
+WHERE deleted_at IS NULL AND status IN ('QUEUED', 'RUNNING');
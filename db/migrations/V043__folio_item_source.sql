@@ -0,0 +1,15 @@
+-- Records which path posted a folio line, so a cancellation voids exactly the charges that the booking itself
+-- posted and never a penalty or a line added by staff or the POS.
+
+ALTER TABLE folio_items ADD COLUMN IF NOT EXISTS source text NOT NULL DEFAULT 'MANUAL';
+
+ALTER TABLE folio_items DROP CONSTRAINT IF EXISTS chk_folio_items_source;
+ALTER TABLE folio_items ADD CONSTRAINT chk_folio_items_source
+CHECK (source IN ('MANUAL', 'POS', 'RESERVATION', 'CANCELLATION_PENALTY'));
+
+-- Before this column, system postings were the only lines without a user.
+UPDATE folio_items SET source = 'CANCELLATION_PENALTY'
+WHERE posted_by IS NULL AND type = 'FEE' AND description = 'Cancellation penalty';
+
+UPDATE folio_items SET source = 'RESERVATION'
+WHERE posted_by IS NULL AND source = 'MANUAL' AND type IN ('ROOM_CHARGE', 'TAX', 'FEE');
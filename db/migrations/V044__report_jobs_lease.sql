@@ -0,0 +1,7 @@
+-- A running job belongs to the worker holding its lease token. The worker refreshes heartbeat_at while the report
+-- is built; only jobs whose heartbeat has gone quiet are queued again, and only the lease holder may finish a job.
+
+ALTER TABLE report_jobs ADD COLUMN IF NOT EXISTS lease_token uuid NULL;
+ALTER TABLE report_jobs ADD COLUMN IF NOT EXISTS heartbeat_at timestamptz NULL;
+
+UPDATE report_jobs SET heartbeat_at = started_at WHERE status = 'RUNNING' AND heartbeat_at IS NULL;